@@ -0,0 +1,277 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+
+// Maximum number of parameter markers the server accepts in a single prepared statement
+const int MAX_PARAMETER_MARKERS = 65535;
+
+// Bytes reserved in each rewritten statement for the packet header and the command
+const int PACKET_OVERHEAD = 1024;
+
+// Affected row count reported for the rows of a batch that could not be executed
+const int EXECUTE_FAILED = -3;
+
+# The parts of a single-row `INSERT` statement needed to repeat its row.
+#
+# + prefix - Statement text before the row (e.g. `INSERT INTO Tbl (a, b) VALUES `)
+# + row - String parts of the row, split at the parameters (e.g. `(`, `, `, `)`)
+type InsertRowTemplate record {|
+    string prefix;
+    string[] row;
+|};
+
+type ServerLimits record {|
+    int maxAllowedPacket;
+    int autoIncrementIncrement;
+|};
+
+type AutoIncrementColumn record {|
+    int columnCount;
+    string? columnName;
+|};
+
+// Returns the row template if all the queries are the same single-row `INSERT INTO ... VALUES (...)` statement.
+// `INSERT IGNORE`, `REPLACE` and `ON DUPLICATE KEY UPDATE` are not rewritten, as the affected row count of each
+// row cannot be derived from the affected row count of a multi-row statement.
+isolated function getInsertRowTemplate(sql:ParameterizedQuery[] sqlQueries) returns InsertRowTemplate? {
+    readonly & string[] strings = sqlQueries[0].strings;
+    foreach sql:ParameterizedQuery sqlQuery in sqlQueries {
+        if sqlQuery.strings != strings {
+            return ();
+        }
+    }
+
+    string head = strings[0];
+    if re `^\s*(?i:INSERT)\s+(?i:INTO)\s`.find(head) is () {
+        return ();
+    }
+    var valuesClauses = re `(?i:VALUES?)\s*\(`.findAll(head);
+    if valuesClauses.length() == 0 {
+        return ();
+    }
+    int rowStart = valuesClauses[valuesClauses.length() - 1].endIndex - 1;
+
+    string[] row = [head.substring(rowStart), ...strings.slice(1)];
+    int lastIndex = row.length() - 1;
+    string tail = row[lastIndex].trim();
+    if tail.endsWith(";") {
+        tail = tail.substring(0, tail.length() - 1).trim();
+    }
+    row[lastIndex] = tail;
+    if !tail.endsWith(")") || !isSingleRow(row) {
+        return ();
+    }
+    return {prefix: head.substring(0, rowStart), row};
+}
+
+// Checks whether the parenthesis opened at the start of the row is closed only at the end of the row.
+isolated function isSingleRow(string[] row) returns boolean {
+    int depth = 0;
+    string? quote = ();
+    int lastIndex = row.length() - 1;
+    foreach int i in 0 ... lastIndex {
+        string part = row[i];
+        foreach int j in 0 ..< part.length() {
+            string c = part[j];
+            if quote is string {
+                if c == quote {
+                    quote = ();
+                }
+            } else if c == "'" || c == "\"" || c == "`" {
+                quote = c;
+            } else if c == "(" {
+                depth += 1;
+            } else if c == ")" {
+                depth -= 1;
+                if depth == 0 && (i != lastIndex || j != part.length() - 1) {
+                    return false;
+                }
+            }
+        }
+    }
+    return depth == 0 && quote is ();
+}
+
+isolated function executeRewrittenInserts(Client dbClient, InsertRowTemplate rowTemplate,
+        sql:ParameterizedQuery[] sqlQueries) returns sql:ExecutionResult[]|sql:Error {
+    int rowTemplateSize = 2;
+    foreach string part in rowTemplate.row {
+        rowTemplateSize += part.length();
+    }
+    int[] rowSizes = [];
+    foreach sql:ParameterizedQuery sqlQuery in sqlQueries {
+        int? rowSize = estimateRowSize(sqlQuery, rowTemplateSize);
+        if rowSize is () {
+            // Values such as streamed LOBs cannot be sized upfront, hence the batch is executed as it is.
+            return nativeBatchExecute(dbClient, sqlQueries);
+        }
+        rowSizes.push(rowSize);
+    }
+
+    [string?, string, string[]]? target = getInsertTarget(rowTemplate.prefix);
+    string? schema = target is () ? () : target[0];
+    string tableName = target is () ? "" : target[1];
+    ServerLimits limits = check dbClient.getServerLimits();
+    string? autoIncrementColumn = target is () ? () : check dbClient.getAutoIncrementColumn(schema, tableName);
+    // The generated keys of the rows are consecutive only if the auto-increment column is not given in any row, as
+    // the server reports the key generated for the first row that does not give the column
+    boolean deriveIds = target is [string?, string, string[]] && autoIncrementColumn is string &&
+        target[2].indexOf(autoIncrementColumn.toLowerAscii()) is ();
+    int parameterCount = rowTemplate.row.length() - 1;
+    int maxRows = parameterCount == 0 ? sqlQueries.length() : MAX_PARAMETER_MARKERS / parameterCount;
+    int byteBudget = limits.maxAllowedPacket - PACKET_OVERHEAD - rowTemplate.prefix.length();
+
+    sql:ExecutionResult[] executionResults = [];
+    sql:Error? failure = ();
+    int chunkStart = 0;
+    while chunkStart < sqlQueries.length() {
+        int chunkEnd = chunkStart;
+        int chunkSize = 0;
+        while chunkEnd < sqlQueries.length() && chunkEnd - chunkStart < maxRows {
+            if chunkEnd > chunkStart && chunkSize + rowSizes[chunkEnd] > byteBudget {
+                break;
+            }
+            chunkSize += rowSizes[chunkEnd];
+            chunkEnd += 1;
+        }
+        sql:ParameterizedQuery multiRowInsert = createMultiRowInsert(rowTemplate,
+            sqlQueries.slice(chunkStart, chunkEnd));
+        sql:ExecutionResult|sql:Error result = dbClient->execute(multiRowInsert);
+        foreach int i in 0 ..< chunkEnd - chunkStart {
+            if result is sql:Error {
+                executionResults.push({affectedRowCount: EXECUTE_FAILED, lastInsertId: ()});
+                continue;
+            }
+            // Auto generated keys of a multi-row insert are consecutive, apart from the configured increment.
+            int|string? lastInsertId = deriveIds ? result.lastInsertId : ();
+            if lastInsertId is int {
+                lastInsertId += i * limits.autoIncrementIncrement;
+            } else if i > 0 {
+                lastInsertId = ();
+            }
+            executionResults.push({affectedRowCount: 1, lastInsertId});
+        }
+        if result is sql:Error && failure is () {
+            failure = result;
+        }
+        chunkStart = chunkEnd;
+    }
+
+    if failure is sql:Error {
+        int errorCode = 0;
+        string? sqlState = ();
+        if failure is sql:DatabaseError {
+            errorCode = failure.detail().errorCode;
+            sqlState = failure.detail().sqlState;
+        }
+        return error sql:BatchExecuteError(failure.message(), failure, errorCode = errorCode, sqlState = sqlState,
+            executionResults = executionResults);
+    }
+    return executionResults;
+}
+
+// Returns the database, the table and the lower case column names of the prefix of an `INSERT` statement, such as
+// `INSERT INTO sales.Orders (id, amount) VALUES `, or `()` if the statement does not list its columns.
+isolated function getInsertTarget(string prefix) returns [string?, string, string[]]? {
+    int? columnsStart = prefix.indexOf("(");
+    int? columnsEnd = prefix.lastIndexOf(")");
+    var into = re `(?i:INTO)\s+`.find(prefix);
+    if columnsStart is () || columnsEnd is () || columnsEnd < columnsStart || into is ()
+            || into.endIndex > columnsStart {
+        return ();
+    }
+    string[] tableNameParts = from string part in re `\.`.split(prefix.substring(into.endIndex, columnsStart).trim())
+        select unquoteIdentifier(part.trim());
+    string[] columns = from string column in re `,`.split(prefix.substring(columnsStart + 1, columnsEnd))
+        select unquoteIdentifier(column.trim()).toLowerAscii();
+    if tableNameParts.length() == 1 {
+        return [(), tableNameParts[0], columns];
+    }
+    return tableNameParts.length() == 2 ? [tableNameParts[0], tableNameParts[1], columns] : ();
+}
+
+isolated function unquoteIdentifier(string identifier) returns string {
+    if identifier.length() < 2 || !identifier.startsWith(BACKTICK) || !identifier.endsWith(BACKTICK) {
+        return identifier;
+    }
+    string quoted = identifier.substring(1, identifier.length() - 1);
+    string unquoted = "";
+    int i = 0;
+    while i < quoted.length() {
+        string c = quoted[i];
+        unquoted += c;
+        // A backtick within the identifier is escaped with another backtick
+        i += c == BACKTICK ? 2 : 1;
+    }
+    return unquoted;
+}
+
+isolated function createMultiRowInsert(InsertRowTemplate rowTemplate, sql:ParameterizedQuery[] rows)
+        returns sql:ParameterizedQuery {
+    string[] strings = [];
+    sql:Value[] insertions = [];
+    string pending = rowTemplate.prefix;
+    foreach int i in 0 ..< rows.length() {
+        if i > 0 {
+            pending += ", ";
+        }
+        pending += rowTemplate.row[0];
+        foreach int j in 1 ..< rowTemplate.row.length() {
+            strings.push(pending);
+            pending = rowTemplate.row[j];
+        }
+        insertions.push(...rows[i].insertions);
+    }
+    strings.push(pending);
+
+    sql:ParameterizedQuery multiRowInsert = ``;
+    multiRowInsert.strings = strings.cloneReadOnly();
+    multiRowInsert.insertions = insertions;
+    return multiRowInsert;
+}
+
+isolated function estimateRowSize(sql:ParameterizedQuery row, int rowTemplateSize) returns int? {
+    int rowSize = rowTemplateSize;
+    foreach sql:Value value in row.insertions {
+        int? valueSize = ();
+        if value is sql:TypedValue {
+            var typedValue = value.value;
+            if typedValue is anydata {
+                valueSize = estimateValueSize(typedValue);
+            }
+        } else {
+            valueSize = estimateValueSize(value);
+        }
+        if valueSize is () {
+            return ();
+        }
+        rowSize += valueSize;
+    }
+    return rowSize;
+}
+
+// Upper bound of the encoded size of a value, allowing for multi-byte characters and escaping.
+isolated function estimateValueSize(anydata value) returns int {
+    if value is string {
+        return value.length() * 4 + 2;
+    } else if value is byte[] {
+        return value.length() * 2 + 3;
+    } else if value is int|float|decimal|boolean|() {
+        return 40;
+    }
+    return value.toString().length() * 4 + 2;
+}
@@ -0,0 +1,246 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+
+// Quotes the identifiers of the generated statements
+const string BACKTICK = "`";
+
+// The rows of a statement of an `upsert` operation, along with the SQL text around their values
+type UpsertChunk record {|
+    string[] strings;
+    anydata[] values;
+    int rowCount;
+|};
+
+isolated function upsertRows(Client dbClient, string tableName, record {}[]|stream<record {}, error?> rows,
+        string[] keyColumns, UpsertOptions options) returns UpsertResult|sql:Error {
+    if options.maxStatementSize <= 0 {
+        return error sql:ApplicationError(
+            "The 'maxStatementSize' field of the upsert options should be greater than zero.");
+    }
+    if options.parallelism <= 0 {
+        return error sql:ApplicationError("The 'parallelism' field of the upsert options should be greater than zero.");
+    }
+    stream<record {}, error?> rowStream = rows is record {}[] ? rows.toStream() : rows;
+    record {|record {} value;|}|error? next = rowStream.next();
+    if next is error {
+        return getReadFailure(rowStream, next);
+    }
+    UpsertResult result = {rowCount: 0, affectedRowCount: 0, statementCount: 0};
+    if next is () {
+        return result;
+    }
+
+    // The columns are the fields of the first row
+    string[] columns = next.value.keys();
+    string? invalidColumn = getInvalidColumn(columns, keyColumns, options.updateColumns);
+    if columns.length() == 0 || invalidColumn is string {
+        error? closeResult = rowStream.close();
+        return error sql:ApplicationError(columns.length() == 0 ? "The rows to upsert should have at least one field."
+            : string `The column '${invalidColumn ?: ""}' is not a field of the rows to upsert.`);
+    }
+    string[] updateColumns = options.updateColumns ?:
+        (from string column in columns where keyColumns.indexOf(column) is () select column);
+    string prefix = createUpsertPrefix(tableName, columns, options.mode);
+    string suffix = options.mode == UPSERT_UPDATE ? createUpdateClause(updateColumns, columns[0]) : "";
+    ServerLimits|sql:Error limits = dbClient.getServerLimits();
+    if limits is sql:Error {
+        error? closeResult = rowStream.close();
+        return limits;
+    }
+    int byteBudget = int:min(options.maxStatementSize, limits.maxAllowedPacket - PACKET_OVERHEAD) - prefix.length()
+        - suffix.length();
+    int maxRows = MAX_PARAMETER_MARKERS / columns.length();
+    // The parentheses and the separators of a row
+    int rowTemplateSize = columns.length() * 3 + 2;
+    // The statements of a transaction are executed on its connection, hence one after the other
+    int parallelism = transactional ? 1 : options.parallelism;
+
+    future<UpsertResult|sql:Error>[] pending = [];
+    anydata[] values = [];
+    int rowCount = 0;
+    int chunkSize = 0;
+    sql:Error? failure = ();
+    while next is record {|record {} value;|} {
+        record {} row = next.value;
+        if !hasColumns(row, columns) {
+            failure = error sql:ApplicationError("The rows to upsert should have the same fields as the first row.");
+            break;
+        }
+        int|sql:Error rowSize = estimateUpsertRowSize(row, columns, rowTemplateSize);
+        if rowSize is sql:Error {
+            failure = rowSize;
+            break;
+        }
+        if rowCount > 0 && (rowCount == maxRows || chunkSize + rowSize > byteBudget) {
+            UpsertChunk & readonly chunk = createUpsertChunk(prefix, suffix, columns.length(), values, rowCount);
+            failure = submitUpsertChunk(dbClient, chunk, pending, parallelism, result);
+            values = [];
+            rowCount = 0;
+            chunkSize = 0;
+            if failure is sql:Error {
+                break;
+            }
+        }
+        foreach string column in columns {
+            values.push(row[column]);
+        }
+        rowCount += 1;
+        chunkSize += rowSize;
+        next = rowStream.next();
+    }
+    if failure is () && next is error {
+        failure = next is sql:Error ? next : error sql:ApplicationError("Failed to read the rows to upsert.", next);
+    }
+    if failure is () && rowCount > 0 {
+        UpsertChunk & readonly chunk = createUpsertChunk(prefix, suffix, columns.length(), values, rowCount);
+        failure = submitUpsertChunk(dbClient, chunk, pending, parallelism, result);
+    }
+    // The statements already started are completed even if a statement failed
+    foreach future<UpsertResult|sql:Error> statement in pending {
+        UpsertResult|sql:Error statementResult = wait statement;
+        sql:Error? statementFailure = addUpsertResult(result, statementResult);
+        if failure is () {
+            failure = statementFailure;
+        }
+    }
+    if failure is sql:Error {
+        error? closeResult = rowStream.close();
+        return failure;
+    }
+    return result;
+}
+
+isolated function getReadFailure(stream<record {}, error?> rowStream, error failure) returns sql:Error {
+    error? closeResult = rowStream.close();
+    return failure is sql:Error ? failure : error sql:ApplicationError("Failed to read the rows to upsert.", failure);
+}
+
+isolated function hasColumns(record {} row, string[] columns) returns boolean {
+    if row.length() != columns.length() {
+        return false;
+    }
+    foreach string column in columns {
+        if !row.hasKey(column) {
+            return false;
+        }
+    }
+    return true;
+}
+
+isolated function getInvalidColumn(string[] columns, string[] keyColumns, string[]? updateColumns) returns string? {
+    foreach string column in [...keyColumns, ...(updateColumns ?: [])] {
+        if columns.indexOf(column) is () {
+            return column;
+        }
+    }
+    return ();
+}
+
+isolated function createUpsertPrefix(string tableName, string[] columns, UpsertMode mode) returns string {
+    string statement = mode == UPSERT_REPLACE ? "REPLACE INTO " :
+        mode == UPSERT_IGNORE ? "INSERT IGNORE INTO " : "INSERT INTO ";
+    string[] columnNames = from string column in columns select quoteIdentifier(column);
+    return statement + quoteTableName(tableName) + " (" + string:'join(", ", ...columnNames) + ") VALUES ";
+}
+
+// The `VALUES` function is used rather than a row alias, which requires MySQL 8.0.19 or later
+isolated function createUpdateClause(string[] updateColumns, string firstColumn) returns string {
+    string[] assignments = from string column in updateColumns
+        let string name = quoteIdentifier(column)
+        select string `${name} = VALUES(${name})`;
+    if assignments.length() == 0 {
+        // The clause needs an assignment, which leaves the existing row as it is if all the columns are key columns
+        string name = quoteIdentifier(firstColumn);
+        assignments.push(string `${name} = ${name}`);
+    }
+    return " ON DUPLICATE KEY UPDATE " + string:'join(", ", ...assignments);
+}
+
+// Quotes each part of a table name that is optionally qualified with the database name, e.g. `sales`.`Customers`.
+isolated function quoteTableName(string tableName) returns string {
+    string[] tableNameParts = from string part in re `\.`.split(tableName) select quoteIdentifier(part);
+    return string:'join(".", ...tableNameParts);
+}
+
+isolated function quoteIdentifier(string identifier) returns string {
+    string quoted = BACKTICK;
+    foreach string c in identifier {
+        quoted += c == BACKTICK ? BACKTICK + BACKTICK : c;
+    }
+    return quoted + BACKTICK;
+}
+
+isolated function estimateUpsertRowSize(record {} row, string[] columns, int rowTemplateSize) returns int|sql:Error {
+    int rowSize = rowTemplateSize;
+    foreach string column in columns {
+        anydata value = row[column];
+        if value !is sql:Value {
+            return error sql:ApplicationError(string `The value of the field '${column}' of a row to upsert is not ` +
+                "a supported SQL value.");
+        }
+        rowSize += estimateValueSize(value);
+    }
+    return rowSize;
+}
+
+isolated function createUpsertChunk(string prefix, string suffix, int columnCount, anydata[] values, int rowCount)
+        returns UpsertChunk & readonly {
+    string[] strings = [prefix + "("];
+    foreach int i in 0 ..< rowCount {
+        foreach int j in 1 ..< columnCount {
+            strings.push(", ");
+        }
+        strings.push(i == rowCount - 1 ? ")" + suffix : "), (");
+    }
+    return {strings: strings.cloneReadOnly(), values: values.cloneReadOnly(), rowCount};
+}
+
+// Executes a statement, either right away or, if the statements are executed in parallel, on a new strand once
+// fewer than `parallelism` statements are pending.
+isolated function submitUpsertChunk(Client dbClient, UpsertChunk & readonly chunk,
+        future<UpsertResult|sql:Error>[] pending, int parallelism, UpsertResult result) returns sql:Error? {
+    if parallelism == 1 {
+        return addUpsertResult(result, executeUpsertChunk(dbClient, chunk));
+    }
+    if pending.length() == parallelism {
+        future<UpsertResult|sql:Error> oldest = pending.shift();
+        UpsertResult|sql:Error oldestResult = wait oldest;
+        check addUpsertResult(result, oldestResult);
+    }
+    future<UpsertResult|sql:Error> statement = start executeUpsertChunk(dbClient, chunk);
+    pending.push(statement);
+}
+
+isolated function addUpsertResult(UpsertResult result, UpsertResult|sql:Error statementResult) returns sql:Error? {
+    if statementResult is sql:Error {
+        return statementResult;
+    }
+    result.rowCount += statementResult.rowCount;
+    result.affectedRowCount += statementResult.affectedRowCount;
+    result.statementCount += statementResult.statementCount;
+}
+
+// The affected row count is not split into inserted and updated rows, as the client reports the existing rows that are
+// left as they are as found rows, which are counted as one affected row in the same way as the inserted rows
+isolated function executeUpsertChunk(Client dbClient, UpsertChunk & readonly chunk) returns UpsertResult|sql:Error {
+    sql:ParameterizedQuery upsert = ``;
+    upsert.strings = chunk.strings;
+    upsert.insertions = from anydata value in chunk.values select <sql:Value>value;
+    sql:ExecutionResult executionResult = check dbClient->execute(upsert);
+    return {rowCount: chunk.rowCount, affectedRowCount: executionResult.affectedRowCount ?: 0, statementCount: 1};
+}
@@ -16,12 +16,20 @@
 
 import ballerina/crypto;
 import ballerina/jballerina.java;
+import ballerina/log;
 import ballerina/sql;
+import ballerina/time;
 
 # MySQL database client that enables interaction with MySQL servers and supports standard SQL operations.
 public isolated client class Client {
     *sql:Client;
 
+    private final boolean rewriteBatchedInserts;
+    // Read on the first rewritten batch or upsert of the client
+    private (ServerLimits & readonly)? serverLimits = ();
+    // Auto-increment columns of the tables by their database, which is an empty string for unqualified table names
+    private final map<map<string?>> autoIncrementColumns = {};
+
     # Connects to a MySQL database with the specified configuration.
     #
     # + host - MySQL server hostname
@@ -43,10 +51,19 @@ public isolated client class Client {
             options: options,
             connectionPool: connectionPool
         };
-        return createClient(self, clientConfig, sql:getGlobalConnectionPool());
+        self.rewriteBatchedInserts = options?.rewriteBatchedInserts ?: false;
+        check createClient(self, clientConfig, sql:getGlobalConnectionPool());
+        if options?.allowMultiStatements == true {
+            check initMultiStatementClient(self, clientConfig);
+        }
+        ReplicaConfig? replicaConfig = options?.replicaConfig;
+        if options is Options && replicaConfig is ReplicaConfig {
+            check initReplicas(self, clientConfig, options, replicaConfig);
+        }
     }
 
     # Executes a SQL query and returns multiple results as a stream.
+    # When `replicaConfig` is configured, queries made outside transactions are executed on a replica server.
     #
     # + sqlQuery - SQL query with optional parameters (e.g., `SELECT * FROM users WHERE id=${userId}`)
     # + rowType - Record type to map query results to
@@ -57,8 +74,113 @@ public isolated client class Client {
         name: "nativeQuery"
     } external;
 
+    # Executes a SQL query as in `query`, aborting it on the server if its execution exceeds the given timeout.
+    # A `SELECT` query is given the `MAX_EXECUTION_TIME` optimizer hint, and any other query is killed with
+    # `KILL QUERY` from a separate connection. The connection of the query remains usable in either case.
+    #
+    # + sqlQuery - SQL query with optional parameters (e.g., `SELECT * FROM users WHERE id=${userId}`)
+    # + timeout - Maximum execution time of the query in seconds, which overrides the `queryTimeout` option
+    # + rowType - Record type to map query results to
+    # + return - Stream of records containing the query results, which returns a `mysql:QueryTimeoutError` if the
+    #            query times out. Please ensure that the stream is fully consumed, or close the stream.
+    remote isolated function queryWithTimeout(sql:ParameterizedQuery sqlQuery, decimal timeout,
+            typedesc<record {}> rowType = <>)
+    returns stream<rowType, sql:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.QueryProcessor",
+        name: "nativeQueryWithTimeout"
+    } external;
+
+    # Executes a SQL query and returns the rows from the result cache of the client, if they were read by the same query
+    # with the same parameter values and have not expired. Otherwise, the rows are read from the server and cached.
+    # The rows returned are immutable. Requires the `resultCache` client option, without which, and within
+    # transactions, the rows are read from the server as in `query`. A result larger than the `maxSize` of the cache
+    # is not cached, and its rows beyond that size are streamed from the server.
+    #
+    # + sqlQuery - SQL query with optional parameters (e.g., `SELECT * FROM countries WHERE region=${region}`)
+    # + cacheOptions - Time-to-live of the cached rows and the tables from which they are read
+    # + rowType - Record type to map query results to
+    # + return - Stream of records containing the query results
+    remote isolated function queryCached(sql:ParameterizedQuery sqlQuery, CachedQueryOptions cacheOptions = {},
+            typedesc<record {}> rowType = <>)
+    returns stream<rowType, sql:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.QueryProcessor",
+        name: "nativeQueryCached"
+    } external;
+
+    # Executes a SQL query as a series of page queries, each of which reads the next `pageSize` rows in the ascending
+    # order of a unique key, starting after the key of the last row of the previous page. The rows of all the pages
+    # are returned as a single stream. Unlike `query`, no connection, cursor or read view is held while the rows are
+    # consumed, as the connection is released after each page, and the pages are not read from a single snapshot.
+    # The query is wrapped as a derived table, hence an `ORDER BY` or `LIMIT` clause outside of its subqueries is
+    # rejected, and it should return the key columns as the fields of the rows with the same names. A query with
+    # `DISTINCT`, `GROUP BY` or `UNION` is evaluated in full by each page query, unless the server merges the key
+    # condition into it. Each page query reads one row more than the page, and a key value shared by adjacent rows
+    # is returned as an error.
+    #
+    # + sqlQuery - SQL query with optional parameters (e.g., `` `SELECT * FROM Orders WHERE status=${status}` ``)
+    # + key - Column, or columns, of a unique key of the result that has no `NULL` values
+    # + options - Number of rows of each page and whether the next page is prefetched
+    # + rowType - Record type to map query results to
+    # + return - Stream of records containing the query results
+    remote isolated function queryPaged(sql:ParameterizedQuery sqlQuery, string|string[] key,
+            PagedQueryOptions options = {}, typedesc<record {}> rowType = <>)
+    returns stream<rowType, sql:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.QueryProcessor",
+        name: "nativeQueryPaged"
+    } external;
+
+    # Splits the rows of a table into partitions by the ranges of a primary key or a unique key of a single column,
+    # to be read concurrently, each on a connection of its own from the pool. The partitions are read as series of
+    # page queries in the order of the key, in the same way as `queryPaged` with `prefetch`, hence the pool should
+    # have a connection for each partition and another for the next page being prefetched. The rows are read outside
+    # of any transaction, and the pages are not read from a single snapshot.
+    #
+    # + tableName - Name of the table (e.g., `Orders` or `sales.Orders`)
+    # + keyColumn - Column of the primary key or the unique key of the table, which has no `NULL` values
+    # + options - Number of partitions, how the boundaries of the partitions are chosen, and the size of each page
+    # + return - The scan as `mysql:TableScan`, from which the rows are read as a single stream or a stream for each
+    #            partition, or an `sql:Error` if the boundaries of the partitions cannot be read
+    remote isolated function scanTable(string tableName, string keyColumn, TableScanOptions options = {})
+    returns TableScan|sql:Error {
+        return planTableScan(self, tableName, keyColumn, options);
+    }
+
+    # Executes a SQL query and returns the values of each column of the result in an array, instead of a record per
+    # row. Each field of `columnsType` is an array, to which the values of the column with the same name are added.
+    # The arrays can be of `int`, `float`, `decimal`, `string`, `boolean`, `time:Civil` or `time:Utc` values, or of
+    # their optional types for the columns that contain `NULL` values.
+    # Within a transaction block, the query is executed on the connection of the transaction, and otherwise on a
+    # connection of its own from the pool.
+    #
+    # + sqlQuery - SQL query with optional parameters (e.g., `` `SELECT id, amount FROM Orders WHERE day=${day}` ``)
+    # + rowLimit - Maximum number of rows to read, or `()` to read all the rows of the result
+    # + columnsType - Record type with an array field for each column (e.g., `record {|int[] id; float[] amount;|}`)
+    # + return - Record with the values of each column, or an `sql:Error` if the query fails
+    remote isolated function queryColumns(sql:ParameterizedQuery sqlQuery, int? rowLimit = (),
+            typedesc<record {}> columnsType = <>)
+    returns columnsType|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.ColumnQueryProcessor"
+    } external;
+
+    # Executes a SQL query and returns the result as a stream of chunks of rows, each with the values of each column of
+    # the rows in an array, as returned by `queryColumns`. Only one chunk of rows is held in memory at a time when the
+    # rows are fetched incrementally with the `resultFetch` client option.
+    # Please ensure that the stream is fully consumed, or close the stream.
+    #
+    # + sqlQuery - SQL query with optional parameters (e.g., `` `SELECT id, amount FROM Orders WHERE day=${day}` ``)
+    # + chunkSize - Maximum number of rows in each chunk
+    # + rowLimit - Maximum number of rows to read, or `()` to read all the rows of the result
+    # + columnsType - Record type with an array field for each column (e.g., `record {|int[] id; float[] amount;|}`)
+    # + return - Stream of chunks of rows. An `sql:Error` is returned by the stream if the query fails
+    remote isolated function queryColumnChunks(sql:ParameterizedQuery sqlQuery, int chunkSize = 10000,
+            int? rowLimit = (), typedesc<record {}> columnsType = <>)
+    returns stream<columnsType, sql:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.ColumnQueryProcessor"
+    } external;
+
     # Executes a SQL query that is expected to return a single row or value as the result.
     # If the query returns no results, `sql:NoRowsError` is returned.
+    # When `replicaConfig` is configured, queries made outside transactions are executed on a replica server.
     #
     # + sqlQuery - The SQL query (e.g., `` `SELECT * FROM Album WHERE name=${albumName}` ``)
     # + returnType - The `typedesc` of the record to which the result should be mapped.
@@ -70,6 +192,37 @@ public isolated client class Client {
         name: "nativeQueryRow"
     } external;
 
+    # Executes a SQL query that is expected to return a single row or value as in `queryRow`, aborting it on the
+    # server if its execution exceeds the given timeout, as in `queryWithTimeout`.
+    #
+    # + sqlQuery - The SQL query (e.g., `` `SELECT * FROM Album WHERE name=${albumName}` ``)
+    # + timeout - Maximum execution time of the query in seconds, which overrides the `queryTimeout` option
+    # + returnType - The `typedesc` of the record to which the result should be mapped.
+    #                It can be a basic type if the query result contains only one column
+    # + return - Result in the `returnType` type, a `mysql:QueryTimeoutError` if the query times out, or an
+    #            `sql:Error`
+    remote isolated function queryRowWithTimeout(sql:ParameterizedQuery sqlQuery, decimal timeout,
+            typedesc<anydata> returnType = <>)
+    returns returnType|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.QueryProcessor",
+        name: "nativeQueryRowWithTimeout"
+    } external;
+
+    # Executes a SQL query that is expected to return a single row or value, and returns it from the result cache of
+    # the client, as in `queryCached`. Errors, including `sql:NoRowsError`, are not cached.
+    #
+    # + sqlQuery - The SQL query (e.g., `` `SELECT name FROM countries WHERE code=${code}` ``)
+    # + cacheOptions - Time-to-live of the cached result and the tables from which it is read
+    # + returnType - The `typedesc` of the record to which the result should be mapped.
+    #                It can be a basic type if the query result contains only one column
+    # + return - Result in the `returnType` type or an `sql:Error`
+    remote isolated function queryRowCached(sql:ParameterizedQuery sqlQuery, CachedQueryOptions cacheOptions = {},
+            typedesc<anydata> returnType = <>)
+    returns returnType|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.QueryProcessor",
+        name: "nativeQueryRowCached"
+    } external;
+
     # Executes a SQL query and returns execution metadata (not the actual query results).
     #
     # + sqlQuery - SQL query with parameters (e.g., `` `DELETE FROM Album WHERE artist=${artistName}` ``)
@@ -80,7 +233,23 @@ public isolated client class Client {
          name: "nativeExecute"
     } external;
 
+    # Executes a SQL statement as in `execute`, aborting it on the server if its execution exceeds the given timeout,
+    # as in `queryWithTimeout`.
+    #
+    # + sqlQuery - SQL query with parameters (e.g., `` `DELETE FROM Album WHERE artist=${artistName}` ``)
+    # + timeout - Maximum execution time of the statement in seconds, which overrides the `queryTimeout` option
+    # + return - Execution metadata as an `sql:ExecutionResult`, a `mysql:QueryTimeoutError` if the statement times
+    #            out, or an `sql:Error` if execution fails
+    remote isolated function executeWithTimeout(sql:ParameterizedQuery sqlQuery, decimal timeout)
+    returns sql:ExecutionResult|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.ExecuteProcessor",
+        name: "nativeExecuteWithTimeout"
+    } external;
+
     # Executes multiple SQL commands in a single batch operation.
+    # When `rewriteBatchedInserts` is enabled, a batch of single-row `INSERT` statements is sent as multi-row
+    # `INSERT` statements while still returning one `sql:ExecutionResult` per query. If a multi-row statement fails,
+    # all its rows are reported as failed, including the rows that would have been inserted on their own.
     #
     # + sqlQueries - Array of SQL queries with parameters
     # + return - Array of execution results or an `sql:Error` if the operation fails
@@ -88,6 +257,12 @@ public isolated client class Client {
         if sqlQueries.length() == 0 {
             return error sql:ApplicationError(" Parameter 'sqlQueries' cannot be empty array");
         }
+        if self.rewriteBatchedInserts && sqlQueries.length() > 1 {
+            InsertRowTemplate? rowTemplate = getInsertRowTemplate(sqlQueries);
+            if rowTemplate is InsertRowTemplate {
+                return executeRewrittenInserts(self, rowTemplate, sqlQueries);
+            }
+        }
         return nativeBatchExecute(self, sqlQueries);
     }
 
@@ -103,6 +278,210 @@ public isolated client class Client {
         name: "nativeCall"
     } external;
 
+    # Executes several SQL queries in a single request to the server, and returns their results one after the other.
+    # The queries are executed over separate connections on which the multi-statement protocol is enabled, and
+    # require the `allowMultiStatements` client option. The other operations of the client do not use them.
+    # Once the results are processed, invoke the `close` method on the `sql:ProcedureCallResult`.
+    #
+    # + sqlQueries - SQL queries to execute (e.g., `` [`SELECT * FROM users WHERE id=${id}`, `SELECT COUNT(*) FROM orders`] ``)
+    # + rowTypes - `typedesc` array of the records to which the results of the queries should be mapped, in order
+    # + return - Results of the queries as `sql:ProcedureCallResult`, in which the result of the first query is set and
+    #            `getNextQueryResult` moves to the result of the next query, or an `sql:Error` if the execution fails
+    remote isolated function queryMultiple(sql:ParameterizedQuery[] sqlQueries, typedesc<record {}>[] rowTypes = [])
+    returns sql:ProcedureCallResult|sql:Error {
+        if sqlQueries.length() == 0 {
+            return error sql:ApplicationError("Parameter 'sqlQueries' cannot be an empty array.");
+        }
+        return nativeQueryMultiple(self, joinQueries(sqlQueries), rowTypes);
+    }
+
+    # Loads the rows of a stream into a table with a `LOAD DATA LOCAL INFILE` statement, without writing them to a
+    # file. The rows are loaded in a separate transaction, which is rolled back if any row cannot be read or loaded.
+    # Requires the `allowLoadLocalInfile` client option and the `local_infile` server variable to be enabled.
+    #
+    # + tableName - Name of the table to load the rows into (e.g., `Customers` or `sales.Customers`)
+    # + rows - Stream of the rows to load
+    # + columns - Names of the record fields to load, which are the same as the column names, or a map of the record
+    #             field names to the column names
+    # + return - Summary of the load as `mysql:LoadDataResult`, or an `sql:Error` if the load fails
+    remote isolated function loadData(string tableName, stream<record {}, error?> rows, string[]|map<string> columns)
+    returns LoadDataResult|sql:Error {
+        return loadRows(self, tableName, rows, columns);
+    }
+
+    # Inserts the rows of an array or a stream into a table, or writes them over the existing rows with the same
+    # primary key or unique key, with multi-row `INSERT ... ON DUPLICATE KEY UPDATE`, `INSERT IGNORE` or `REPLACE`
+    # statements. Each statement is limited by the `maxStatementSize` option, the `max_allowed_packet` server variable
+    # and the number of parameters the server accepts. The field names of the rows are the column names, and every row
+    # should have the same fields as the first row. If a statement fails, the statements executed before it are not rolled
+    # back unless the method is called in a transaction.
+    #
+    # + tableName - Name of the table (e.g., `Customers` or `sales.Customers`)
+    # + rows - Rows to insert or update
+    # + keyColumns - Columns of the primary key or the unique key by which the rows are matched, which are not updated
+    # + options - How the existing rows are written, and how the statements are sized and executed
+    # + return - Summary of the upsert as `mysql:UpsertResult`, or an `sql:Error` if the rows cannot be read or a
+    #            statement fails
+    remote isolated function upsert(string tableName, record {}[]|stream<record {}, error?> rows, string[] keyColumns,
+            UpsertOptions options = {}) returns UpsertResult|sql:Error {
+        return upsertRows(self, tableName, rows, keyColumns, options);
+    }
+
+    # Exports tables to local files from a single consistent snapshot, which is shared by a number of connections of
+    # the pool that export the tables in parallel. Each connection starts a `START TRANSACTION WITH CONSISTENT
+    # SNAPSHOT` transaction, and the position of the binary log at the snapshot is returned and written with the
+    # list of files to the `snapshot-metadata.json` file of the directory, so that the changes after the snapshot can
+    # be replicated from that position. Each table is written to a file per range of its key, named
+    # `<database>.<table>.<chunk>.csv` or `<database>.<table>.<chunk>.ndjson`, which overwrites an existing file. The
+    # files written are removed if the export fails.
+    #
+    # + tables - Tables to export (e.g., `Orders`, `sales.Orders` or `sales.*` for all the tables of a database)
+    # + directory - Directory to which the files are written, which is created if it does not exist
+    # + options - Number of connections, format of the files and how the snapshot is shared by the connections
+    # + return - Summary of the export as `mysql:SnapshotExportResult`, or an `sql:Error` if the export fails
+    remote isolated function exportSnapshot(string[] tables, string directory, SnapshotExportOptions options = {})
+    returns SnapshotExportResult|sql:Error {
+        ExportedFile[] files = [];
+        return exportTables(self, tables, directory, options, files);
+    }
+
+    # Returns an estimate of the statement cache usage of the client, replayed against a single cache for the whole
+    # client as the driver does not expose the counters of the cache of each connection.
+    #
+    # + return - Estimated statement cache counters, or `()` if `statementCache` is not configured in the client
+    #            options
+    public isolated function getStatementCacheEstimate() returns StatementCacheEstimate? = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.ClientProcessor"
+    } external;
+
+    # Returns the progress of the connection pool warm-up.
+    #
+    # + return - Warm-up counters, or `()` if `warmUp` is not configured in the client options
+    public isolated function getWarmUpStats() returns WarmUpStats? = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.ClientProcessor"
+    } external;
+
+    # Removes the cached query results tagged with a table, or all the cached results if no table is given.
+    # A table name qualified with the database name matches the tags of the table with or without the database name.
+    #
+    # + tableName - The name of the table (e.g., `countries` or `store_db.countries`)
+    public isolated function invalidateResultCache(string? tableName = ()) = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.ClientProcessor"
+    } external;
+
+    # Returns the usage of the result cache of the client.
+    #
+    # + return - Result cache counters, or `()` if `resultCache` is not configured in the client options
+    public isolated function getResultCacheStats() returns ResultCacheStats? = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.ClientProcessor"
+    } external;
+
+    # Returns the execution statistics of the statements of the client, grouped by the fingerprint of the statements.
+    #
+    # + return - Statistics of each fingerprint, or an empty array if `statementMetrics` is not configured in the client
+    #            options
+    public isolated function getStatementStats() returns StatementStats[] {
+        StatementStats[] stats = [];
+        populateStatementStats(self, stats);
+        return stats;
+    }
+
+    # Removes the statements recorded in the slow query log of the client and returns them.
+    #
+    # + return - Slow statements, oldest first, or an empty array if `slowQueryLog` is not configured in the client
+    #            options
+    public isolated function drainSlowQueries() returns SlowQuery[] {
+        SlowQuery[] slowQueries = [];
+        drainSlowQueryLog(self, slowQueries);
+        return slowQueries;
+    }
+
+    # Removes the statements recorded in the slow query log of the client and writes them to the log at the `WARN`
+    # level.
+    public isolated function logSlowQueries() {
+        foreach SlowQuery slowQuery in self.drainSlowQueries() {
+            log:printWarn("Slow query", fingerprint = slowQuery.fingerprint, parameters = slowQuery.parameters,
+                    recordedAt = time:utcToString(slowQuery.recordedAt), duration = slowQuery.duration,
+                    poolWaitTime = slowQuery.poolWaitTime, executionTime = slowQuery.executionTime,
+                    conversionTime = slowQuery.conversionTime, plan = slowQuery.plan,
+                    planError = slowQuery.planError);
+        }
+    }
+
+    # Returns the number of blocking calls of the client that are waiting for the server.
+    #
+    # + return - In-flight call counters, or `()` if `trackBlockingCalls` is not enabled in the client options
+    public isolated function getInFlightStats() returns InFlightStats? = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.ClientProcessor"
+    } external;
+
+    # Returns the number of bytes and statements transferred over the connections of the client that are currently
+    # open, as counted by the server. The bytes are the sizes on the wire, which are the compressed sizes when
+    # `useCompression` is enabled. Requires the `transferStats` option and the Performance Schema of the server.
+    #
+    # + return - Transfer counters, or an `sql:Error` if `transferStats` is not enabled or the counters cannot be read
+    #            from the server
+    public isolated function getTransferStats() returns TransferStats|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.ClientProcessor"
+    } external;
+
+    # Returns the routing status of the replica servers configured in `replicaConfig`.
+    #
+    # + return - Status of each replica server, or an empty array if `replicaConfig` is not configured
+    public isolated function getReplicaStatus() returns ReplicaStatus[] {
+        ReplicaStatus[] status = [];
+        populateReplicaStatus(self, status);
+        return status;
+    }
+
+    # Returns the health check statistics of the hosts configured in `loadBalanceConfig`.
+    #
+    # + return - Statistics of each host, or an empty array if `loadBalanceConfig` is not configured
+    public isolated function getHostHealthStats() returns HostHealthStats[] {
+        HostHealthStats[] stats = [];
+        populateHostHealthStats(self, stats);
+        return stats;
+    }
+
+    isolated function getServerLimits() returns ServerLimits|sql:Error {
+        lock {
+            (ServerLimits & readonly)? cachedLimits = self.serverLimits;
+            if cachedLimits is ServerLimits {
+                return cachedLimits;
+            }
+        }
+        ServerLimits serverLimits = check self->queryRow(`SELECT CAST(@@max_allowed_packet AS SIGNED)
+            AS maxAllowedPacket, CAST(@@auto_increment_increment AS SIGNED) AS autoIncrementIncrement`);
+        ServerLimits & readonly readonlyLimits = serverLimits.cloneReadOnly();
+        lock {
+            self.serverLimits = readonlyLimits;
+        }
+        return serverLimits;
+    }
+
+    isolated function getAutoIncrementColumn(string? schema, string tableName) returns string?|sql:Error {
+        string database = schema ?: "";
+        lock {
+            map<string?>? columns = self.autoIncrementColumns[database];
+            if columns is map<string?> && columns.hasKey(tableName) {
+                return columns.get(tableName);
+            }
+        }
+        AutoIncrementColumn column = check self->queryRow(`SELECT COUNT(*) AS columnCount,
+            MAX(IF(EXTRA LIKE '%auto_increment%', COLUMN_NAME, NULL)) AS columnName FROM information_schema.COLUMNS
+            WHERE TABLE_SCHEMA = COALESCE(${schema}, DATABASE()) AND TABLE_NAME = ${tableName}`);
+        string? columnName = column.columnName;
+        // A table that is not found is looked up again, as it may be created later
+        if column.columnCount > 0 {
+            lock {
+                map<string?> columns = self.autoIncrementColumns[database] ?: {};
+                columns[tableName] = columnName;
+                self.autoIncrementColumns[database] = columns;
+            }
+        }
+        return columnName;
+    }
+
     # Closes the MySQL client and shuts down the connection pool.
     # The client should be closed only at the end of the application lifetime, or when performing graceful stops in a service.
     #
@@ -139,16 +518,62 @@ type ClientConfiguration record {|
 # + useXADatasource - Enable XA transactions
 # + connectTimeout - Connection timeout in seconds
 # + socketTimeout - Socket read/write timeout in seconds (0 means no timeout)
+# + queryTimeout - Maximum execution time in seconds of the statements of the `query`, `queryRow` and `execute`
+#                  methods, after which they are aborted on the server without closing their connection (0 means no
+#                  timeout)
 # + serverTimezone - Server timezone configuration for handling temporal values
 # + noAccessToProcedureBodies - Allow procedure calls when metadata access is limited
+# + useCompression - Compress the traffic with the server using zlib
+# + transferStats - Tag the connections of the client with a connection attribute so that `getTransferStats` can
+#                   find their counters on the server. The connection attributes are part of the connection pool
+#                   properties, so the client does not share a connection pool with other clients
+# + warmUp - Open and validate connections of the pool when the client is initialized
+# + trackSessionState - Track the auto-commit, isolation level and read-only state of the sessions in the client and
+#                       cache the server configuration, so that the statements that set or read them are sent only
+#                       when the state changes
+# + allowLoadLocalInfile - Allow the `loadData` method to send rows to the server with `LOAD DATA LOCAL INFILE`
+# + allowMultiStatements - Open a separate connection pool with the multi-statement protocol enabled, which is used
+#                          only by the `queryMultiple` method
+# + trackBlockingCalls - Count the calls of the client waiting for the server, and suspend the calling strand while
+#                        the rows of query result streams are read from the server with `resultFetch`
+# + resultCache - Cache the results of the `queryCached` and `queryRowCached` methods in the client
+# + statementMetrics - Record the latency, rows and errors of the statements executed by the client per statement
+#                      fingerprint, which are returned by `getStatementStats` and reported as metrics when the metrics
+#                      of the program are enabled
+# + slowQueryLog - Keep the statements that take longer than a threshold, along with their query plans, in a bounded
+#                  log of the client, which is read with `drainSlowQueries` or written with `logSlowQueries`
+# + statementCache - Server-side prepared statement and statement cache settings
+# + rewriteBatchedInserts - Send `batchExecute` batches of single-row `INSERT` statements as multi-row `INSERT`
+#                           statements, chunked by the `max_allowed_packet` of the server, which is read once by the
+#                           client along with the auto-increment column of each table
+# + resultFetch - Fetch rows of the `query` results from the server incrementally instead of buffering the entire
+#                 result in the client
+# + replicaConfig - Replica servers to which the `query` and `queryRow` calls made outside transactions are routed
+# + loadBalanceConfig - Spread the connections over multiple primary servers (cannot be used with `failoverConfig`)
 public type Options record {|
     SecureSocket ssl?;
     FailoverConfig failoverConfig?;
     boolean useXADatasource = false;
     decimal connectTimeout = 30;
     decimal socketTimeout = 0;
+    decimal queryTimeout = 0;
     string serverTimezone?;
     boolean noAccessToProcedureBodies = false;
+    boolean useCompression = false;
+    boolean transferStats = false;
+    WarmUpConfig warmUp?;
+    boolean trackSessionState = false;
+    boolean allowLoadLocalInfile = false;
+    boolean allowMultiStatements = false;
+    boolean trackBlockingCalls = false;
+    ResultCacheConfig resultCache?;
+    StatementMetricsConfig statementMetrics?;
+    SlowQueryLogConfig slowQueryLog?;
+    StatementCacheConfig statementCache?;
+    boolean rewriteBatchedInserts = false;
+    ResultFetchConfig resultFetch?;
+    ReplicaConfig replicaConfig?;
+    LoadBalanceConfig loadBalanceConfig?;
 |};
 
 # Configuration to be used for server failover.
@@ -173,6 +598,551 @@ public type FailoverServer record {|
     int port;
 |};
 
+# Configuration for balancing connections over multiple primary servers, such as the members of a multi-primary
+# group replication cluster. The host given in the client configuration is balanced along with the
+# `loadBalanceServers`.
+#
+# + loadBalanceServers - Array of `mysql:LoadBalanceServer` configurations for the other servers
+# + strategy - `mysql:LoadBalanceStrategy` used to pick a server
+# + rebalance - `mysql:Rebalance` policy that decides when a connection moves to another server
+# + blocklistTimeout - Time (in seconds) a server that failed to connect is excluded from the balancing
+# + healthCheckInterval - Interval (in seconds) between the health checks of the servers
+public type LoadBalanceConfig record {|
+    LoadBalanceServer[] loadBalanceServers;
+    LoadBalanceStrategy strategy = RANDOM;
+    Rebalance rebalance = PER_CONNECTION;
+    decimal blocklistTimeout = 30;
+    decimal healthCheckInterval = 10;
+|};
+
+# Configuration for load-balanced servers.
+#
+# + host - Hostname of the server
+# + port - Port of the server
+public type LoadBalanceServer record {|
+    string host;
+    int port = 3306;
+|};
+
+# Pick a server at random.
+public const RANDOM = "RANDOM";
+
+# Pick the server with the lowest response time to the last transaction.
+public const BEST_RESPONSE_TIME = "BEST_RESPONSE_TIME";
+
+# `LoadBalanceStrategy` as a union of the strategies available to pick a load-balanced server.
+public type LoadBalanceStrategy RANDOM|BEST_RESPONSE_TIME;
+
+# Keep a connection on its server for the statements executed in auto-commit mode. The connection may still move to
+# another server after a transaction is committed or rolled back.
+public const PER_CONNECTION = "PER_CONNECTION";
+
+# Pick a server after each transaction, including each statement executed in auto-commit mode.
+public const PER_TRANSACTION = "PER_TRANSACTION";
+
+# `Rebalance` as a union of the policies that decide when a load-balanced connection moves to another server.
+public type Rebalance PER_CONNECTION|PER_TRANSACTION;
+
+# Health check statistics of a load-balanced server.
+#
+# + host - Hostname of the server
+# + port - Port of the server
+# + available - Whether the last health check succeeded
+# + latency - Round trip time (in seconds) of the last health check, or `()` if it failed
+# + averageLatency - Average round trip time (in seconds) of the successful health checks
+# + checks - Number of health checks made
+# + errors - Number of failed health checks
+public type HostHealthStats record {|
+    string host;
+    int port;
+    boolean available;
+    decimal? latency;
+    decimal? averageLatency;
+    int checks;
+    int errors;
+|};
+
+# Configuration for routing reads to replica servers.
+# The `query` and `queryRow` calls made outside transactions are balanced over the replicas that are within the
+# allowed replication lag, while all the other operations are executed on the primary server. If no replica is
+# available, the reads are executed on the primary server. The replicas are connected with the connection options of
+# the client, such as `ssl` and `connectTimeout`.
+#
+# + replicas - Array of `mysql:ReplicaServer` configurations for the replica servers
+# + balancing - `mysql:ReplicaBalancing` policy used to pick a replica for each read
+# + maxReplicationLag - Maximum replication lag (in seconds) of a replica that is kept in rotation
+# + lagCheckInterval - Interval (in seconds) between the replication lag checks of the replicas
+public type ReplicaConfig record {|
+    ReplicaServer[] replicas;
+    ReplicaBalancing balancing = ROUND_ROBIN;
+    decimal maxReplicationLag = 30;
+    decimal lagCheckInterval = 5;
+|};
+
+# Configuration for replica servers.
+#
+# + host - Replica server hostname
+# + port - Replica server port
+public type ReplicaServer record {|
+    string host;
+    int port = 3306;
+|};
+
+# Pick the replicas in turn.
+public const ROUND_ROBIN = "ROUND_ROBIN";
+
+# Pick the replica with the least number of reads in progress.
+public const LEAST_OUTSTANDING_REQUESTS = "LEAST_OUTSTANDING_REQUESTS";
+
+# `ReplicaBalancing` as a union of the policies available to balance reads over replicas.
+public type ReplicaBalancing ROUND_ROBIN|LEAST_OUTSTANDING_REQUESTS;
+
+# Routing status of a replica server.
+#
+# + host - Replica server hostname
+# + port - Replica server port
+# + inRotation - Whether reads are currently routed to the replica
+# + replicationLag - Replication lag (in seconds) observed in the last check, or `()` if it could not be determined
+# + outstandingRequests - Number of reads in progress on the replica
+public type ReplicaStatus record {|
+    string host;
+    int port;
+    boolean inRotation;
+    int? replicationLag;
+    int outstandingRequests;
+|};
+
+# Configuration for opening connections of the pool when the client is initialized, so that the first requests do
+# not wait for the connections to be established. The connections are opened in parallel, validated and then kept
+# idle in the pool.
+#
+# + connections - Number of connections to open, limited by the `maxOpenConnections` of the pool
+# + minReady - Number of connections that should be ready before the client initialization completes. The
+#              initialization fails if they cannot be opened within the `timeout`. If `0`, the connections are
+#              opened in the background.
+# + timeout - Maximum time (in seconds) to wait for the `minReady` connections, which is also used to validate
+#             each connection
+public type WarmUpConfig record {|
+    int connections = 5;
+    int minReady = 0;
+    decimal timeout = 30;
+|};
+
+# Progress of the connection pool warm-up.
+#
+# + ready - Number of connections opened and validated
+# + failed - Number of connections that could not be opened or validated
+# + duration - Time (in seconds) taken to complete all the connection attempts, or `()` if they are in progress
+public type WarmUpStats record {|
+    int ready;
+    int failed;
+    decimal? duration;
+|};
+
+# Blocking calls of a client that wait for the server.
+#
+# + inFlight - Number of calls currently waiting for the server
+# + peakInFlight - Highest number of calls that waited for the server at the same time
+# + completed - Number of calls completed
+public type InFlightStats record {|
+    int inFlight;
+    int peakInFlight;
+    int completed;
+|};
+
+# Options of a `queryPaged` operation.
+#
+# + pageSize - Maximum number of rows read by each page query
+# + prefetch - Read the next page on a separate connection of the pool while the rows of a page are consumed. The
+#              pages are not prefetched in a transaction
+public type PagedQueryOptions record {|
+    int pageSize = 1000;
+    boolean prefetch = false;
+|};
+
+# Split the range between the lowest and the highest key into ranges of the same number of keys. The key should be an
+# integer column, of which the values are evenly distributed, such as an `AUTO_INCREMENT` column.
+public const SPLIT_KEY_RANGE = "KEY_RANGE";
+
+# Split the rows into partitions of the same number of rows, of which the boundaries are read from the key index. The
+# key can be of any type and distribution, at the cost of counting the rows and reading the key index once more.
+public const SPLIT_ROW_COUNT = "ROW_COUNT";
+
+# `TableSplit` as a union of the ways the boundaries of the partitions of a table scan are chosen.
+public type TableSplit SPLIT_KEY_RANGE|SPLIT_ROW_COUNT;
+
+# Options of a `scanTable` operation.
+#
+# + partitions - Maximum number of partitions, which are read concurrently. A table with fewer keys or rows is split
+#                into fewer partitions
+# + split - `mysql:TableSplit` by which the boundaries of the partitions are chosen
+# + pageSize - Maximum number of rows read by each page query of a partition
+public type TableScanOptions record {|
+    int partitions = 4;
+    TableSplit split = SPLIT_ROW_COUNT;
+    int pageSize = 1000;
+|};
+
+# Progress of a partition of a `mysql:TableScan`, since the last stream of the partition was created.
+#
+# + partition - Index of the partition, in the order of the key
+# + lowerBound - Lowest key of the partition, or `()` for the first partition, which has no lower bound
+# + upperBound - Key after the highest key of the partition, or `()` for the last partition, which has no upper bound
+# + rowsRead - Number of rows read from the partition
+# + pagesRead - Number of page queries executed for the partition
+# + pageWaitTime - Time (in seconds) for which the stream waited for the pages of the partition. A time close to the
+#                  elapsed time shows that the rows are consumed faster than the server returns them
+# + rowsPerSecond - Number of rows read per second, from the creation of the stream until the last page is read
+# + progress - Estimated fraction of the rows of the partition that are read, from `0` to `1`
+# + completed - Whether all the rows of the partition are read
+public type PartitionStats record {|
+    int partition;
+    anydata lowerBound;
+    anydata upperBound;
+    int rowsRead;
+    int pagesRead;
+    decimal pageWaitTime;
+    decimal rowsPerSecond;
+    float progress;
+    boolean completed;
+|};
+
+# Summary of a `loadData` operation.
+#
+# + rowsLoaded - Number of rows loaded into the table
+# + warnings - Warnings reported by the server for the rows that were loaded with modifications, such as truncated
+#              values
+public type LoadDataResult record {|
+    int rowsLoaded;
+    string[] warnings;
+|};
+
+# Update the columns of the existing row, other than the key columns, with `INSERT ... ON DUPLICATE KEY UPDATE`.
+public const UPSERT_UPDATE = "UPDATE";
+
+# Keep the existing row and skip the row with `INSERT IGNORE`. The server also skips the rows that fail for other
+# reasons, such as a value out of the range of its column, with a warning.
+public const UPSERT_IGNORE = "IGNORE";
+
+# Delete the existing row and insert the row with `REPLACE`.
+public const UPSERT_REPLACE = "REPLACE";
+
+# `UpsertMode` as a union of the ways the `upsert` method writes a row that has the same primary key or unique key as
+# an existing row.
+public type UpsertMode UPSERT_UPDATE|UPSERT_IGNORE|UPSERT_REPLACE;
+
+# Options of an `upsert` operation.
+#
+# + mode - `mysql:UpsertMode` to be used for the rows that already exist
+# + updateColumns - Columns updated in the `UPSERT_UPDATE` mode, or `()` to update all the columns other than the key
+#                   columns
+# + maxStatementSize - Maximum size of each statement in bytes, which is also limited by the `max_allowed_packet`
+#                      server variable
+# + parallelism - Number of statements executed at a time over separate connections of the pool. With `1`, or in a
+#                 transaction, the statements are executed one after the other in the order of the rows
+public type UpsertOptions record {|
+    UpsertMode mode = UPSERT_UPDATE;
+    string[]? updateColumns = ();
+    int maxStatementSize = 4194304;
+    int parallelism = 1;
+|};
+
+# Summary of an `upsert` operation.
+#
+# + rowCount - Number of rows written by the statements
+# + affectedRowCount - Total of the affected row counts reported by the server for the statements. An inserted row is
+#                      counted as one, and an existing row that is updated or replaced as two. A row skipped in the
+#                      `UPSERT_IGNORE` mode is counted as zero. As the client reports the rows found rather than the
+#                      rows changed, an existing row that is left as it is in the `UPSERT_UPDATE` mode is counted as
+#                      one, in the same way as an inserted row
+# + statementCount - Number of statements executed
+public type UpsertResult record {|
+    int rowCount;
+    int affectedRowCount;
+    int statementCount;
+|};
+
+# Write each row as a line of comma-separated values after a header line of the column names, as in RFC 4180. A `NULL`
+# value is written as an empty field, and an empty string as `""`.
+public const EXPORT_CSV = "CSV";
+
+# Write each row as a JSON object on a line of its own (newline-delimited JSON).
+public const EXPORT_NDJSON = "NDJSON";
+
+# `ExportFormat` as a union of the formats of the files written by the `exportSnapshot` method. The binary values are
+# written in Base64.
+public type ExportFormat EXPORT_CSV|EXPORT_NDJSON;
+
+# Start the snapshots of the connections while the global read lock is held with `FLUSH TABLES WITH READ LOCK`, which
+# requires the `RELOAD` privilege. The writes are blocked only until the snapshots are started, but the lock waits for
+# the running statements that use the tables.
+public const SNAPSHOT_LOCK = "LOCK";
+
+# Start the snapshots of the connections without a lock, and start them again if the binary log position or the GTID
+# set changed in between. This requires the binary log, and fails if transactions are committed too often to find a
+# moment without a commit.
+public const SNAPSHOT_GTID = "GTID";
+
+# `SnapshotConsistency` as a union of the ways the connections of the `exportSnapshot` method start the same snapshot.
+public type SnapshotConsistency SNAPSHOT_LOCK|SNAPSHOT_GTID;
+
+# Options of an `exportSnapshot` operation.
+#
+# + connections - Number of connections of the pool that share the snapshot and export the tables in parallel
+# + format - `mysql:ExportFormat` of the files
+# + compress - Compress the files with gzip, adding `.gz` to their names
+# + consistency - `mysql:SnapshotConsistency` by which the connections start the same snapshot
+# + chunkRows - Estimated number of rows of each file. A table with a single-column integer primary key and more rows
+#               is split into files by ranges of the key, which are exported in parallel
+# + lockTimeout - Time (in seconds) to wait for the global read lock with `SNAPSHOT_LOCK`
+public type SnapshotExportOptions record {|
+    int connections = 4;
+    ExportFormat format = EXPORT_CSV;
+    boolean compress = false;
+    SnapshotConsistency consistency = SNAPSHOT_LOCK;
+    int chunkRows = 1000000;
+    decimal lockTimeout = 60;
+|};
+
+# Position of the binary log at which a snapshot was taken.
+#
+# + file - Name of the binary log file
+# + position - Position in the binary log file
+# + gtidSet - GTID set of the transactions included in the snapshot, or an empty string if GTIDs are not enabled
+public type BinlogPosition record {|
+    string file;
+    int position;
+    string gtidSet;
+|};
+
+# File written by an `exportSnapshot` operation.
+#
+# + tableName - Name of the table, qualified with the database name
+# + path - Path of the file
+# + rowCount - Number of rows written to the file
+# + size - Size of the file in bytes
+public type ExportedFile record {|
+    string tableName;
+    string path;
+    int rowCount;
+    int size;
+|};
+
+# Summary of an `exportSnapshot` operation.
+#
+# + position - Position of the binary log at the snapshot, from which the changes after the snapshot can be
+#              replicated, or `()` if the binary log is disabled
+# + files - Files written, in the order of the tables and the key ranges
+# + lockTime - Time (in seconds) for which the global read lock was held, which is `0` with `SNAPSHOT_GTID`
+public type SnapshotExportResult record {|
+    BinlogPosition? position;
+    ExportedFile[] files;
+    decimal lockTime;
+|};
+
+# Number of bytes and statements transferred over the connections of a client.
+#
+# + wireBytesSent - Bytes sent to the server on the wire, after compression when `useCompression` is enabled
+# + wireBytesReceived - Bytes received from the server on the wire, after compression when `useCompression` is enabled
+# + statements - Statements executed by the server
+# + sessionStatements - `SET` and `SHOW VARIABLES` statements executed by the server, which include the statements
+#                       that set the session state and are skipped when `trackSessionState` is enabled
+# + connections - Number of connections the counters were collected from
+public type TransferStats record {|
+    int wireBytesSent;
+    int wireBytesReceived;
+    int statements;
+    int sessionStatements;
+    int connections;
+|};
+
+# Configuration for caching query results in the client.
+#
+# + maxSize - Maximum estimated size (in bytes) of the cached results, beyond which the least recently used results
+#             are removed
+# + defaultTtl - Time (in seconds) for which a result is cached when the query does not set a time-to-live
+public type ResultCacheConfig record {|
+    int maxSize = 16777216;
+    decimal defaultTtl = 60;
+|};
+
+# Cache options of a query.
+#
+# + ttl - Time (in seconds) for which the result is cached, or the `defaultTtl` of the client if not set
+# + tables - Tables from which the result is read. The result is removed from the cache when any of them is
+#            invalidated with `invalidateResultCache`, by a `mysql:ResultCacheInvalidator` service, or by an
+#            `execute`, `batchExecute` or `loadData` call of the client that writes to it. The `call` and
+#            `queryMultiple` methods invalidate all the results. Writes made by other clients are not detected
+public type CachedQueryOptions record {|
+    decimal ttl?;
+    string[] tables = [];
+|};
+
+# Result cache usage of a client.
+#
+# + hits - Number of queries of which the result was returned from the cache
+# + misses - Number of queries of which the result was read from the server
+# + expirations - Number of cached results removed after their time-to-live
+# + evictions - Number of cached results removed to keep the cache within its size
+# + invalidations - Number of cached results removed by the invalidation of their tables
+# + entries - Number of results currently cached
+# + size - Estimated size (in bytes) of the results currently cached
+public type ResultCacheStats record {|
+    int hits;
+    int misses;
+    int expirations;
+    int evictions;
+    int invalidations;
+    int entries;
+    int size;
+|};
+
+# Configuration for recording the statistics of the statements executed by a client.
+#
+# + maxFingerprints - Maximum number of statement fingerprints of which the statistics are recorded separately. The
+#                     statements of any further fingerprints are recorded under the `<other>` fingerprint
+# + maxMetricFingerprints - Maximum number of statement fingerprints reported as separate metric series when the
+#                           metrics of the program are enabled. The metrics of any further fingerprints are reported
+#                           under the `other` statement identifier
+public type StatementMetricsConfig record {|
+    int maxFingerprints = 1000;
+    int maxMetricFingerprints = 50;
+|};
+
+# Execution statistics of the statements of a client with the same fingerprint.
+#
+# + fingerprint - SQL text of the statements with their parameters and literals replaced with `?`, and lists of
+#                 parameters such as those of `IN` lists replaced with `(?+)`
+# + executions - Number of executions of the statements
+# + errors - Number of executions that failed, including failures while reading the rows of the results
+# + rowsReturned - Number of rows read from the results of the statements
+# + rowsAffected - Number of rows affected by the statements
+# + executionTime - Time taken to execute the statements, excluding the time waited for a connection and the time
+#                   taken to read the rows of streamed results
+# + id - Identifier of the fingerprint with which its metrics are tagged, which is the first 16 hexadecimal digits of
+#        the SHA-256 digest of the fingerprint
+# + poolWaitTime - Time waited for a connection of the pool. Not recorded for the `call` method. For the methods
+#                  other than `queryColumns` and `queryColumnChunks`, it includes the time taken to prepare the
+#                  statement
+public type StatementStats record {|
+    string fingerprint;
+    string id;
+    int executions;
+    int errors;
+    int rowsReturned;
+    int rowsAffected;
+    LatencyStats executionTime;
+    LatencyStats poolWaitTime;
+|};
+
+# Latency distribution of the executions of a statement. The percentiles are the upper bounds of histogram buckets
+# of powers of two microseconds.
+#
+# + count - Number of latencies recorded
+# + mean - Mean latency in seconds
+# + max - Maximum latency in seconds
+# + p50 - Median latency in seconds
+# + p95 - 95th percentile latency in seconds
+# + p99 - 99th percentile latency in seconds
+public type LatencyStats record {|
+    int count;
+    decimal mean;
+    decimal max;
+    decimal p50;
+    decimal p95;
+    decimal p99;
+|};
+
+# Configuration for the slow query log of a client.
+#
+# + threshold - Minimum duration (in seconds) of the statements that are logged
+# + capacity - Maximum number of statements kept in the log. The oldest statements are dropped once the log is full
+# + redactParameters - Replace the parameter values of the logged statements with `?`
+# + explainInterval - Minimum interval (in seconds) between the query plans captured for a statement fingerprint with
+#                     `EXPLAIN FORMAT=JSON` on a separate connection of the pool (`0` disables capturing the plans)
+public type SlowQueryLogConfig record {|
+    decimal threshold = 1;
+    int capacity = 100;
+    boolean redactParameters = false;
+    decimal explainInterval = 60;
+|};
+
+# A statement recorded in the slow query log of a client.
+#
+# + fingerprint - SQL text of the statement with its parameters and literals replaced with `?`
+# + parameters - Parameter values of the statement, or `?` for each of them if the parameters are redacted
+# + recordedAt - Time at which the statement completed
+# + duration - Time (in seconds) taken by the statement
+# + poolWaitTime - Time (in seconds) waited for a connection of the pool, or `()` if it is included in the
+#                  `executionTime`. Not measured for the `call` method, and includes the time taken to prepare the
+#                  statement for the methods other than `queryColumns` and `queryColumnChunks`
+# + executionTime - Time (in seconds) taken to execute the statement on the server
+# + conversionTime - Time (in seconds) taken to read the rows of the result and convert them to Ballerina values, or
+#                    `()` if it is included in the `executionTime`. Measured for the streams returned by the `query`,
+#                    `queryCached` and `queryColumnChunks` methods once all the rows are read, and for the
+#                    `queryColumns` method
+# + plan - Query plan of the statement returned by `EXPLAIN FORMAT=JSON`, or `()` if the plan is not captured. The
+#          plans of `CALL` statements are not captured
+# + planError - Error message of capturing the query plan, if capturing the plan failed
+public type SlowQuery record {|
+    string fingerprint;
+    string[] parameters;
+    time:Utc recordedAt;
+    decimal duration;
+    decimal? poolWaitTime;
+    decimal executionTime;
+    decimal? conversionTime;
+    json plan;
+    string? planError;
+|};
+
+# Configuration for caching prepared statements on each pooled connection.
+#
+# + useServerPrepStmts - Prepare statements on the server so that repeated statements are not re-parsed
+# + size - Maximum number of prepared statements cached per connection
+# + maxSqlLength - Maximum length of the SQL text of a statement that is eligible for caching
+public type StatementCacheConfig record {|
+    boolean useServerPrepStmts = true;
+    int size = 25;
+    int maxSqlLength = 256;
+|};
+
+# Estimated statement cache usage of a client.
+# The driver keeps a separate cache on each pooled connection and does not expose its counters. These counters are
+# estimated by replaying the SQL texts of the client against a single cache of the configured size for the whole
+# client, and hence describe the statement working set of the client. They match the driver caches only when the
+# pool has a single connection, and otherwise undercount the misses.
+#
+# + hits - Estimated number of statements found in the cache
+# + misses - Estimated number of statements that had to be prepared
+# + evictions - Estimated number of statements evicted from the cache to make room for new ones
+public type StatementCacheEstimate record {|
+    int hits;
+    int misses;
+    int evictions;
+|};
+
+# Read the result through a server-side cursor, fetching `fetchSize` rows at a time. Closing the stream early
+# releases the cursor and the connection without reading the remaining rows.
+public const FETCH_CURSOR = "CURSOR";
+
+# Read the result row by row as the server sends it. The connection cannot be used for other statements until the
+# stream is closed, and closing the stream early reads and discards the remaining rows.
+public const FETCH_STREAMING = "STREAMING";
+
+# `FetchMode` as a union of the modes available to incrementally fetch query results.
+public type FetchMode FETCH_CURSOR|FETCH_STREAMING;
+
+# Configuration for fetching query results incrementally, so that the memory used by a `query` stream does not grow
+# with the number of rows.
+#
+# + mode - `mysql:FetchMode` to be used when reading the results
+# + fetchSize - Number of rows fetched from the server at a time in the `FETCH_CURSOR` mode
+public type ResultFetchConfig record {|
+    FetchMode mode = FETCH_CURSOR;
+    int fetchSize = 1000;
+|};
+
 # Establish an encrypted connection if the server supports encrypted connections. Falls back to an unencrypted
 # connection if an encrypted connection cannot be established.
 public const SSL_PREFERRED = "PREFERRED";
@@ -220,6 +1190,27 @@ isolated function createClient(Client mysqlClient, ClientConfiguration clientCon
     'class: "io.ballerina.stdlib.mysql.nativeimpl.ClientProcessor"
 } external;
 
+isolated function registerReplicas(Client mysqlClient, Client[] replicas, ReplicaConfig replicaConfig)
+    = @java:Method {
+    'class: "io.ballerina.stdlib.mysql.nativeimpl.ClientProcessor"
+} external;
+
+isolated function populateHostHealthStats(Client mysqlClient, HostHealthStats[] stats) = @java:Method {
+    'class: "io.ballerina.stdlib.mysql.nativeimpl.ClientProcessor"
+} external;
+
+isolated function populateReplicaStatus(Client mysqlClient, ReplicaStatus[] status) = @java:Method {
+    'class: "io.ballerina.stdlib.mysql.nativeimpl.ClientProcessor"
+} external;
+
+isolated function populateStatementStats(Client mysqlClient, StatementStats[] stats) = @java:Method {
+    'class: "io.ballerina.stdlib.mysql.nativeimpl.ClientProcessor"
+} external;
+
+isolated function drainSlowQueryLog(Client mysqlClient, SlowQuery[] slowQueries) = @java:Method {
+    'class: "io.ballerina.stdlib.mysql.nativeimpl.ClientProcessor"
+} external;
+
 isolated function nativeBatchExecute(Client sqlClient, sql:ParameterizedQuery[] sqlQueries)
 returns sql:ExecutionResult[]|sql:Error = @java:Method {
     'class: "io.ballerina.stdlib.mysql.nativeimpl.ExecuteProcessor"
@@ -0,0 +1,42 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/sql;
+
+// Reads the rows of a query result into the column arrays of a record, a chunk of rows at a time.
+isolated class ColumnChunkIterator {
+
+    public isolated function next() returns record {|record {} value;|}|sql:Error? {
+        record {}|sql:Error? chunk = nextChunk(self);
+        if chunk is record {} {
+            return {value: chunk};
+        }
+        return chunk;
+    }
+
+    public isolated function close() returns sql:Error? {
+        return closeChunks(self);
+    }
+}
+
+isolated function nextChunk(ColumnChunkIterator iterator) returns record {}|sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.mysql.nativeimpl.ColumnQueryProcessor"
+} external;
+
+isolated function closeChunks(ColumnChunkIterator iterator) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.mysql.nativeimpl.ColumnQueryProcessor"
+} external;
@@ -0,0 +1,70 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/sql;
+
+// Feeds the rows of a `LOAD DATA LOCAL INFILE` statement, which is executed while the rows are written.
+isolated class LocalInfileWriter {
+
+    isolated function init(Client dbClient, string tableName, string[] columns) returns sql:Error? {
+        return startLoad(self, dbClient, tableName, columns);
+    }
+
+    isolated function write(anydata[] row) returns sql:Error? = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.LoadDataProcessor",
+        name: "writeRow"
+    } external;
+
+    isolated function finish() returns LoadDataResult|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.LoadDataProcessor",
+        name: "finishLoad"
+    } external;
+
+    isolated function abort() = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.LoadDataProcessor",
+        name: "abortLoad"
+    } external;
+}
+
+isolated function loadRows(Client dbClient, string tableName, stream<record {}, error?> rows,
+        string[]|map<string> columns) returns LoadDataResult|sql:Error {
+    string[] fields = columns is string[] ? columns : columns.keys();
+    string[] columnNames = columns is string[] ? columns : columns.toArray();
+    LocalInfileWriter writer = check new (dbClient, tableName, columnNames);
+    error? result = from record {} row in rows
+        do {
+            anydata[] values = [];
+            foreach string fieldName in fields {
+                values.push(row[fieldName]);
+            }
+            check writer.write(values);
+        };
+    if result is error {
+        writer.abort();
+        error? closeResult = rows.close();
+        if result is sql:Error {
+            return result;
+        }
+        return error sql:ApplicationError("Failed to read the rows to load.", result);
+    }
+    return writer.finish();
+}
+
+isolated function startLoad(LocalInfileWriter writer, Client dbClient, string tableName, string[] columns)
+    returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.mysql.nativeimpl.LoadDataProcessor"
+} external;
@@ -0,0 +1,66 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/sql;
+
+// Holds the connection pool of a client in which the multi-statement protocol is enabled.
+isolated class MultiStatementConnections {
+}
+
+isolated function initMultiStatementClient(Client dbClient, ClientConfiguration clientConfig) returns sql:Error? {
+    return createMultiStatementClient(dbClient, new MultiStatementConnections(), clientConfig,
+        sql:getGlobalConnectionPool());
+}
+
+// Joins the queries into a single query with the statements separated by semicolons.
+isolated function joinQueries(sql:ParameterizedQuery[] sqlQueries) returns sql:ParameterizedQuery {
+    string[] strings = [];
+    sql:Value[] insertions = [];
+    string pending = "";
+    foreach int i in 0 ..< sqlQueries.length() {
+        readonly & string[] parts = sqlQueries[i].strings;
+        if i > 0 {
+            pending += ";\n";
+        }
+        pending += parts[0];
+        foreach int j in 1 ..< parts.length() {
+            strings.push(pending);
+            pending = parts[j];
+        }
+        pending = pending.trim();
+        if pending.endsWith(";") {
+            pending = pending.substring(0, pending.length() - 1);
+        }
+        insertions.push(...sqlQueries[i].insertions);
+    }
+    strings.push(pending);
+
+    sql:ParameterizedQuery joinedQuery = ``;
+    joinedQuery.strings = strings.cloneReadOnly();
+    joinedQuery.insertions = insertions;
+    return joinedQuery;
+}
+
+isolated function createMultiStatementClient(Client mysqlClient, MultiStatementConnections connections,
+        ClientConfiguration clientConf, sql:ConnectionPool globalConnPool) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.mysql.nativeimpl.ClientProcessor"
+} external;
+
+isolated function nativeQueryMultiple(Client sqlClient, sql:ParameterizedQuery sqlQuery,
+        typedesc<record {}>[] rowTypes) returns sql:ProcedureCallResult|sql:Error = @java:Method {
+    'class: "io.ballerina.stdlib.mysql.nativeimpl.CallProcessor"
+} external;
@@ -0,0 +1,190 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+import ballerina/time;
+
+// Alias of the query of a paged query, which is wrapped as a derived table
+const string PAGED_QUERY_ALIAS = "paged_query";
+
+// The iterator of the stream returned by `queryPaged`, which reads the rows a page at a time with a query that starts
+// after the key of the last row of the previous page. Created by the client, and by a `TableScan` for each partition,
+// to which the pages read are reported. Each page query reads one more row than the page, which is read again as the
+// first row of the next page, so that a key shared by the last row of a page and the rows after it is detected.
+class PagedResultIterator {
+    private final Client dbClient;
+    private final sql:ParameterizedQuery sqlQuery;
+    private final string[] & readonly keyColumns;
+    private final int pageSize;
+    private final boolean prefetch;
+    private final typedesc<record {}> rowType;
+    private final TableScan? scan;
+    private final int partition;
+    private record {}[] page = [];
+    private int index = 0;
+    private boolean lastPage = false;
+    private future<record {}[]|sql:Error>? nextPage = ();
+
+    function init(Client dbClient, sql:ParameterizedQuery sqlQuery, string[] keyColumns, int pageSize,
+            boolean prefetch, typedesc<record {}> rowType, TableScan? scan, int partition) {
+        self.dbClient = dbClient;
+        self.sqlQuery = sqlQuery;
+        self.keyColumns = keyColumns.cloneReadOnly();
+        self.pageSize = pageSize;
+        self.prefetch = prefetch;
+        self.rowType = rowType;
+        self.scan = scan;
+        self.partition = partition;
+        if prefetch {
+            // The first page is read while the stream is passed to the caller
+            sql:ParameterizedQuery|sql:Error pageQuery = self.createPageQuery();
+            if pageQuery is sql:ParameterizedQuery {
+                self.nextPage = start readPage(dbClient, pageQuery, rowType);
+            }
+        }
+    }
+
+    public function next() returns record {|record {} value;|}|sql:Error? {
+        if self.index == self.page.length() {
+            if self.lastPage {
+                return ();
+            }
+            decimal startTime = time:monotonicNow();
+            record {}[]|sql:Error page = self.readNextPage();
+            decimal waitTime = time:monotonicNow() - startTime;
+            sql:Error? duplicateKey = page is sql:Error ? () : checkUniqueKeys(page, self.keyColumns);
+            if page is sql:Error || duplicateKey is sql:Error {
+                self.lastPage = true;
+                self.page = [];
+                self.index = 0;
+                return page is sql:Error ? page : duplicateKey;
+            }
+            self.lastPage = page.length() <= self.pageSize;
+            if !self.lastPage {
+                // The row after the page is read again by the next page query
+                _ = page.pop();
+            }
+            self.page = page;
+            self.index = 0;
+            TableScan? scan = self.scan;
+            if scan !is () {
+                anydata lastKey = page.length() > 0 ? page[page.length() - 1][self.keyColumns[0]] : ();
+                scan.recordPage(self.partition, page.length(), waitTime, lastKey.cloneReadOnly(), self.lastPage);
+            }
+            if page.length() == 0 {
+                return ();
+            }
+            if self.prefetch && !self.lastPage {
+                // The next page is read on a separate connection while the rows of this page are consumed
+                sql:ParameterizedQuery|sql:Error pageQuery = self.createPageQuery();
+                if pageQuery is sql:ParameterizedQuery {
+                    self.nextPage = start readPage(self.dbClient, pageQuery, self.rowType);
+                }
+            }
+        }
+        record {} row = self.page[self.index];
+        self.index += 1;
+        return {value: row};
+    }
+
+    // Returns whether rows of the current page are left, without which the next call of `next` reads a page.
+    function hasBufferedRows() returns boolean {
+        return self.index < self.page.length();
+    }
+
+    public function close() returns sql:Error? {
+        self.page = [];
+        self.index = 0;
+        self.lastPage = true;
+        // A page that is being prefetched is discarded once it is read, after which its connection is released
+        self.nextPage = ();
+    }
+
+    private function readNextPage() returns record {}[]|sql:Error {
+        future<record {}[]|sql:Error>? nextPage = self.nextPage;
+        if nextPage !is () {
+            self.nextPage = ();
+            return wait nextPage;
+        }
+        sql:ParameterizedQuery pageQuery = check self.createPageQuery();
+        return readPage(self.dbClient, pageQuery, self.rowType);
+    }
+
+    // Creates the query of the page after the current page, e.g. `SELECT * FROM (<query>) AS paged_query WHERE
+    // (a, b) > (?, ?) ORDER BY a, b LIMIT 1001`. The first page is read without the key condition.
+    private function createPageQuery() returns sql:ParameterizedQuery|sql:Error {
+        string[] columns = from string column in self.keyColumns
+            select PAGED_QUERY_ALIAS + "." + quoteIdentifier(column);
+        string keyList = string:'join(", ", ...columns);
+        string[] strings = [string `SELECT * FROM (${self.sqlQuery.strings[0]}`, ...self.sqlQuery.strings.slice(1)];
+        sql:Value[] insertions = [...self.sqlQuery.insertions];
+        int lastIndex = strings.length() - 1;
+        strings[lastIndex] += string `) AS ${PAGED_QUERY_ALIAS}`;
+        if self.page.length() > 0 {
+            record {} lastRow = self.page[self.page.length() - 1];
+            strings[lastIndex] += self.keyColumns.length() == 1 ? string ` WHERE ${keyList} > ` :
+                string ` WHERE (${keyList}) > (`;
+            foreach int i in 0 ..< self.keyColumns.length() {
+                string column = self.keyColumns[i];
+                anydata value = lastRow[column];
+                if !lastRow.hasKey(column) || value !is sql:Value {
+                    return error sql:ApplicationError(string `The key column '${column}' is not a field of the ` +
+                        "rows of the paged query.");
+                }
+                if value is () {
+                    return error sql:ApplicationError(string `The key column '${column}' of a row of the paged ` +
+                        "query is null.");
+                }
+                insertions.push(value);
+                strings.push(i == self.keyColumns.length() - 1 ? "" : ", ");
+            }
+            if self.keyColumns.length() > 1 {
+                strings[strings.length() - 1] += ")";
+            }
+        }
+        strings[strings.length() - 1] += string ` ORDER BY ${keyList} LIMIT ${self.pageSize + 1}`;
+
+        sql:ParameterizedQuery pageQuery = ``;
+        pageQuery.strings = strings.cloneReadOnly();
+        pageQuery.insertions = insertions;
+        return pageQuery;
+    }
+}
+
+// Checks that no two rows of a page have the same key. As the rows are ordered by the key, the rows with the same key
+// are next to each other.
+isolated function checkUniqueKeys(record {}[] page, readonly & string[] keyColumns) returns sql:Error? {
+    foreach int i in 1 ..< page.length() {
+        boolean sameKey = true;
+        foreach string column in keyColumns {
+            if page[i][column] != page[i - 1][column] {
+                sameKey = false;
+                break;
+            }
+        }
+        if sameKey {
+            return error sql:ApplicationError("The key of the paged query is not unique, as more than one row has " +
+                "the same values of the key columns.");
+        }
+    }
+    return;
+}
+
+isolated function readPage(Client dbClient, sql:ParameterizedQuery pageQuery, typedesc<record {}> rowType)
+        returns record {}[]|sql:Error {
+    stream<record {}, sql:Error?> rows = dbClient->query(pageQuery, rowType);
+    return from record {} row in rows select row;
+}
@@ -0,0 +1,22 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+
+# Represents an error returned when the execution of a statement exceeds its timeout, which is either the
+# `queryTimeout` option of the client or the timeout given to `queryWithTimeout`, `queryRowWithTimeout` or
+# `executeWithTimeout`. The statement is aborted on the server, and its connection remains usable.
+public type QueryTimeoutError distinct sql:DatabaseError;
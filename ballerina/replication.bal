@@ -0,0 +1,81 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+
+// Creates a client for each replica server with the connection options of the primary client and registers them for
+// routing.
+isolated function initReplicas(Client primary, ClientConfiguration clientConfig, Options options,
+        ReplicaConfig replicaConfig) returns sql:Error? {
+    if replicaConfig.replicas.length() == 0 {
+        closeClients([primary]);
+        return error sql:ApplicationError("ReplicaConfig's 'replicas' field cannot be an empty array.");
+    }
+    if replicaConfig.lagCheckInterval <= 0d {
+        closeClients([primary]);
+        return error sql:ApplicationError("ReplicaConfig's 'lagCheckInterval' field should be greater than zero.");
+    }
+
+    Options replicaOptions = getReplicaOptions(options);
+    Client[] replicas = [];
+    foreach ReplicaServer replica in replicaConfig.replicas {
+        Client|sql:Error replicaClient = new (replica.host, clientConfig.user, clientConfig.password,
+            clientConfig.database, replica.port, replicaOptions, clientConfig.connectionPool);
+        if replicaClient is sql:Error {
+            closeClients([primary, ...replicas]);
+            return error sql:ApplicationError(string `Failed to initialize the replica ${replica.host}:${replica.port}.`,
+                replicaClient);
+        }
+        replicas.push(replicaClient);
+    }
+    registerReplicas(primary, replicas, replicaConfig);
+}
+
+// The queries routed to the replicas are timed out, cached, measured and logged by the primary client, hence the
+// replicas are given only the options of their connections.
+isolated function getReplicaOptions(Options options) returns Options {
+    Options replicaOptions = {
+        connectTimeout: options.connectTimeout,
+        socketTimeout: options.socketTimeout,
+        noAccessToProcedureBodies: options.noAccessToProcedureBodies,
+        useCompression: options.useCompression,
+        trackSessionState: options.trackSessionState
+    };
+    SecureSocket? ssl = options?.ssl;
+    if ssl !is () {
+        replicaOptions.ssl = ssl.clone();
+    }
+    string? serverTimezone = options?.serverTimezone;
+    if serverTimezone !is () {
+        replicaOptions.serverTimezone = serverTimezone;
+    }
+    StatementCacheConfig? statementCache = options?.statementCache;
+    if statementCache !is () {
+        replicaOptions.statementCache = statementCache.clone();
+    }
+    ResultFetchConfig? resultFetch = options?.resultFetch;
+    if resultFetch !is () {
+        replicaOptions.resultFetch = resultFetch.clone();
+    }
+    return replicaOptions;
+}
+
+isolated function closeClients(Client[] clients) {
+    foreach Client dbClient in clients {
+        // Errors while releasing the pools of a failed initialization are not reported over the initialization error
+        sql:Error? closeResult = dbClient.close();
+    }
+}
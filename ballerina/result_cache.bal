@@ -0,0 +1,105 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+import ballerinax/cdc;
+
+# A CDC service that removes the cached results of a client that are tagged with the table of each change event.
+# Attach it to a `mysql:CdcListener` that captures the changes of the tables from which the cached results are read.
+public isolated service class ResultCacheInvalidator {
+    *cdc:Service;
+
+    private final Client dbClient;
+
+    # Initializes the service with the client of which the cached results are removed.
+    #
+    # + dbClient - The client with the `resultCache` option
+    public isolated function init(Client dbClient) {
+        self.dbClient = dbClient;
+    }
+
+    # Removes the cached results tagged with the table into which a row is inserted.
+    #
+    # + after - The inserted row
+    # + tableName - The name of the table
+    remote isolated function onCreate(record {} after, string tableName) {
+        self.dbClient.invalidateResultCache(tableName);
+    }
+
+    # Removes the cached results tagged with the table of which a row is updated.
+    #
+    # + before - The row before the update
+    # + after - The row after the update
+    # + tableName - The name of the table
+    remote isolated function onUpdate(record {} before, record {} after, string tableName) {
+        self.dbClient.invalidateResultCache(tableName);
+    }
+
+    # Removes the cached results tagged with the table from which a row is deleted.
+    #
+    # + before - The deleted row
+    # + tableName - The name of the table
+    remote isolated function onDelete(record {} before, string tableName) {
+        self.dbClient.invalidateResultCache(tableName);
+    }
+}
+
+// Returns the rows of a cached query result, or the error of the query. The rows of a result that is too large to be
+// cached are followed by the rest of the rows of the stream of the query.
+class CachedResultIterator {
+    private final readonly & record {}[] rows;
+    private sql:Error? err;
+    private int index = 0;
+    private final stream<record {}, sql:Error?>? rest;
+
+    isolated function init(readonly & record {}[] rows, sql:Error? err, stream<record {}, sql:Error?>? rest) {
+        self.rows = rows;
+        self.err = err;
+        self.rest = rest;
+    }
+
+    public isolated function next() returns record {|record {} value;|}|sql:Error? {
+        lock {
+            sql:Error? err = self.err;
+            if err is sql:Error {
+                self.err = ();
+                self.index = self.rows.length();
+                return err;
+            }
+            if self.index < self.rows.length() {
+                readonly & record {} row = self.rows[self.index];
+                self.index += 1;
+                return {value: row};
+            }
+        }
+        stream<record {}, sql:Error?>? rest = self.rest;
+        if rest is stream<record {}, sql:Error?> {
+            return rest.next();
+        }
+        return;
+    }
+
+    public isolated function close() returns sql:Error? {
+        lock {
+            self.err = ();
+            self.index = self.rows.length();
+        }
+        stream<record {}, sql:Error?>? rest = self.rest;
+        if rest is stream<record {}, sql:Error?> {
+            return rest.close();
+        }
+    }
+}
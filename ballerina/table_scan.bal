@@ -0,0 +1,327 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/sql;
+import ballerina/time;
+
+# A scan of a table, of which the rows are split into partitions by the ranges of a key. The partitions are read
+# concurrently, each as a series of page queries on a connection of its own from the pool. Created by the `scanTable`
+# method of the client.
+public isolated class TableScan {
+    private final Client dbClient;
+    private final string tableName;
+    private final string keyColumn;
+    private final int pageSize;
+    private final ScanPartition[] & readonly partitions;
+    private final PartitionState[] states = [];
+    // Read by the native code that creates the streams of the scan
+    final int partitionCount;
+
+    isolated function init(Client dbClient, string tableName, string keyColumn, int pageSize,
+            ScanPartition[] & readonly partitions) {
+        self.dbClient = dbClient;
+        self.tableName = tableName;
+        self.keyColumn = keyColumn;
+        self.pageSize = pageSize;
+        self.partitions = partitions;
+        lock {
+            foreach int _ in 0 ..< partitions.length() {
+                self.states.push({});
+            }
+        }
+        self.partitionCount = partitions.length();
+    }
+
+    # Returns the rows of all the partitions as a single stream. The partitions are read concurrently, and the rows
+    # of a page of each partition are returned in turn, hence the rows are not in the order of the key. The stats of
+    # the partitions are reset.
+    #
+    # + rowType - Record type to map the rows to
+    # + return - Stream of the rows of the table
+    public isolated function rows(typedesc<record {}> rowType = <>) returns stream<rowType, sql:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.QueryProcessor",
+        name: "nativeScanRows"
+    } external;
+
+    # Returns a stream of the rows of each partition, in the order of the key, so that the partitions can be consumed
+    # concurrently. The first page of each partition is read as soon as the streams are created. The stats of the
+    # partitions are reset.
+    #
+    # + rowType - Record type to map the rows to
+    # + return - Streams of the rows of the partitions, in the order of the partitions
+    public isolated function partitionRows(typedesc<record {}> rowType = <>)
+    returns stream<rowType, sql:Error?>[] = @java:Method {
+        'class: "io.ballerina.stdlib.mysql.nativeimpl.QueryProcessor",
+        name: "nativeScanPartitionRows"
+    } external;
+
+    # Returns the progress of each partition, since the last stream of the partition was created.
+    #
+    # + return - Stats of the partitions, in the order of the partitions
+    public isolated function getPartitionStats() returns PartitionStats[] {
+        decimal now = time:monotonicNow();
+        PartitionState[] states;
+        lock {
+            states = self.states.clone();
+        }
+        return from int i in 0 ..< states.length() select createPartitionStats(i, self.partitions[i], states[i], now);
+    }
+
+    isolated function getClient() returns Client {
+        return self.dbClient;
+    }
+
+    isolated function getKeyColumn() returns string {
+        return self.keyColumn;
+    }
+
+    isolated function getPageSize() returns int {
+        return self.pageSize;
+    }
+
+    // Creates the query of the rows of a partition, e.g. `SELECT * FROM t WHERE k >= ? AND k < ?`. The first and the
+    // last partitions are open-ended, so that the rows inserted beyond the keys seen when planning the scan are read.
+    isolated function createPartitionQuery(int partition) returns sql:ParameterizedQuery {
+        ScanPartition scanPartition = self.partitions[partition];
+        string key = quoteIdentifier(self.keyColumn);
+        string[] strings = [string `SELECT * FROM ${self.tableName}`];
+        sql:Value[] insertions = [];
+        anydata lowerBound = scanPartition.lowerBound;
+        if lowerBound !is () {
+            strings[0] += string ` WHERE ${key} >= `;
+            strings.push("");
+            insertions.push(<sql:Value>lowerBound);
+        }
+        anydata upperBound = scanPartition.upperBound;
+        if upperBound !is () {
+            strings[strings.length() - 1] += string ` ${insertions.length() == 0 ? "WHERE" : "AND"} ${key} < `;
+            strings.push("");
+            insertions.push(<sql:Value>upperBound);
+        }
+        return createScanQuery(strings, insertions);
+    }
+
+    isolated function startPartition(int partition) {
+        lock {
+            self.states[partition] = {startTime: time:monotonicNow()};
+        }
+    }
+
+    isolated function recordPage(int partition, int rowCount, decimal waitTime, anydata & readonly lastKey,
+            boolean completed) {
+        lock {
+            PartitionState state = self.states[partition];
+            state.rowsRead += rowCount;
+            state.pagesRead += 1;
+            state.pageWaitTime += waitTime;
+            if rowCount > 0 {
+                state.lastKey = lastKey;
+            }
+            if completed {
+                state.endTime = time:monotonicNow();
+            }
+        }
+    }
+}
+
+// The bounds of a partition of a table scan, and the estimates of its size that its progress is measured against.
+type ScanPartition record {|
+    anydata lowerBound;
+    anydata upperBound;
+    // The number of rows when the table is split by row count
+    int? rowCount = ();
+    // The lowest key and the key after the highest key when the table is split by key range
+    [decimal, decimal]? keyRange = ();
+|};
+
+type PartitionState record {|
+    int rowsRead = 0;
+    int pagesRead = 0;
+    decimal pageWaitTime = 0;
+    decimal? startTime = ();
+    decimal? endTime = ();
+    anydata lastKey = ();
+|};
+
+// The iterator of the streams of a `TableScan`, which reads the rows of one or more partitions. Each partition is read
+// by a `PagedResultIterator` that prefetches its pages, and a page of each partition is returned in turn, so that the
+// next pages of the other partitions are read while the rows of a page are consumed. Created by the client.
+class TableScanIterator {
+    private final PagedResultIterator[] partitions;
+    private int current = 0;
+
+    function init(TableScan scan, int[] partitions, typedesc<record {}> rowType) {
+        self.partitions = from int partition in partitions select createPartitionIterator(scan, partition, rowType);
+    }
+
+    public function next() returns record {|record {} value;|}|sql:Error? {
+        while self.partitions.length() > 0 {
+            PagedResultIterator partition = self.partitions[self.current];
+            record {|record {} value;|}|sql:Error? row = partition.next();
+            if row is sql:Error {
+                sql:Error? closed = self.close();
+                return closed is sql:Error ? closed : row;
+            }
+            if row is () {
+                _ = self.partitions.remove(self.current);
+                if self.current == self.partitions.length() {
+                    self.current = 0;
+                }
+                continue;
+            }
+            if !partition.hasBufferedRows() {
+                self.current = (self.current + 1) % self.partitions.length();
+            }
+            return row;
+        }
+        return ();
+    }
+
+    public function close() returns sql:Error? {
+        foreach PagedResultIterator partition in self.partitions {
+            check partition.close();
+        }
+        self.partitions.removeAll();
+    }
+}
+
+function createPartitionIterator(TableScan scan, int partition, typedesc<record {}> rowType)
+        returns PagedResultIterator {
+    scan.startPartition(partition);
+    return new PagedResultIterator(scan.getClient(), scan.createPartitionQuery(partition), [scan.getKeyColumn()],
+        scan.getPageSize(), true, rowType, scan, partition);
+}
+
+isolated function planTableScan(Client dbClient, string tableName, string keyColumn, TableScanOptions options)
+        returns TableScan|sql:Error {
+    if options.partitions <= 0 {
+        return error sql:ApplicationError("The 'partitions' field of the table scan options should be greater than " +
+            "zero.");
+    }
+    if options.pageSize <= 0 {
+        return error sql:ApplicationError("The 'pageSize' field of the table scan options should be greater than " +
+            "zero.");
+    }
+    string table = quoteTableName(tableName);
+    string key = quoteIdentifier(keyColumn);
+    ScanPartition[] partitions = options.split == SPLIT_KEY_RANGE ?
+        check splitByKeyRange(dbClient, table, key, options.partitions) :
+        check splitByRowCount(dbClient, table, key, options.partitions);
+    return new TableScan(dbClient, table, keyColumn, options.pageSize, partitions.cloneReadOnly());
+}
+
+// Splits the range between the lowest and the highest key into ranges of the same number of keys.
+isolated function splitByKeyRange(Client dbClient, string tableName, string keyColumn, int partitionCount)
+        returns ScanPartition[]|sql:Error {
+    record {|int? lowest; int? highest;|} range = check dbClient->queryRow(createScanQuery(
+        [string `SELECT MIN(${keyColumn}) AS lowest, MAX(${keyColumn}) AS highest FROM ${tableName}`]));
+    int? lowest = range.lowest;
+    int? highest = range.highest;
+    if lowest is () || highest is () {
+        return [{lowerBound: (), upperBound: ()}];
+    }
+    // The range is computed as a decimal, as it can exceed the range of an int
+    decimal span = <decimal>highest - <decimal>lowest + 1;
+    int count = span < <decimal>partitionCount ? <int>span : partitionCount;
+    ScanPartition[] partitions = [];
+    int? lowerBound = ();
+    foreach int i in 1 ... count {
+        int? upperBound = i == count ? () : lowest + <int>(span * <decimal>i / <decimal>count).floor();
+        decimal rangeStart = <decimal>(lowerBound ?: lowest);
+        decimal rangeEnd = upperBound is () ? <decimal>highest + 1 : <decimal>upperBound;
+        partitions.push({lowerBound, upperBound, keyRange: [rangeStart, rangeEnd]});
+        lowerBound = upperBound;
+    }
+    return partitions;
+}
+
+// Splits the rows into partitions of the same number of rows. The boundaries are read from the key index at equal
+// steps, each starting from the previous boundary, so that the index is read about once in addition to the count.
+isolated function splitByRowCount(Client dbClient, string tableName, string keyColumn, int partitionCount)
+        returns ScanPartition[]|sql:Error {
+    int rowCount = check dbClient->queryRow(createScanQuery([string `SELECT COUNT(*) FROM ${tableName}`]));
+    int count = rowCount < partitionCount ? rowCount : partitionCount;
+    anydata[] boundaries = [];
+    int[] offsets = [0];
+    foreach int i in 1 ..< count {
+        int offset = rowCount * i / count;
+        string selectClause = string `SELECT ${keyColumn} AS boundary FROM ${tableName}`;
+        string orderClause = string ` ORDER BY ${keyColumn} LIMIT 1 OFFSET ${offset - offsets[offsets.length() - 1]}`;
+        sql:ParameterizedQuery boundaryQuery = boundaries.length() == 0 ?
+            createScanQuery([selectClause + orderClause]) :
+            createScanQuery([string `${selectClause} WHERE ${keyColumn} >= `, orderClause],
+                [<sql:Value>boundaries[boundaries.length() - 1]]);
+        record {}|sql:Error row = dbClient->queryRow(boundaryQuery);
+        if row is sql:NoRowsError {
+            // Rows were deleted after the rows were counted
+            break;
+        }
+        anydata boundary = (check row)["boundary"];
+        if boundary !is sql:Value || boundary is () {
+            return error sql:ApplicationError(string `The key column ${keyColumn} of the table scan should not be ` +
+                "null.");
+        }
+        boundaries.push(boundary);
+        offsets.push(offset);
+    }
+    offsets.push(rowCount);
+    ScanPartition[] partitions = [];
+    foreach int i in 0 ... boundaries.length() {
+        partitions.push({
+            lowerBound: i == 0 ? () : boundaries[i - 1],
+            upperBound: i == boundaries.length() ? () : boundaries[i],
+            rowCount: offsets[i + 1] - offsets[i]
+        });
+    }
+    return partitions;
+}
+
+isolated function createPartitionStats(int partition, ScanPartition scanPartition, PartitionState state, decimal now)
+        returns PartitionStats {
+    decimal? startTime = state.startTime;
+    decimal? endTime = state.endTime;
+    decimal elapsedTime = startTime is () ? 0 : (endTime ?: now) - startTime;
+    float progress = 0;
+    int? rowCount = scanPartition.rowCount;
+    [decimal, decimal]? keyRange = scanPartition.keyRange;
+    anydata lastKey = state.lastKey;
+    if endTime !is () {
+        progress = 1;
+    } else if rowCount is int && rowCount > 0 {
+        progress = <float>state.rowsRead / <float>rowCount;
+    } else if keyRange is [decimal, decimal] && lastKey is int {
+        progress = <float>((<decimal>lastKey - keyRange[0] + 1) / (keyRange[1] - keyRange[0]));
+    }
+    return {
+        partition,
+        lowerBound: scanPartition.lowerBound.clone(),
+        upperBound: scanPartition.upperBound.clone(),
+        rowsRead: state.rowsRead,
+        pagesRead: state.pagesRead,
+        pageWaitTime: state.pageWaitTime,
+        rowsPerSecond: elapsedTime > 0 ? <decimal>state.rowsRead / elapsedTime : 0,
+        progress: progress > 1.0 ? 1.0 : progress,
+        completed: endTime !is ()
+    };
+}
+
+isolated function createScanQuery(string[] strings, sql:Value[] insertions = []) returns sql:ParameterizedQuery {
+    sql:ParameterizedQuery query = ``;
+    query.strings = strings.cloneReadOnly();
+    query.insertions = insertions;
+    return query;
+}
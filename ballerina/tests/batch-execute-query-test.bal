@@ -72,6 +72,148 @@ function batchInsertIntoDataTableFailure() {
     }
 }
 
+@test:Config {
+    groups: ["batch-execute"],
+    dependsOn: [batchInsertIntoDataTableFailure]
+}
+function batchInsertIntoDataTableWithRewrite() returns error? {
+    var data = [
+        {intVal: 10, longVal: 9223372036854774807, floatVal: 123.34},
+        {intVal: 11, longVal: 9223372036854774807, floatVal: 123.34},
+        {intVal: 12, longVal: 9223372036854774807, floatVal: 123.34}
+    ];
+    sql:ParameterizedQuery[] sqlQueries =
+        from var row in data
+        select `INSERT INTO DataTable (int_type, long_type, float_type) VALUES (${row.intVal}, ${row.longVal}, ${row.floatVal})`;
+    Client dbClient = check new (host, user, password, batchExecuteDB, port, {rewriteBatchedInserts: true});
+    sql:ExecutionResult[] result = check dbClient->batchExecute(sqlQueries);
+    int firstId = check dbClient->queryRow(`SELECT id FROM DataTable WHERE int_type = 10`);
+    int lastId = check dbClient->queryRow(`SELECT id FROM DataTable WHERE int_type = 12`);
+    check dbClient.close();
+    validateBatchExecutionResult(result, [1, 1, 1], [-1, -1, -1]);
+    test:assertEquals(result[0].lastInsertId, firstId);
+    test:assertEquals(result[2].lastInsertId, lastId);
+}
+
+@test:Config {
+    groups: ["batch-execute"],
+    dependsOn: [batchInsertIntoDataTableWithRewrite]
+}
+function batchInsertIntoDataTableWithRewriteAndKeys() returns error? {
+    var data = [{id: 500, intVal: 20}, {id: 510, intVal: 21}];
+    sql:ParameterizedQuery[] sqlQueries =
+        from var row in data
+        select `INSERT INTO DataTable (id, int_type) VALUES (${row.id}, ${row.intVal})`;
+    Client dbClient = check new (host, user, password, batchExecuteDB, port, {rewriteBatchedInserts: true});
+    sql:ExecutionResult[] result = check dbClient->batchExecute(sqlQueries);
+    check dbClient.close();
+    // The keys given by the rows are not consecutive, hence they are not derived
+    test:assertEquals(result, [{affectedRowCount: 1, lastInsertId: ()}, {affectedRowCount: 1, lastInsertId: ()}]);
+}
+
+@test:Config {
+    groups: ["batch-execute"],
+    dependsOn: [batchInsertIntoDataTableWithRewriteAndKeys]
+}
+function batchInsertIntoDataTableWithRewriteFailure() returns error? {
+    var data = [
+        {intVal: 13, longVal: 9223372036854774807, floatVal: 123.34},
+        {intVal: 1, longVal: 9223372036854774807, floatVal: 123.34}
+    ];
+    sql:ParameterizedQuery[] sqlQueries =
+        from var row in data
+        select `INSERT INTO DataTable (int_type, long_type, float_type) VALUES (${row.intVal}, ${row.longVal}, ${row.floatVal})`;
+    Client dbClient = check new (host, user, password, batchExecuteDB, port, {rewriteBatchedInserts: true});
+    sql:ExecutionResult[]|error result = dbClient->batchExecute(sqlQueries);
+    int count = check dbClient->queryRow(`SELECT COUNT(*) FROM DataTable WHERE int_type = 13`);
+    check dbClient.close();
+
+    if result is sql:BatchExecuteError {
+        sql:BatchExecuteErrorDetail errorDetails = result.detail();
+        test:assertEquals(errorDetails.executionResults.length(), 2);
+        test:assertEquals(errorDetails.executionResults[0].affectedRowCount, -3);
+        test:assertEquals(errorDetails.executionResults[1].affectedRowCount, -3);
+    } else {
+        test:assertFail("Batch Execute Error expected.");
+    }
+    test:assertEquals(count, 0, "Rows of a failed multi-row insert should not be inserted.");
+}
+
+@test:Config {
+    groups: ["batch-execute"],
+    dependsOn: [batchInsertIntoDataTableWithRewriteFailure]
+}
+function batchUpdateDataTableWithRewriteEnabled() returns error? {
+    var data = [
+        {intVal: 10, floatVal: 200.5},
+        {intVal: 11, floatVal: 200.5}
+    ];
+    sql:ParameterizedQuery[] sqlQueries =
+        from var row in data
+        select `UPDATE DataTable SET float_type = ${row.floatVal} WHERE int_type = ${row.intVal}`;
+    Client dbClient = check new (host, user, password, batchExecuteDB, port, {rewriteBatchedInserts: true});
+    sql:ExecutionResult[] result = check dbClient->batchExecute(sqlQueries);
+    check dbClient.close();
+    test:assertEquals(result.length(), 2);
+    test:assertEquals(result[0].affectedRowCount, 1);
+    test:assertEquals(result[1].affectedRowCount, 1);
+}
+
+@test:Config {
+    groups: ["batch-execute"],
+    dependsOn: [batchUpdateDataTableWithRewriteEnabled]
+}
+function loadDataIntoDataTable() returns error? {
+    record {int intVal; int longVal; float floatVal;}[] data = [
+        {intVal: 100, longVal: 9223372036854774807, floatVal: 123.34},
+        {intVal: 101, longVal: 9223372036854774807, floatVal: 123.34},
+        {intVal: 102, longVal: 9223372036854774807, floatVal: 123.34}
+    ];
+    Client dbClient = check new (host, user, password, batchExecuteDB, port, {allowLoadLocalInfile: true});
+    LoadDataResult result = check dbClient->loadData("DataTable", data.toStream(),
+        {intVal: "int_type", longVal: "long_type", floatVal: "float_type"});
+    int count = check dbClient->queryRow(`SELECT COUNT(*) FROM DataTable WHERE int_type BETWEEN 100 AND 102`);
+    check dbClient.close();
+    test:assertEquals(result.rowsLoaded, 3);
+    test:assertEquals(result.warnings, []);
+    test:assertEquals(count, 3);
+}
+
+@test:Config {
+    groups: ["batch-execute"],
+    dependsOn: [loadDataIntoDataTable]
+}
+function loadDataIntoDataTableWithDuplicates() returns error? {
+    record {int int_type; int? long_type;}[] data = [
+        {int_type: 103, long_type: ()},
+        {int_type: 1, long_type: 10}
+    ];
+    Client dbClient = check new (host, user, password, batchExecuteDB, port, {allowLoadLocalInfile: true});
+    LoadDataResult result = check dbClient->loadData("DataTable", data.toStream(), ["int_type", "long_type"]);
+    int? longType = check dbClient->queryRow(`SELECT long_type FROM DataTable WHERE int_type = 103`);
+    check dbClient.close();
+    // Duplicate rows are skipped with a warning when the data is loaded from the client
+    test:assertEquals(result.rowsLoaded, 1);
+    test:assertEquals(result.warnings.length(), 1);
+    test:assertEquals(longType, ());
+}
+
+@test:Config {
+    groups: ["batch-execute"]
+}
+function loadDataWithoutLocalInfileOption() returns error? {
+    record {int int_type;}[] data = [{int_type: 104}];
+    Client dbClient = check new (host, user, password, batchExecuteDB, port);
+    LoadDataResult|sql:Error result = dbClient->loadData("DataTable", data.toStream(), ["int_type"]);
+    check dbClient.close();
+    if result is sql:Error {
+        test:assertEquals(result.message(),
+            "Loading data requires the 'allowLoadLocalInfile' option to be enabled in the client.");
+    } else {
+        test:assertFail("Loading data without the allowLoadLocalInfile option failure expected.");
+    }
+}
+
 isolated function validateBatchExecutionResult(sql:ExecutionResult[] results, int[] rowCount, int[] lastId) {
     test:assertEquals(results.length(), rowCount.length());
 
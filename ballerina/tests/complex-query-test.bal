@@ -227,3 +227,50 @@ function testColumnAlias() returns error? {
     test:assertEquals(counter, 1, "Expected only one data row.");
     check dbClient.close();
 }
+
+@test:Config {
+    groups: ["query", "query-complex-params"]
+}
+function testQueryWithCursorFetch() returns error? {
+    Client dbClient = check new (host, user, password, complexQueryDb, port,
+        options = {resultFetch: {mode: FETCH_CURSOR, fetchSize: 1}}, connectionPool = {maxOpenConnections: 1});
+    stream<record {}, error?> streamData = dbClient->query(`SELECT * FROM DataTable`);
+    record {|record {} value;|}? data = check streamData.next();
+    check streamData.close();
+    test:assertTrue(data is record {|record {} value;|}, "Expected a row from the cursor.");
+
+    // The only pooled connection is expected to be released when the stream is closed early
+    int count = check dbClient->queryRow(`SELECT COUNT(*) FROM DataTable`);
+    test:assertTrue(count > 0);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "query-complex-params"]
+}
+function testQueryWithStreamingFetch() returns error? {
+    Client dbClient = check new (host, user, password, complexQueryDb, port,
+        options = {resultFetch: {mode: FETCH_STREAMING}});
+    stream<record {}, error?> streamData = dbClient->query(`SELECT * FROM DataTable`);
+    int count = 0;
+    check from record {} _ in streamData
+        do {
+            count += 1;
+        };
+    int expected = check dbClient->queryRow(`SELECT COUNT(*) FROM DataTable`);
+    test:assertEquals(count, expected);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "query-complex-params"]
+}
+function testQueryWithInvalidFetchSize() {
+    Client|sql:Error dbClient = new (host, user, password, complexQueryDb, port,
+        options = {resultFetch: {fetchSize: 0}});
+    if dbClient is sql:Error {
+        test:assertEquals(dbClient.message(), "ResultFetchConfig's 'fetchSize' field should be greater than zero.");
+    } else {
+        test:assertFail("Initialising client with invalid fetch size failure expected.");
+    }
+}
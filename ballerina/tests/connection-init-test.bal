@@ -182,3 +182,365 @@ function testServerFailoverFailure() returns error? {
         test:assertFail("Initialising connection with server failover params failure expected.");
     }
 }
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testWithStatementCache() returns error? {
+    Options options = {
+        statementCache: {
+            size: 2
+        }
+    };
+    Client dbClient = check new (host, user, password, connectDB, port, options);
+    foreach int id in [1, 2, 1] {
+        _ = check dbClient->queryRow(`SELECT firstName FROM Customers WHERE customerId = ${id}`, string);
+    }
+    _ = check dbClient->queryRow(`SELECT lastName FROM Customers WHERE customerId = 1`, string);
+    _ = check dbClient->queryRow(`SELECT country FROM Customers WHERE customerId = 1`, string);
+    StatementCacheEstimate? stats = dbClient.getStatementCacheEstimate();
+    check dbClient.close();
+    test:assertEquals(stats, {hits: 2, misses: 3, evictions: 1});
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testWithoutStatementCache() returns error? {
+    Client dbClient = check new (host, user, password, connectDB, port);
+    StatementCacheEstimate? stats = dbClient.getStatementCacheEstimate();
+    check dbClient.close();
+    test:assertEquals(stats, ());
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testWithInvalidStatementCacheSize() {
+    Options options = {
+        statementCache: {
+            size: 0
+        }
+    };
+    Client|sql:Error applicationError = new (host, user, password, connectDB, port, options);
+    if applicationError is sql:Error {
+        test:assertEquals(applicationError.message(), "StatementCacheConfig's 'size' field should be greater than zero.");
+    } else {
+        test:assertFail("Initialising connection with invalid statement cache size failure expected.");
+    }
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testWithReplicaConfig() returns error? {
+    Options options = {
+        replicaConfig: {
+            replicas: [{host, port}],
+            balancing: LEAST_OUTSTANDING_REQUESTS
+        }
+    };
+    Client dbClient = check new (host, user, password, connectDB, port, options);
+    int id = check dbClient->queryRow(`SELECT customerId FROM Customers WHERE customerId = 1`);
+    test:assertEquals(id, 1);
+    ReplicaStatus[] status = dbClient.getReplicaStatus();
+    test:assertEquals(status.length(), 1);
+    test:assertEquals(status[0].host, host);
+    test:assertEquals(status[0].port, port);
+    test:assertEquals(status[0].outstandingRequests, 0);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testWithReplicaConfigStream() returns error? {
+    Client dbClient = check new (host, user, password, connectDB, port, {replicaConfig: {replicas: [{host, port}]}});
+    stream<record {int customerId;}, sql:Error?> customers =
+        dbClient->query(`SELECT customerId FROM Customers WHERE customerId IN (1, 2) ORDER BY customerId`);
+    // The read is in progress until the stream is closed
+    _ = check customers.next();
+    int openRequests = dbClient.getReplicaStatus()[0].outstandingRequests;
+    check customers.close();
+    int closedRequests = dbClient.getReplicaStatus()[0].outstandingRequests;
+    stream<record {int customerId;}, sql:Error?> allCustomers =
+        dbClient->query(`SELECT customerId FROM Customers WHERE customerId IN (1, 2) ORDER BY customerId`);
+    check from record {int customerId;} _ in allCustomers do {};
+    int readRequests = dbClient.getReplicaStatus()[0].outstandingRequests;
+    check dbClient.close();
+    test:assertEquals([openRequests, closedRequests, readRequests], [1, 0, 0]);
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testWithoutReplicaConfig() returns error? {
+    Client dbClient = check new (host, user, password, connectDB, port);
+    test:assertEquals(dbClient.getReplicaStatus(), []);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testWithEmptyReplicas() {
+    Options options = {
+        replicaConfig: {
+            replicas: []
+        }
+    };
+    Client|sql:Error applicationError = new (host, user, password, connectDB, port, options);
+    if applicationError is sql:Error {
+        test:assertEquals(applicationError.message(), "ReplicaConfig's 'replicas' field cannot be an empty array.");
+    } else {
+        test:assertFail("Initialising connection with empty replicas failure expected.");
+    }
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testWithLoadBalanceConfig() returns error? {
+    Options options = {
+        loadBalanceConfig: {
+            loadBalanceServers: [{host: "localhost", port}],
+            strategy: BEST_RESPONSE_TIME,
+            rebalance: PER_TRANSACTION,
+            healthCheckInterval: 1
+        }
+    };
+    Client dbClient = check new (host, user, password, connectDB, port, options);
+    int id = check dbClient->queryRow(`SELECT customerId FROM Customers WHERE customerId = 1`);
+    test:assertEquals(id, 1);
+    HostHealthStats[] stats = dbClient.getHostHealthStats();
+    test:assertEquals(stats.length(), 2);
+    test:assertEquals(stats[0].host, host);
+    test:assertEquals(stats[1].host, "localhost");
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testWithEmptyLoadBalanceServers() {
+    Options options = {
+        loadBalanceConfig: {
+            loadBalanceServers: []
+        }
+    };
+    Client|sql:Error applicationError = new (host, user, password, connectDB, port, options);
+    if applicationError is sql:Error {
+        test:assertEquals(applicationError.message(),
+            "LoadBalanceConfig's 'loadBalanceServers' field cannot be an empty array.");
+    } else {
+        test:assertFail("Initialising connection with empty load balance servers failure expected.");
+    }
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testWithLoadBalanceAndFailoverConfig() {
+    Options options = {
+        failoverConfig: {
+            failoverServers: [{host: "localhost", port}]
+        },
+        loadBalanceConfig: {
+            loadBalanceServers: [{host: "localhost", port}]
+        }
+    };
+    Client|sql:Error applicationError = new (host, user, password, connectDB, port, options);
+    if applicationError is sql:Error {
+        test:assertEquals(applicationError.message(),
+            "The 'failoverConfig' and 'loadBalanceConfig' options cannot be used together.");
+    } else {
+        test:assertFail("Initialising connection with both load balance and failover configs failure expected.");
+    }
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testWithCompression() returns error? {
+    Client dbClient = check new (host, user, password, connectDB, port, {useCompression: true, transferStats: true});
+    stream<record {}, error?> customers = dbClient->query(`SELECT * FROM Customers`);
+    check customers.close();
+    TransferStats stats = check dbClient.getTransferStats();
+    test:assertTrue(stats.connections > 0);
+    test:assertTrue(stats.wireBytesSent > 0);
+    test:assertTrue(stats.wireBytesReceived > 0);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testTransferStatsWithoutOption() returns error? {
+    Client dbClient = check new (host, user, password, connectDB, port, {useCompression: true});
+    TransferStats|sql:Error stats = dbClient.getTransferStats();
+    if stats is sql:Error {
+        test:assertEquals(stats.message(),
+            "Transfer statistics are not available as the 'transferStats' option is not enabled.");
+    } else {
+        test:assertFail("Reading transfer statistics without the transferStats option failure expected.");
+    }
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testWithWarmUp() returns error? {
+    Options options = {
+        warmUp: {
+            connections: 3,
+            minReady: 3
+        }
+    };
+    Client dbClient = check new (host, user, password, connectDB, port, options, {maxOpenConnections: 5});
+    WarmUpStats? stats = dbClient.getWarmUpStats();
+    if stats is WarmUpStats {
+        test:assertEquals(stats.ready, 3);
+        test:assertEquals(stats.failed, 0);
+    } else {
+        test:assertFail("Warm-up statistics expected.");
+    }
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testWithInvalidWarmUpMinReady() {
+    Options options = {
+        warmUp: {
+            connections: 2,
+            minReady: 3
+        }
+    };
+    Client|sql:Error applicationError = new (host, user, password, connectDB, port, options);
+    if applicationError is sql:Error {
+        test:assertEquals(applicationError.message(),
+            "WarmUpConfig's 'minReady' field should be between zero and the 'connections' field.");
+    } else {
+        test:assertFail("Initialising connection with invalid warm-up minReady failure expected.");
+    }
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testWithSessionStateTracking() returns error? {
+    Client dbClient = check new (host, user, password, connectDB, port, {trackSessionState: true, transferStats: true},
+        {maxOpenConnections: 1});
+    transaction {
+        _ = check dbClient->execute(`UPDATE Customers SET creditLimit = creditLimit WHERE customerId = 1`);
+        check commit;
+    }
+    int id = check dbClient->queryRow(`SELECT customerId FROM Customers WHERE customerId = 1`);
+    test:assertEquals(id, 1);
+    TransferStats stats = check dbClient.getTransferStats();
+    test:assertEquals(stats.connections, 1);
+    test:assertTrue(stats.statements > 0);
+    test:assertTrue(stats.sessionStatements < stats.statements);
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testWithBlockingCallTracking() returns error? {
+    Client dbClient = check new (host, user, password, connectDB, port,
+        {trackBlockingCalls: true, resultFetch: {mode: FETCH_STREAMING}});
+    stream<record {int customerId;}, sql:Error?> customers =
+        dbClient->query(`SELECT customerId FROM Customers WHERE customerId IN (1, 2) ORDER BY customerId`);
+    int[] ids = check from record {int customerId;} customer in customers select customer.customerId;
+    test:assertEquals(ids, [1, 2]);
+    InFlightStats? stats = dbClient.getInFlightStats();
+    check dbClient.close();
+    if stats is InFlightStats {
+        test:assertEquals(stats.inFlight, 0);
+        test:assertEquals(stats.peakInFlight, 1);
+        // The query and the row fetches, including the one that reaches the end of the result
+        test:assertEquals(stats.completed, 4);
+    } else {
+        test:assertFail("In-flight call stats expected.");
+    }
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testWithBlockingCallTrackingWithCursor() returns error? {
+    Client dbClient = check new (host, user, password, connectDB, port,
+        {trackBlockingCalls: true, resultFetch: {mode: FETCH_CURSOR, fetchSize: 2}});
+    stream<record {int customerId;}, sql:Error?> customers =
+        dbClient->query(`SELECT customerId FROM Customers WHERE customerId IN (1, 2) ORDER BY customerId`);
+    int[] ids = check from record {int customerId;} customer in customers select customer.customerId;
+    test:assertEquals(ids, [1, 2]);
+    InFlightStats? stats = dbClient.getInFlightStats();
+    check dbClient.close();
+    if stats is InFlightStats {
+        // The query, the fetch of the two rows and the fetch that reaches the end of the result
+        test:assertEquals(stats.completed, 3);
+    } else {
+        test:assertFail("In-flight call stats expected.");
+    }
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testWithoutBlockingCallTracking() returns error? {
+    Client dbClient = check new (host, user, password, connectDB, port);
+    test:assertEquals(dbClient.getInFlightStats(), ());
+    check dbClient.close();
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testWithMultiStatements() returns error? {
+    Client dbClient = check new (host, user, password, connectDB, port, {allowMultiStatements: true});
+    int customerId = 1;
+    sql:ProcedureCallResult result = check dbClient->queryMultiple([
+        `SELECT customerId FROM Customers WHERE customerId = ${customerId};`,
+        `SELECT COUNT(*) AS total FROM Customers WHERE customerId IN (1, 2)`
+    ], [record {int customerId;}, record {int total;}]);
+
+    stream<record {}, sql:Error?>? queryResult = result.queryResult;
+    if queryResult is () {
+        test:assertFail("Result of the first query expected.");
+    }
+    record {}[] customers = check from record {} customer in queryResult select customer;
+    test:assertEquals(customers, [{customerId: 1}]);
+
+    test:assertTrue(check result.getNextQueryResult(), "Result of the second query expected.");
+    queryResult = result.queryResult;
+    if queryResult is () {
+        test:assertFail("Result of the second query expected.");
+    }
+    record {}[] totals = check from record {} total in queryResult select total;
+    test:assertEquals(totals, [{total: 2}]);
+    check result.close();
+
+    // The other operations of the client do not use the connections with the multi-statement protocol enabled
+    sql:ExecutionResult|sql:Error executeResult = dbClient->execute(`SELECT 1; SELECT 2`);
+    check dbClient.close();
+    test:assertTrue(executeResult is sql:Error, "Multiple statements should be rejected by the execute operation.");
+}
+
+@test:Config {
+    groups: ["connection", "connection-init"]
+}
+function testMultiStatementsWithoutOption() returns error? {
+    Client dbClient = check new (host, user, password, connectDB, port);
+    sql:ProcedureCallResult|sql:Error result = dbClient->queryMultiple([`SELECT 1`, `SELECT 2`]);
+    check dbClient.close();
+    if result is sql:Error {
+        test:assertEquals(result.message(),
+            "Executing multiple queries requires the 'allowMultiStatements' option to be enabled in the client.");
+    } else {
+        test:assertFail("Executing multiple queries without the allowMultiStatements option failure expected.");
+    }
+}
@@ -0,0 +1,101 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+import ballerina/test;
+
+string queryColumnsDb = "QUERY_COLUMNS_DB";
+
+type NumericNullColumns record {|
+    int[] id;
+    int?[] int_type;
+    boolean?[] bit_type;
+    decimal?[] decimal_type;
+    float?[] real_type;
+|};
+
+@test:Config {
+    groups: ["query", "query-columns"]
+}
+function testQueryColumns() returns error? {
+    Client dbClient = check new (host, user, password, queryColumnsDb, port);
+    NumericNullColumns columns = check dbClient->queryColumns(
+        `SELECT ID, INT_TYPE, BIT_TYPE, DECIMAL_TYPE, REAL_TYPE FROM NumericNullTypes ORDER BY ID`);
+    check dbClient.close();
+    test:assertEquals(columns.id, [1, 2]);
+    test:assertEquals(columns.int_type, [2147483647, ()]);
+    test:assertEquals(columns.bit_type, [true, ()]);
+    test:assertEquals(columns.decimal_type, [<decimal>1234.567, ()]);
+    test:assertEquals(columns.real_type, [1234.567, ()]);
+}
+
+@test:Config {
+    groups: ["query", "query-columns"]
+}
+function testQueryColumnsWithRowLimit() returns error? {
+    Client dbClient = check new (host, user, password, queryColumnsDb, port);
+    record {|int[] id;|} columns = check dbClient->queryColumns(`SELECT ID FROM NumericNullTypes ORDER BY ID`, 1);
+    check dbClient.close();
+    test:assertEquals(columns.id, [1]);
+}
+
+@test:Config {
+    groups: ["query", "query-columns"]
+}
+function testQueryColumnsInTransaction() returns error? {
+    Client dbClient = check new (host, user, password, queryColumnsDb, port);
+    record {|int[] id;|} columns = {id: []};
+    transaction {
+        _ = check dbClient->execute(`INSERT INTO NumericNullTypes (ID) VALUES (100)`);
+        // The uncommitted row is visible only on the connection of the transaction
+        columns = check dbClient->queryColumns(`SELECT ID FROM NumericNullTypes WHERE ID = 100`);
+        rollback;
+    }
+    int count = check dbClient->queryRow(`SELECT COUNT(*) FROM NumericNullTypes WHERE ID = 100`);
+    check dbClient.close();
+    test:assertEquals(columns.id, [100]);
+    test:assertEquals(count, 0);
+}
+
+@test:Config {
+    groups: ["query", "query-columns"]
+}
+function testQueryColumnsWithNullIntoNonOptionalArray() returns error? {
+    Client dbClient = check new (host, user, password, queryColumnsDb, port);
+    record {|int[] int_type;|}|sql:Error columns = dbClient->queryColumns(`SELECT INT_TYPE FROM NumericNullTypes`);
+    check dbClient.close();
+    if columns is sql:Error {
+        test:assertEquals(columns.message(),
+            "The NULL value of the column 'int_type' cannot be added to an array of non-nullable values.");
+    } else {
+        test:assertFail("Adding NULL values to an array of non-optional values failure expected.");
+    }
+}
+
+@test:Config {
+    groups: ["query", "query-columns"]
+}
+function testQueryColumnChunks() returns error? {
+    Client dbClient = check new (host, user, password, queryColumnsDb, port);
+    stream<record {|int[] id; int?[] bigint_type;|}, sql:Error?> chunks =
+        dbClient->queryColumnChunks(`SELECT ID, BIGINT_TYPE FROM NumericNullTypes ORDER BY ID`, 1);
+    record {|int[] id; int?[] bigint_type;|}[] chunkList = check from var chunk in chunks select chunk;
+    check dbClient.close();
+    test:assertEquals(chunkList, [
+        {id: [1], bigint_type: [9223372036854774807]},
+        {id: [2], bigint_type: [()]}
+    ]);
+}
@@ -0,0 +1,87 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+import ballerina/test;
+
+string queryInListDb = "QUERY_IN_LIST_DB";
+
+@test:Config {
+    groups: ["query", "query-in-list"]
+}
+function testQueryWithInList() returns error? {
+    Client dbClient = check new (host, user, password, queryInListDb, port);
+    int[] ids = [1, 2, 3];
+    stream<record {|int ID;|}, sql:Error?> rows = dbClient->query(
+        `SELECT ID FROM NumericNullTypes WHERE ID IN (${ids}) ORDER BY ID`);
+    int[] selected = check from record {|int ID;|} row in rows select row.ID;
+    int[] notIn = [1];
+    int other = check dbClient->queryRow(`SELECT ID FROM NumericNullTypes WHERE ID NOT IN ${notIn}`);
+    check dbClient.close();
+    test:assertEquals(selected, [1, 2]);
+    test:assertEquals(other, 2);
+}
+
+@test:Config {
+    groups: ["query", "query-in-list"]
+}
+function testQueryWithLongInList() returns error? {
+    Client dbClient = check new (host, user, password, queryInListDb, port);
+    // Expanded to 2048 parameters, of which the last 548 repeat the last id
+    int[] ids = from int id in 2 ... 1501 select id;
+    int count = check dbClient->queryRow(`SELECT COUNT(*) FROM NumericNullTypes WHERE ID IN (${ids})`);
+    string[] names = ["2"];
+    int countOfStrings = check dbClient->queryRow(
+        `SELECT COUNT(*) FROM NumericNullTypes WHERE ID IN (${names}) AND ID > ${1}`);
+    check dbClient.close();
+    test:assertEquals(count, 1);
+    test:assertEquals(countOfStrings, 1);
+}
+
+@test:Config {
+    groups: ["query", "query-in-list"]
+}
+function testExecuteWithInList() returns error? {
+    Client dbClient = check new (host, user, password, queryInListDb, port);
+    int[] ids = [1, 2];
+    sql:ExecutionResult result = check dbClient->execute(
+        `UPDATE NumericNullTypes SET ID = ID WHERE ID IN (${ids})`);
+    int[] firstIds = [1];
+    int[] bothIds = [1, 2, 3];
+    sql:ExecutionResult[] results = check dbClient->batchExecute([
+        `UPDATE NumericNullTypes SET ID = ID WHERE ID IN (${firstIds})`,
+        `UPDATE NumericNullTypes SET ID = ID WHERE ID IN (${bothIds})`
+    ]);
+    check dbClient.close();
+    test:assertEquals(result.affectedRowCount, 2);
+    test:assertEquals(results.map(r => r.affectedRowCount), [1, 2]);
+}
+
+@test:Config {
+    groups: ["query", "query-in-list"]
+}
+function testQueryWithEmptyInList() returns error? {
+    Client dbClient = check new (host, user, password, queryInListDb, port);
+    int[] ids = [];
+    int|sql:Error result = dbClient->queryRow(`SELECT ID FROM NumericNullTypes WHERE ID IN (${ids})`);
+    check dbClient.close();
+    if result is sql:ApplicationError {
+        test:assertTrue(result.message().startsWith("An empty array cannot be used as the list of an IN predicate"),
+                result.message());
+    } else {
+        test:assertFail("Executing a query with an empty IN list failure expected.");
+    }
+}
@@ -0,0 +1,131 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+import ballerina/test;
+
+string queryPagedDb = "QUERY_PAGED_DB";
+
+@test:Config {
+    groups: ["query", "query-paged"]
+}
+function testQueryPaged() returns error? {
+    Client dbClient = check new (host, user, password, queryPagedDb, port);
+    stream<record {|int ID;|}, sql:Error?> rows = dbClient->queryPaged(`SELECT ID FROM NumericNullTypes`, "ID",
+        {pageSize: 1});
+    int[] ids = check from record {|int ID;|} row in rows select row.ID;
+    stream<record {|int ID;|}, sql:Error?> prefetchedRows = dbClient->queryPaged(
+        `SELECT ID FROM NumericNullTypes WHERE ID > ${0}`, "ID", {pageSize: 1, prefetch: true});
+    int[] prefetchedIds = check from record {|int ID;|} row in prefetchedRows select row.ID;
+    check dbClient.close();
+    test:assertEquals(ids, [1, 2]);
+    test:assertEquals(prefetchedIds, [1, 2]);
+}
+
+@test:Config {
+    groups: ["query", "query-paged"]
+}
+function testQueryPagedWithCompositeKey() returns error? {
+    Client dbClient = check new (host, user, password, queryPagedDb, port);
+    stream<record {|int ID; int INT_TYPE;|}, sql:Error?> rows = dbClient->queryPaged(
+        `SELECT ID, INT_TYPE FROM NumericTypes`, ["ID", "INT_TYPE"], {pageSize: 1});
+    int[] intTypes = check from record {|int ID; int INT_TYPE;|} row in rows select row.INT_TYPE;
+    check dbClient.close();
+    test:assertEquals(intTypes, [2147483647]);
+}
+
+@test:Config {
+    groups: ["query", "query-paged"]
+}
+function testQueryPagedWithoutKeyField() returns error? {
+    Client dbClient = check new (host, user, password, queryPagedDb, port);
+    stream<record {|int INT_TYPE;|}, sql:Error?> rows = dbClient->queryPaged(`SELECT INT_TYPE FROM NumericTypes`,
+        "ID", {pageSize: 1});
+    int[]|sql:Error intTypes = from record {|int INT_TYPE;|} row in rows select row.INT_TYPE;
+    check dbClient.close();
+    if intTypes is sql:ApplicationError {
+        test:assertEquals(intTypes.message(), "The key column 'ID' is not a field of the rows of the paged query.");
+    } else {
+        test:assertFail("Reading the second page without the key field failure expected.");
+    }
+}
+
+@test:Config {
+    groups: ["query", "query-paged"]
+}
+function testQueryPagedWithInvalidPageSize() returns error? {
+    Client dbClient = check new (host, user, password, queryPagedDb, port);
+    stream<record {|int ID;|}, sql:Error?> rows = dbClient->queryPaged(`SELECT ID FROM NumericTypes`, "ID",
+        {pageSize: 0});
+    record {|record {|int ID;|} value;|}|sql:Error? result = rows.next();
+    check dbClient.close();
+    if result is sql:ApplicationError {
+        test:assertEquals(result.message(),
+            "The 'pageSize' field of the paged query options should be greater than zero.");
+    } else {
+        test:assertFail("Executing a paged query with a zero page size failure expected.");
+    }
+}
+
+@test:Config {
+    groups: ["query", "query-paged"]
+}
+function testQueryPagedWithOrderBy() returns error? {
+    Client dbClient = check new (host, user, password, queryPagedDb, port);
+    stream<record {|int ID;|}, sql:Error?> rows = dbClient->queryPaged(
+        `SELECT ID FROM NumericNullTypes ORDER BY ID DESC`, "ID", {pageSize: 1});
+    record {|record {|int ID;|} value;|}|sql:Error? result = rows.next();
+    check dbClient.close();
+    if result is sql:ApplicationError {
+        test:assertEquals(result.message(),
+            "The 'sqlQuery' parameter should not have an 'ORDER BY' clause outside its subqueries.");
+    } else {
+        test:assertFail("Executing a paged query with an ORDER BY clause failure expected.");
+    }
+}
+
+@test:Config {
+    groups: ["query", "query-paged"]
+}
+function testQueryPagedWithDuplicateKeyColumns() returns error? {
+    Client dbClient = check new (host, user, password, queryPagedDb, port);
+    stream<record {|int ID;|}, sql:Error?> rows = dbClient->queryPaged(`SELECT ID FROM NumericNullTypes`,
+        ["ID", "id"], {pageSize: 1});
+    record {|record {|int ID;|} value;|}|sql:Error? result = rows.next();
+    check dbClient.close();
+    if result is sql:ApplicationError {
+        test:assertEquals(result.message(), "The 'key' parameter should not have duplicate columns.");
+    } else {
+        test:assertFail("Executing a paged query with duplicate key columns failure expected.");
+    }
+}
+
+@test:Config {
+    groups: ["query", "query-paged"]
+}
+function testQueryPagedWithNonUniqueKey() returns error? {
+    Client dbClient = check new (host, user, password, queryPagedDb, port);
+    stream<record {|int ID; int PAGE_KEY;|}, sql:Error?> rows = dbClient->queryPaged(
+        `SELECT ID, 1 AS PAGE_KEY FROM NumericNullTypes`, "PAGE_KEY", {pageSize: 1});
+    int[]|sql:Error ids = from record {|int ID; int PAGE_KEY;|} row in rows select row.ID;
+    check dbClient.close();
+    if ids is sql:ApplicationError {
+        test:assertEquals(ids.message(), "The key of the paged query is not unique, as more than one row has the " +
+            "same values of the key columns.");
+    } else {
+        test:assertFail("Executing a paged query with a non-unique key failure expected.");
+    }
+}
@@ -0,0 +1,94 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+import ballerina/test;
+
+string queryTimeoutDb = "QUERY_TIMEOUT_DB";
+
+@test:Config {
+    groups: ["query", "query-timeout"]
+}
+function testQueryRowWithTimeout() returns error? {
+    // A single connection, so that the statements after the timeout run on the connection of the aborted statement
+    Client dbClient = check new (host, user, password, queryTimeoutDb, port, connectionPool = {maxOpenConnections: 1});
+    int|sql:Error slept = dbClient->queryRowWithTimeout(
+        `SELECT SLEEP(${5}) AS SLEPT FROM NumericTypes WHERE ID = ${1}`, 0.5);
+    int intType = check dbClient->queryRowWithTimeout(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${1}`, 5);
+    check dbClient.close();
+    test:assertTrue(slept is QueryTimeoutError);
+    if slept is QueryTimeoutError {
+        test:assertEquals(slept.detail().errorCode, 3024);
+    }
+    test:assertEquals(intType, 2147483647);
+}
+
+@test:Config {
+    groups: ["query", "query-timeout"]
+}
+function testQueryWithTimeout() returns error? {
+    Client dbClient = check new (host, user, password, queryTimeoutDb, port, connectionPool = {maxOpenConnections: 1});
+    stream<record {}, sql:Error?> rows = dbClient->queryWithTimeout(
+        `SELECT SLEEP(${5}) AS SLEPT FROM NumericTypes WHERE ID = ${1}`, 0.5);
+    record {|record {} value;|}|sql:Error? row = rows.next();
+    check rows.close();
+    int count = check dbClient->queryRow(`SELECT COUNT(*) FROM NumericTypes`);
+    check dbClient.close();
+    test:assertTrue(row is QueryTimeoutError);
+    test:assertTrue(count > 0);
+}
+
+@test:Config {
+    groups: ["query", "query-timeout"]
+}
+function testExecuteWithTimeout() returns error? {
+    Client dbClient = check new (host, user, password, queryTimeoutDb, port, connectionPool = {maxOpenConnections: 1});
+    // The statement is killed with KILL QUERY, as the hint applies only to SELECT statements
+    sql:ExecutionResult|sql:Error result = dbClient->executeWithTimeout(
+        `UPDATE NumericTypes SET INT_TYPE = INT_TYPE WHERE ID = ${1} AND SLEEP(${5}) = 0`, 1);
+    int intType = check dbClient->queryRow(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${1}`);
+    check dbClient.close();
+    test:assertTrue(result is QueryTimeoutError);
+    test:assertEquals(intType, 2147483647);
+}
+
+@test:Config {
+    groups: ["query", "query-timeout"]
+}
+function testQueryTimeoutOption() returns error? {
+    Client dbClient = check new (host, user, password, queryTimeoutDb, port, {queryTimeout: 0.5});
+    int|sql:Error slept = dbClient->queryRow(`SELECT SLEEP(${5}) AS SLEPT FROM NumericTypes WHERE ID = ${1}`);
+    // The timeout given to a call overrides the option
+    int|sql:Error sleptWithTimeout = dbClient->queryRowWithTimeout(
+        `SELECT SLEEP(${1}) AS SLEPT FROM NumericTypes WHERE ID = ${1}`, 5);
+    check dbClient.close();
+    test:assertTrue(slept is QueryTimeoutError);
+    test:assertEquals(sleptWithTimeout, 0);
+}
+
+@test:Config {
+    groups: ["query", "query-timeout"]
+}
+function testQueryRowWithInvalidTimeout() returns error? {
+    Client dbClient = check new (host, user, password, queryTimeoutDb, port);
+    int|sql:Error result = dbClient->queryRowWithTimeout(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${1}`, 0);
+    check dbClient.close();
+    if result is sql:ApplicationError {
+        test:assertEquals(result.message(), "The 'timeout' parameter should be greater than zero.");
+    } else {
+        test:assertFail("Executing a query with a zero timeout failure expected.");
+    }
+}
@@ -0,0 +1,27 @@
+CREATE DATABASE IF NOT EXISTS QUERY_COLUMNS_DB;
+
+USE QUERY_COLUMNS_DB;
+
+DROP TABLE IF EXISTS NumericNullTypes;
+
+CREATE TABLE NumericNullTypes (
+   ID INT AUTO_INCREMENT,
+   INT_TYPE INT,
+   BIGINT_TYPE BIGINT,
+   SMALLINT_TYPE SMALLINT,
+   TINYINT_TYPE TINYINT,
+   BIT_TYPE BIT,
+   DECIMAL_TYPE DECIMAL(10,3),
+   NUMERIC_TYPE NUMERIC(10,3),
+   FLOAT_TYPE FLOAT,
+   REAL_TYPE REAL,
+   PRIMARY KEY (ID)
+);
+
+INSERT INTO NumericNullTypes (ID, INT_TYPE, BIGINT_TYPE, SMALLINT_TYPE, TINYINT_TYPE, BIT_TYPE, DECIMAL_TYPE, NUMERIC_TYPE,
+    FLOAT_TYPE, REAL_TYPE) VALUES (1, 2147483647, 9223372036854774807, 32767, 127, 1, 1234.567, 1234.567, 1234.567,
+    1234.567);
+
+INSERT INTO NumericNullTypes (ID, INT_TYPE, BIGINT_TYPE, SMALLINT_TYPE, TINYINT_TYPE, BIT_TYPE, DECIMAL_TYPE, NUMERIC_TYPE,
+    FLOAT_TYPE, REAL_TYPE) VALUES (2, null , null , null , null , null , null , null , null ,
+    null );
@@ -0,0 +1,23 @@
+CREATE DATABASE IF NOT EXISTS QUERY_TIMEOUT_DB;
+
+USE QUERY_TIMEOUT_DB;
+
+DROP TABLE IF EXISTS NumericTypes;
+
+CREATE TABLE NumericTypes (
+   ID INT AUTO_INCREMENT,
+   INT_TYPE INT NOT NULL,
+   BIGINT_TYPE BIGINT NOT NULL,
+   SMALLINT_TYPE SMALLINT NOT NULL ,
+   TINYINT_TYPE TINYINT NOT NULL ,
+   BIT_TYPE BIT NOT NULL ,
+   DECIMAL_TYPE DECIMAL(10,3) NOT NULL ,
+   NUMERIC_TYPE NUMERIC(10,3) NOT NULL ,
+   FLOAT_TYPE FLOAT NOT NULL ,
+   REAL_TYPE REAL NOT NULL ,
+   PRIMARY KEY (id)
+);
+
+INSERT INTO NumericTypes (ID, INT_TYPE, BIGINT_TYPE, SMALLINT_TYPE, TINYINT_TYPE, BIT_TYPE, DECIMAL_TYPE, NUMERIC_TYPE,
+    FLOAT_TYPE, REAL_TYPE) VALUES (1, 2147483647, 9223372036854774807, 32767, 127, 1, 1234.567, 1234.567, 1234.567,
+    1234.567);
@@ -0,0 +1,47 @@
+CREATE DATABASE IF NOT EXISTS SLOW_QUERY_LOG_DB;
+
+USE SLOW_QUERY_LOG_DB;
+
+DROP TABLE IF EXISTS NumericTypes;
+
+CREATE TABLE NumericTypes (
+   ID INT AUTO_INCREMENT,
+   INT_TYPE INT NOT NULL,
+   BIGINT_TYPE BIGINT NOT NULL,
+   SMALLINT_TYPE SMALLINT NOT NULL ,
+   TINYINT_TYPE TINYINT NOT NULL ,
+   BIT_TYPE BIT NOT NULL ,
+   DECIMAL_TYPE DECIMAL(10,3) NOT NULL ,
+   NUMERIC_TYPE NUMERIC(10,3) NOT NULL ,
+   FLOAT_TYPE FLOAT NOT NULL ,
+   REAL_TYPE REAL NOT NULL ,
+   PRIMARY KEY (id)
+);
+
+INSERT INTO NumericTypes (ID, INT_TYPE, BIGINT_TYPE, SMALLINT_TYPE, TINYINT_TYPE, BIT_TYPE, DECIMAL_TYPE, NUMERIC_TYPE,
+    FLOAT_TYPE, REAL_TYPE) VALUES (1, 2147483647, 9223372036854774807, 32767, 127, 1, 1234.567, 1234.567, 1234.567,
+    1234.567);
+
+DROP TABLE IF EXISTS NumericNullTypes;
+
+CREATE TABLE NumericNullTypes (
+   ID INT AUTO_INCREMENT,
+   INT_TYPE INT,
+   BIGINT_TYPE BIGINT,
+   SMALLINT_TYPE SMALLINT,
+   TINYINT_TYPE TINYINT,
+   BIT_TYPE BIT,
+   DECIMAL_TYPE DECIMAL(10,3),
+   NUMERIC_TYPE NUMERIC(10,3),
+   FLOAT_TYPE FLOAT,
+   REAL_TYPE REAL,
+   PRIMARY KEY (ID)
+);
+
+INSERT INTO NumericNullTypes (ID, INT_TYPE, BIGINT_TYPE, SMALLINT_TYPE, TINYINT_TYPE, BIT_TYPE, DECIMAL_TYPE, NUMERIC_TYPE,
+    FLOAT_TYPE, REAL_TYPE) VALUES (1, 2147483647, 9223372036854774807, 32767, 127, 1, 1234.567, 1234.567, 1234.567,
+    1234.567);
+
+INSERT INTO NumericNullTypes (ID, INT_TYPE, BIGINT_TYPE, SMALLINT_TYPE, TINYINT_TYPE, BIT_TYPE, DECIMAL_TYPE, NUMERIC_TYPE,
+    FLOAT_TYPE, REAL_TYPE) VALUES (2, null , null , null , null , null , null , null , null ,
+    null );
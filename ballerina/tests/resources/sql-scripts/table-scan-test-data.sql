@@ -0,0 +1,55 @@
+CREATE DATABASE IF NOT EXISTS TABLE_SCAN_DB;
+
+USE TABLE_SCAN_DB;
+
+DROP TABLE IF EXISTS DataTable;
+
+CREATE TABLE DataTable(
+  id INT AUTO_INCREMENT,
+  int_type     INTEGER UNIQUE,
+  long_type    BIGINT,
+  float_type   FLOAT,
+  PRIMARY KEY (id)
+);
+
+INSERT INTO DataTable (int_type, long_type, float_type) VALUES
+  (1, 100, 1.5),
+  (2, 200, 2.5),
+  (3, 300, 3.5),
+  (4, 400, 4.5),
+  (5, 500, 5.5),
+  (6, 600, 6.5),
+  (7, 700, 7.5),
+  (8, 800, 8.5),
+  (9, 900, 9.5),
+  (10, 1000, 10.5),
+  (11, 1100, 11.5),
+  (12, 1200, 12.5),
+  (13, 1300, 13.5),
+  (14, 1400, 14.5),
+  (15, 1500, 15.5),
+  (16, 1600, 16.5),
+  (17, 1700, 17.5),
+  (18, 1800, 18.5),
+  (19, 1900, 19.5),
+  (20, 2000, 20.5),
+  (21, 2100, 21.5),
+  (22, 2200, 22.5),
+  (23, 2300, 23.5),
+  (24, 2400, 24.5),
+  (25, 2500, 25.5),
+  (26, 2600, 26.5),
+  (27, 2700, 27.5),
+  (28, 2800, 28.5),
+  (29, 2900, 29.5),
+  (30, 3000, 30.5),
+  (31, 3100, 31.5),
+  (32, 3200, 32.5),
+  (33, 3300, 33.5),
+  (34, 3400, 34.5),
+  (35, 3500, 35.5),
+  (36, 3600, 36.5),
+  (37, 3700, 37.5),
+  (38, 3800, 38.5),
+  (39, 3900, 39.5),
+  (40, 4000, 40.5);
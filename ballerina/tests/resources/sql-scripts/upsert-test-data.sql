@@ -0,0 +1,16 @@
+CREATE DATABASE IF NOT EXISTS UPSERT_DB;
+
+USE UPSERT_DB;
+
+DROP TABLE IF EXISTS DataTable;
+
+CREATE TABLE DataTable(
+  id INT AUTO_INCREMENT,
+  int_type     INTEGER UNIQUE,
+  long_type    BIGINT,
+  float_type   FLOAT,
+  PRIMARY KEY (id)
+);
+
+INSERT INTO DataTable (int_type, long_type, float_type)
+  VALUES(1, 9223372036854774807, 123.34);
@@ -0,0 +1,163 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/sql;
+import ballerina/test;
+
+string resultCacheDb = "RESULT_CACHE_DB";
+
+@test:Config {
+    groups: ["query", "result-cache"]
+}
+function testQueryRowCached() returns error? {
+    Client dbClient = check new (host, user, password, resultCacheDb, port, {resultCache: {}});
+    CachedQueryOptions cacheOptions = {tables: ["NumericTypes"]};
+    int first = check dbClient->queryRowCached(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${1}`, cacheOptions);
+    int second = check dbClient->queryRowCached(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${1}`, cacheOptions);
+    int|sql:Error missing = dbClient->queryRowCached(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${100}`);
+    dbClient.invalidateResultCache(resultCacheDb + ".NumericTypes");
+    int third = check dbClient->queryRowCached(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${1}`, cacheOptions);
+    ResultCacheStats? stats = dbClient.getResultCacheStats();
+    check dbClient.close();
+    test:assertEquals([first, second, third], [2147483647, 2147483647, 2147483647]);
+    test:assertTrue(missing is sql:NoRowsError);
+    if stats is ResultCacheStats {
+        test:assertEquals(stats.hits, 1);
+        test:assertEquals(stats.misses, 3);
+        test:assertEquals(stats.invalidations, 1);
+        test:assertEquals(stats.entries, 1);
+    } else {
+        test:assertFail("Result cache statistics expected.");
+    }
+}
+
+@test:Config {
+    groups: ["query", "result-cache"]
+}
+function testQueryRowCachedWithExecute() returns error? {
+    Client dbClient = check new (host, user, password, resultCacheDb, port, {resultCache: {}});
+    CachedQueryOptions cacheOptions = {tables: ["NumericTypes"]};
+    int first = check dbClient->queryRowCached(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${1}`, cacheOptions);
+    // Writing to the table removes the results tagged with it
+    _ = check dbClient->execute(`UPDATE NumericTypes SET INT_TYPE = INT_TYPE WHERE ID = ${1}`);
+    int second = check dbClient->queryRowCached(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${1}`, cacheOptions);
+    _ = check dbClient->execute(`SET @result_cache_test = 1`);
+    int third = check dbClient->queryRowCached(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${1}`, cacheOptions);
+    ResultCacheStats? stats = dbClient.getResultCacheStats();
+    check dbClient.close();
+    test:assertEquals([first, second, third], [2147483647, 2147483647, 2147483647]);
+    test:assertEquals(stats?.hits, 1);
+    test:assertEquals(stats?.misses, 2);
+    test:assertEquals(stats?.invalidations, 1);
+}
+
+@test:Config {
+    groups: ["query", "result-cache"]
+}
+function testQueryRowCachedWithTransaction() returns error? {
+    Client dbClient = check new (host, user, password, resultCacheDb, port, {resultCache: {}});
+    CachedQueryOptions cacheOptions = {tables: ["NumericTypes"]};
+    transaction {
+        _ = check dbClient->execute(`UPDATE NumericTypes SET INT_TYPE = INT_TYPE WHERE ID = ${1}`);
+        // A query outside of the transaction caches the row before the write, which is removed on the commit
+        future<int|sql:Error> outside = start queryRowCachedOutsideTransaction(dbClient, cacheOptions);
+        int _ = check wait outside;
+        check commit;
+    }
+    int intType = check dbClient->queryRowCached(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${1}`, cacheOptions);
+    ResultCacheStats? stats = dbClient.getResultCacheStats();
+    check dbClient.close();
+    test:assertEquals(intType, 2147483647);
+    test:assertEquals(stats?.hits, 0);
+    test:assertEquals(stats?.misses, 2);
+    test:assertEquals(stats?.invalidations, 1);
+}
+
+function queryRowCachedOutsideTransaction(Client dbClient, CachedQueryOptions cacheOptions) returns int|sql:Error {
+    return dbClient->queryRowCached(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${1}`, cacheOptions);
+}
+
+@test:Config {
+    groups: ["query", "result-cache"]
+}
+function testQueryRowCachedWithQueryMultiple() returns error? {
+    Client dbClient = check new (host, user, password, resultCacheDb, port,
+        {resultCache: {}, allowMultiStatements: true});
+    CachedQueryOptions cacheOptions = {tables: ["NumericTypes"]};
+    int _ = check dbClient->queryRowCached(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${1}`, cacheOptions);
+    // The tables written by the statements are not known, hence all the results are removed
+    sql:ProcedureCallResult result = check dbClient->queryMultiple([`SELECT 1`, `SELECT 2`]);
+    check result.close();
+    int _ = check dbClient->queryRowCached(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${1}`, cacheOptions);
+    ResultCacheStats? stats = dbClient.getResultCacheStats();
+    check dbClient.close();
+    test:assertEquals(stats?.hits, 0);
+    test:assertEquals(stats?.misses, 2);
+    test:assertEquals(stats?.invalidations, 1);
+}
+
+@test:Config {
+    groups: ["query", "result-cache"]
+}
+function testQueryCachedLargerThanCache() returns error? {
+    Client dbClient = check new (host, user, password, resultCacheDb, port, {resultCache: {maxSize: 100}});
+    // Only the first row fits in the cache, hence the second row is streamed from the server
+    record {int id;}[] first = check from record {int id;} row
+        in dbClient->queryCached(`SELECT ID FROM NumericNullTypes ORDER BY ID`) select row;
+    record {int id;}[] second = check from record {int id;} row
+        in dbClient->queryCached(`SELECT ID FROM NumericNullTypes ORDER BY ID`) select row;
+    ResultCacheStats? stats = dbClient.getResultCacheStats();
+    check dbClient.close();
+    test:assertEquals(first, [{id: 1}, {id: 2}]);
+    test:assertEquals(second, [{id: 1}, {id: 2}]);
+    test:assertEquals(stats?.hits, 0);
+    test:assertEquals(stats?.entries, 0);
+}
+
+@test:Config {
+    groups: ["query", "result-cache"]
+}
+function testQueryCachedWithTtl() returns error? {
+    Client dbClient = check new (host, user, password, resultCacheDb, port, {resultCache: {}});
+    NumericTypeForQuery[] first = check from NumericTypeForQuery row
+        in dbClient->queryCached(`SELECT * FROM NumericTypes`, {ttl: 0.5}) select row;
+    NumericTypeForQuery[] second = check from NumericTypeForQuery row
+        in dbClient->queryCached(`SELECT * FROM NumericTypes`, {ttl: 0.5}) select row;
+    runtime:sleep(1);
+    NumericTypeForQuery[] third = check from NumericTypeForQuery row
+        in dbClient->queryCached(`SELECT * FROM NumericTypes`, {ttl: 0.5}) select row;
+    ResultCacheStats? stats = dbClient.getResultCacheStats();
+    check dbClient.close();
+    test:assertEquals(first, second);
+    test:assertEquals(first, third);
+    test:assertTrue(second[0].isReadOnly());
+    test:assertEquals(stats?.hits, 1);
+    test:assertEquals(stats?.misses, 2);
+    test:assertEquals(stats?.expirations, 1);
+}
+
+@test:Config {
+    groups: ["query", "result-cache"]
+}
+function testQueryCachedWithoutResultCache() returns error? {
+    Client dbClient = check new (host, user, password, resultCacheDb, port);
+    int value = check dbClient->queryRowCached(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${1}`);
+    ResultCacheStats? stats = dbClient.getResultCacheStats();
+    check dbClient.close();
+    test:assertEquals(value, 2147483647);
+    test:assertEquals(stats, ());
+}
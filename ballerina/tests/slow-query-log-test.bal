@@ -0,0 +1,112 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/sql;
+import ballerina/test;
+
+string slowQueryLogDb = "SLOW_QUERY_LOG_DB";
+
+@test:Config {
+    groups: ["query", "slow-query-log"]
+}
+function testSlowQueryLog() returns error? {
+    Client dbClient = check new (host, user, password, slowQueryLogDb, port, {slowQueryLog: {threshold: 0}});
+    int _ = check dbClient->queryRow(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${1}`);
+    // The entry is added to the log once its query plan is captured
+    SlowQuery[] slowQueries = dbClient.drainSlowQueries();
+    int attempts = 0;
+    while slowQueries.length() == 0 && attempts < 50 {
+        runtime:sleep(0.1);
+        slowQueries = dbClient.drainSlowQueries();
+        attempts += 1;
+    }
+    check dbClient.close();
+    test:assertEquals(slowQueries.length(), 1);
+    SlowQuery slowQuery = slowQueries[0];
+    test:assertEquals(slowQuery.fingerprint, "SELECT INT_TYPE FROM NumericTypes WHERE ID = ?");
+    test:assertEquals(slowQuery.parameters, ["1"]);
+    test:assertTrue(slowQuery.duration >= slowQuery.executionTime);
+    test:assertTrue(slowQuery.poolWaitTime is decimal);
+    test:assertEquals(slowQuery.planError, ());
+    json queryBlock = check slowQuery.plan.query_block;
+    test:assertTrue(queryBlock is map<json>);
+}
+
+@test:Config {
+    groups: ["query", "slow-query-log"]
+}
+function testSlowQueryLogWithRedactedParameters() returns error? {
+    Client dbClient = check new (host, user, password, slowQueryLogDb, port, {
+        slowQueryLog: {threshold: 0, redactParameters: true, explainInterval: 0, capacity: 2}
+    });
+    stream<record {}, sql:Error?> ids = dbClient->query(`SELECT ID FROM NumericNullTypes WHERE ID IN (${1}, ${2})`);
+    // A query of a stream is logged once all its rows are read
+    test:assertEquals(dbClient.drainSlowQueries(), []);
+    check from record {} _ in ids do {};
+    int _ = check dbClient->queryRow(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${1}`);
+    _ = check dbClient->execute(`UPDATE NumericTypes SET INT_TYPE = INT_TYPE WHERE ID = ${1}`);
+    SlowQuery[] slowQueries = dbClient.drainSlowQueries();
+    check dbClient.close();
+    // The oldest entry is dropped once the log is full
+    test:assertEquals(slowQueries.length(), 2);
+    test:assertEquals(slowQueries[0].fingerprint, "SELECT INT_TYPE FROM NumericTypes WHERE ID = ?");
+    test:assertEquals(slowQueries[0].parameters, ["?"]);
+    test:assertEquals(slowQueries[0].conversionTime, ());
+    test:assertEquals(slowQueries[0].plan, ());
+    test:assertEquals(slowQueries[1].fingerprint, "UPDATE NumericTypes SET INT_TYPE = INT_TYPE WHERE ID = ?");
+}
+
+@test:Config {
+    groups: ["query", "slow-query-log"]
+}
+function testSlowQueryLogOfStream() returns error? {
+    Client dbClient = check new (host, user, password, slowQueryLogDb, port, {
+        slowQueryLog: {threshold: 0, explainInterval: 0}
+    });
+    stream<record {}, sql:Error?> ids = dbClient->query(`SELECT ID FROM NumericNullTypes WHERE ID IN (${1}, ${2})`);
+    check from record {} _ in ids do {};
+    SlowQuery[] slowQueries = dbClient.drainSlowQueries();
+    dbClient.logSlowQueries();
+    check dbClient.close();
+    test:assertEquals(slowQueries.length(), 1);
+    test:assertEquals(slowQueries[0].fingerprint, "SELECT ID FROM NumericNullTypes WHERE ID IN (?+)");
+    test:assertEquals(slowQueries[0].parameters, ["1", "2"]);
+    test:assertTrue(slowQueries[0].conversionTime is decimal);
+}
+
+@test:Config {
+    groups: ["query", "slow-query-log"]
+}
+function testSlowQueryLogWithInvalidCapacity() {
+    Client|sql:Error dbClient = new (host, user, password, slowQueryLogDb, port, {slowQueryLog: {capacity: 0}});
+    if dbClient is sql:Error {
+        test:assertEquals(dbClient.message(), "SlowQueryLogConfig's 'capacity' field should be greater than zero.");
+    } else {
+        test:assertFail("Initialising connection with invalid slow query log capacity failure expected.");
+    }
+}
+
+@test:Config {
+    groups: ["query", "slow-query-log"]
+}
+function testSlowQueriesWithoutSlowQueryLog() returns error? {
+    Client dbClient = check new (host, user, password, slowQueryLogDb, port);
+    int _ = check dbClient->queryRow(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${1}`);
+    SlowQuery[] slowQueries = dbClient.drainSlowQueries();
+    check dbClient.close();
+    test:assertEquals(slowQueries, []);
+}
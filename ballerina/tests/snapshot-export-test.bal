@@ -0,0 +1,96 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/file;
+import ballerina/io;
+import ballerina/sql;
+import ballerina/test;
+
+string snapshotExportDb = "SNAPSHOT_EXPORT_DB";
+
+@test:Config {
+    groups: ["query", "snapshot-export"]
+}
+function testExportSnapshot() returns error? {
+    string directory = check file:getAbsolutePath("target/snapshot-export/csv");
+    Client dbClient = check new (host, user, password, snapshotExportDb, port);
+    SnapshotExportResult result = check dbClient->exportSnapshot(
+        ["NumericTypes", snapshotExportDb + ".NumericNullTypes"], directory, {connections: 2});
+    int rowCount = check dbClient->queryRow(`SELECT COUNT(*) FROM NumericNullTypes`);
+    check dbClient.close();
+    test:assertEquals(result.files.length(), 2);
+    test:assertEquals(result.files[0].tableName, snapshotExportDb + ".NumericTypes");
+    test:assertEquals(result.files[1].rowCount, rowCount);
+    string[] lines = check io:fileReadLines(result.files[0].path);
+    test:assertEquals(lines.length(), result.files[0].rowCount + 1);
+    test:assertTrue(lines[0].startsWith("ID,INT_TYPE,BIGINT_TYPE,"), lines[0]);
+    test:assertTrue(lines[1].startsWith("1,2147483647,"), lines[1]);
+    BinlogPosition? position = result.position;
+    json metadata = check io:fileReadJson(check file:joinPath(directory, "snapshot-metadata.json"));
+    test:assertEquals(check metadata.binlogFile, position is () ? () : position.file);
+    test:assertEquals((<json[]>check metadata.files).length(), 2);
+}
+
+@test:Config {
+    groups: ["query", "snapshot-export"]
+}
+function testExportSnapshotAsNdjson() returns error? {
+    string directory = check file:getAbsolutePath("target/snapshot-export/ndjson");
+    Client dbClient = check new (host, user, password, snapshotExportDb, port);
+    SnapshotExportResult result = check dbClient->exportSnapshot([snapshotExportDb + ".*"], directory,
+        {format: EXPORT_NDJSON, consistency: SNAPSHOT_GTID});
+    check dbClient.close();
+    ExportedFile[] files = result.files.filter(exported => exported.tableName == snapshotExportDb + ".NumericTypes");
+    test:assertEquals(files.length(), 1);
+    test:assertTrue(files[0].path.endsWith(".ndjson"), files[0].path);
+    test:assertTrue(result.position is BinlogPosition);
+    test:assertEquals(result.lockTime, 0d);
+    string[] lines = check io:fileReadLines(files[0].path);
+    json row = check lines[0].fromJsonString();
+    test:assertEquals(check row.ID, 1);
+    test:assertEquals(check row.INT_TYPE, 2147483647);
+    test:assertEquals(check row.BIT_TYPE, true);
+}
+
+@test:Config {
+    groups: ["query", "snapshot-export"]
+}
+function testExportSnapshotWithCompression() returns error? {
+    string directory = check file:getAbsolutePath("target/snapshot-export/gzip");
+    Client dbClient = check new (host, user, password, snapshotExportDb, port);
+    SnapshotExportResult result = check dbClient->exportSnapshot(["NumericTypes"], directory, {compress: true});
+    check dbClient.close();
+    test:assertEquals(result.files.length(), 1);
+    test:assertTrue(result.files[0].path.endsWith(".csv.gz"), result.files[0].path);
+    // The gzip header is written even for an empty file
+    test:assertTrue(result.files[0].size > 10, result.files[0].size.toString());
+}
+
+@test:Config {
+    groups: ["query", "snapshot-export"]
+}
+function testExportSnapshotWithInvalidConnections() returns error? {
+    Client dbClient = check new (host, user, password, snapshotExportDb, port);
+    SnapshotExportResult|sql:Error result = dbClient->exportSnapshot(["NumericTypes"], "target/snapshot-export",
+        {connections: 0});
+    check dbClient.close();
+    if result is sql:ApplicationError {
+        test:assertEquals(result.message(),
+            "The 'connections' field of the snapshot export options should be greater than zero.");
+    } else {
+        test:assertFail("Exporting a snapshot without connections failure expected.");
+    }
+}
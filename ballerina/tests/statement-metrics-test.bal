@@ -0,0 +1,68 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+import ballerina/test;
+
+string statementMetricsDb = "STATEMENT_METRICS_DB";
+
+@test:Config {
+    groups: ["query", "statement-metrics"]
+}
+function testStatementStats() returns error? {
+    Client dbClient = check new (host, user, password, statementMetricsDb, port, {statementMetrics: {}});
+    stream<record {}, sql:Error?> ids = dbClient->query(`SELECT ID FROM NumericNullTypes WHERE ID IN (${1}, ${2})`);
+    check from record {} _ in ids do {};
+    // The literals and the parameters of the statements are replaced with `?` in the fingerprint
+    int _ = check dbClient->queryRow(`SELECT INT_TYPE FROM NumericTypes WHERE ID = 1`);
+    int _ = check dbClient->queryRow(`SELECT   INT_TYPE FROM NumericTypes WHERE ID = ${1}`);
+    int|sql:Error missing = dbClient->queryRow(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${100}`);
+    int|sql:Error failed = dbClient->queryRow(`SELECT INT_TYPE FROM MissingNumericTypes WHERE ID = ${1}`);
+    StatementStats[] stats = dbClient.getStatementStats();
+    check dbClient.close();
+    test:assertTrue(missing is sql:NoRowsError);
+    test:assertTrue(failed is sql:DatabaseError);
+    map<StatementStats> statsByFingerprint = map from StatementStats statementStats in stats
+        select [statementStats.fingerprint, statementStats];
+    test:assertEquals(statsByFingerprint.length(), 3);
+
+    StatementStats inList = statsByFingerprint.get("SELECT ID FROM NumericNullTypes WHERE ID IN (?+)");
+    test:assertEquals([inList.executions, inList.errors, inList.rowsReturned], [1, 0, 2]);
+
+    StatementStats byId = statsByFingerprint.get("SELECT INT_TYPE FROM NumericTypes WHERE ID = ?");
+    test:assertEquals([byId.executions, byId.errors, byId.rowsReturned, byId.rowsAffected], [3, 0, 2, 0]);
+    test:assertEquals(byId.executionTime.count, 3);
+    test:assertTrue(byId.executionTime.p50 <= byId.executionTime.p99);
+    test:assertTrue(byId.executionTime.max > 0d);
+    // The time waited for a connection is measured until the parameters of the statement are bound
+    test:assertEquals(byId.poolWaitTime.count, 3);
+    test:assertEquals(byId.id.length(), 16);
+    test:assertNotEquals(byId.id, inList.id);
+
+    StatementStats missingTable = statsByFingerprint.get("SELECT INT_TYPE FROM MissingNumericTypes WHERE ID = ?");
+    test:assertEquals([missingTable.executions, missingTable.errors], [1, 1]);
+}
+
+@test:Config {
+    groups: ["query", "statement-metrics"]
+}
+function testStatementStatsWithoutStatementMetrics() returns error? {
+    Client dbClient = check new (host, user, password, statementMetricsDb, port);
+    int _ = check dbClient->queryRow(`SELECT INT_TYPE FROM NumericTypes WHERE ID = ${1}`);
+    StatementStats[] stats = dbClient.getStatementStats();
+    check dbClient.close();
+    test:assertEquals(stats, []);
+}
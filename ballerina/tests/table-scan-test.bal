@@ -0,0 +1,82 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+import ballerina/test;
+
+string tableScanDb = "TABLE_SCAN_DB";
+
+@test:Config {
+    groups: ["table-scan"]
+}
+function scanDataTable() returns error? {
+    Client dbClient = check new (host, user, password, tableScanDb, port);
+    TableScan scan = check dbClient->scanTable("DataTable", "id", {partitions: 4, pageSize: 7});
+    stream<record {int id;}, sql:Error?> rows = scan.rows();
+    int[] ids = check from record {int id;} row in rows select row.id;
+    stream<record {int id;}, sql:Error?> expectedRows = dbClient->query(`SELECT id FROM DataTable ORDER BY id`);
+    int[] expectedIds = check from record {int id;} row in expectedRows select row.id;
+    check dbClient.close();
+    test:assertEquals(ids.sort(), expectedIds);
+    PartitionStats[] stats = scan.getPartitionStats();
+    test:assertEquals(stats.length(), 4);
+    int rowsRead = 0;
+    foreach PartitionStats partition in stats {
+        rowsRead += partition.rowsRead;
+        test:assertTrue(partition.completed);
+        test:assertEquals(partition.progress, 1.0);
+    }
+    test:assertEquals(rowsRead, ids.length());
+    test:assertEquals(stats[0].lowerBound, ());
+    test:assertEquals(stats[3].upperBound, ());
+}
+
+@test:Config {
+    groups: ["table-scan"]
+}
+function scanDataTablePartitionsByKeyRange() returns error? {
+    Client dbClient = check new (host, user, password, tableScanDb, port);
+    TableScan scan = check dbClient->scanTable("DataTable", "id", {partitions: 3, split: SPLIT_KEY_RANGE});
+    stream<record {int id;}, sql:Error?>[] partitions = scan.partitionRows();
+    int[] ids = [];
+    foreach stream<record {int id;}, sql:Error?> partition in partitions {
+        check from record {int id;} row in partition
+            do {
+                ids.push(row.id);
+            };
+    }
+    stream<record {int id;}, sql:Error?> expectedRows = dbClient->query(`SELECT id FROM DataTable ORDER BY id`);
+    int[] expectedIds = check from record {int id;} row in expectedRows select row.id;
+    check dbClient.close();
+    test:assertEquals(partitions.length(), 3);
+    // Each partition is read in the order of the key
+    test:assertEquals(ids, expectedIds);
+}
+
+@test:Config {
+    groups: ["table-scan"]
+}
+function scanTableWithInvalidPartitions() returns error? {
+    Client dbClient = check new (host, user, password, tableScanDb, port);
+    TableScan|sql:Error scan = dbClient->scanTable("DataTable", "id", {partitions: 0});
+    check dbClient.close();
+    if scan is sql:ApplicationError {
+        test:assertEquals(scan.message(),
+            "The 'partitions' field of the table scan options should be greater than zero.");
+    } else {
+        test:assertFail("Scanning a table without partitions failure expected.");
+    }
+}
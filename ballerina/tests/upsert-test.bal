@@ -0,0 +1,101 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+import ballerina/test;
+
+string upsertDb = "UPSERT_DB";
+
+@test:Config {
+    groups: ["upsert"]
+}
+function upsertIntoDataTable() returns error? {
+    record {int int_type; int long_type;}[] data = [{int_type: 200, long_type: 1}, {int_type: 201, long_type: 1}];
+    Client dbClient = check new (host, user, password, upsertDb, port);
+    UpsertResult inserted = check dbClient->upsert("DataTable", data, ["int_type"]);
+    data = [{int_type: 200, long_type: 2}, {int_type: 202, long_type: 2}];
+    UpsertResult updated = check dbClient->upsert("DataTable", data.toStream(), ["int_type"]);
+    int longType = check dbClient->queryRow(`SELECT long_type FROM DataTable WHERE int_type = 200`);
+    check dbClient.close();
+    test:assertEquals(inserted, {rowCount: 2, affectedRowCount: 2, statementCount: 1});
+    // The updated row is counted as two affected rows
+    test:assertEquals(updated, {rowCount: 2, affectedRowCount: 3, statementCount: 1});
+    test:assertEquals(longType, 2);
+}
+
+@test:Config {
+    groups: ["upsert"],
+    dependsOn: [upsertIntoDataTable]
+}
+function upsertIntoDataTableWithIgnore() returns error? {
+    record {int int_type; int long_type;}[] data = [{int_type: 200, long_type: 3}, {int_type: 203, long_type: 3}];
+    Client dbClient = check new (host, user, password, upsertDb, port);
+    UpsertResult result = check dbClient->upsert("DataTable", data, ["int_type"], {mode: UPSERT_IGNORE});
+    int longType = check dbClient->queryRow(`SELECT long_type FROM DataTable WHERE int_type = 200`);
+    check dbClient.close();
+    test:assertEquals(result, {rowCount: 2, affectedRowCount: 1, statementCount: 1});
+    test:assertEquals(longType, 2);
+}
+
+@test:Config {
+    groups: ["upsert"],
+    dependsOn: [upsertIntoDataTableWithIgnore]
+}
+function upsertIntoDataTableInParallel() returns error? {
+    record {int int_type; int long_type;}[] data = from int i in 300 ..< 350 select {int_type: i, long_type: i};
+    Client dbClient = check new (host, user, password, upsertDb, port);
+    // Each statement holds a few rows
+    UpsertResult result = check dbClient->upsert("DataTable", data, ["int_type"],
+        {maxStatementSize: 400, parallelism: 4});
+    int count = check dbClient->queryRow(`SELECT COUNT(*) FROM DataTable WHERE int_type BETWEEN 300 AND 349`);
+    check dbClient.close();
+    test:assertEquals(result.rowCount, 50);
+    test:assertEquals(result.affectedRowCount, 50);
+    test:assertTrue(result.statementCount > 1, result.statementCount.toString());
+    test:assertEquals(count, 50);
+}
+
+@test:Config {
+    groups: ["upsert"]
+}
+function upsertWithDifferentFields() returns error? {
+    record {int int_type; int long_type?;}[] data = [{int_type: 410, long_type: 1}, {int_type: 411}];
+    Client dbClient = check new (host, user, password, upsertDb, port);
+    UpsertResult|sql:Error result = dbClient->upsert("DataTable", data, ["int_type"]);
+    int count = check dbClient->queryRow(`SELECT COUNT(*) FROM DataTable WHERE int_type IN (410, 411)`);
+    check dbClient.close();
+    if result is sql:ApplicationError {
+        test:assertEquals(result.message(), "The rows to upsert should have the same fields as the first row.");
+    } else {
+        test:assertFail("Upserting rows with different fields failure expected.");
+    }
+    test:assertEquals(count, 0);
+}
+
+@test:Config {
+    groups: ["upsert"]
+}
+function upsertWithInvalidKeyColumn() returns error? {
+    record {int int_type;}[] data = [{int_type: 400}];
+    Client dbClient = check new (host, user, password, upsertDb, port);
+    UpsertResult|sql:Error result = dbClient->upsert("DataTable", data, ["id"]);
+    check dbClient.close();
+    if result is sql:ApplicationError {
+        test:assertEquals(result.message(), "The column 'id' is not a field of the rows to upsert.");
+    } else {
+        test:assertFail("Upserting rows without the key column failure expected.");
+    }
+}
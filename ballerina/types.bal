@@ -34,7 +34,7 @@ public distinct class CustomResultIterator {
 
     public isolated function nextResult(sql:ResultIterator iterator) returns record {}|sql:Error? = @java:Method {
         'class: "io.ballerina.stdlib.mysql.utils.MysqlRecordIteratorUtils",
-        paramTypes: ["io.ballerina.runtime.api.values.BObject", "io.ballerina.runtime.api.values.BObject"]
+        name: "nextRecord"
     } external;
 
     public isolated function getNextQueryResult(sql:ProcedureCallResult callResult) returns boolean|sql:Error = @java:Method {
@@ -43,6 +43,49 @@ public distinct class CustomResultIterator {
     } external;
 }
 
+// Returns the rows of a query executed on a replica server, and ends the request to the replica once the rows are read
+// or the stream is closed, so that the replica is counted as busy while the result is held open.
+class ReplicaResultIterator {
+    private final stream<record {}, sql:Error?> result;
+
+    isolated function init(stream<record {}, sql:Error?> result) {
+        self.result = result;
+    }
+
+    public isolated function next() returns record {|record {} value;|}|sql:Error? {
+        record {|record {} value;|}|sql:Error? next = self.result.next();
+        if next !is record {|record {} value;|} {
+            endReplicaRequest(self);
+        }
+        return next;
+    }
+
+    public isolated function close() returns sql:Error? {
+        sql:Error? result = self.result.close();
+        endReplicaRequest(self);
+        return result;
+    }
+}
+
+isolated function endReplicaRequest(ReplicaResultIterator iterator) = @java:Method {
+    'class: "io.ballerina.stdlib.mysql.utils.ReplicaRouter",
+    name: "endRequest"
+} external;
+
+// A copy of a query of which the SQL text or the parameters are rewritten by the client, such as to add the
+// `MAX_EXECUTION_TIME` hint or to expand the array parameters of `IN` lists. Created by the client in place of the query.
+class RewrittenQuery {
+    *sql:ParameterizedQuery;
+
+    public final string[] & readonly strings;
+    public sql:Value[] insertions;
+
+    isolated function init(string[] & readonly strings, sql:Value[] insertions) {
+        self.strings = strings;
+        self.insertions = insertions;
+    }
+}
+
 # MySQL GTID-based replication configuration.
 #
 # + gtidSourceIncludes - Comma-separated list of GTID source UUIDs to include
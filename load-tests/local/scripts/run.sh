@@ -0,0 +1,76 @@
+#!/bin/bash -e
+# Copyright 2026 WSO2 LLC. (http://wso2.org)
+#
+# Licensed under the Apache License, Version 2.0 (the "License");
+# you may not use this file except in compliance with the License.
+# You may obtain a copy of the License at
+#
+#     http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+#
+# ----------------------------------------------------------------------------
+# Execution script for the local load tests
+# ----------------------------------------------------------------------------
+set -e
+baseDir=$(cd "$(dirname "$0")/.." && pwd)
+composeFile="$baseDir/deployment/compose.yaml"
+users=60
+duration=600
+warmup=60
+scenarios="select,insert,update,delete"
+startServer=true
+
+function usage() {
+    echo ""
+    echo "Usage: $0 [-u <users>] [-d <duration>] [-w <warmup>] [-s <scenarios>] [-e] [-h]"
+    echo ""
+    echo "-u: The number of concurrent users. Default: $users"
+    echo "-d: The duration of each scenario in seconds. Default: $duration"
+    echo "-w: The warm-up period of each scenario in seconds, of which the samples are discarded. Default: $warmup"
+    echo "-s: The comma separated scenarios to run. Default: $scenarios"
+    echo "-e: Use the MySQL server configured in src/Config.toml instead of starting a container"
+    echo "-h: Display this help and exit"
+    echo ""
+}
+
+while getopts "u:d:w:s:eh" opt; do
+    case "${opt}" in
+    u)
+        users=${OPTARG}
+        ;;
+    d)
+        duration=${OPTARG}
+        ;;
+    w)
+        warmup=${OPTARG}
+        ;;
+    s)
+        scenarios=${OPTARG}
+        ;;
+    e)
+        startServer=false
+        ;;
+    h)
+        usage
+        exit 0
+        ;;
+    *)
+        usage
+        exit 1
+        ;;
+    esac
+done
+
+if [ "$startServer" = true ]; then
+    docker compose -f "$composeFile" up -d --wait
+    trap 'docker compose -f "$composeFile" rm -svf' EXIT
+fi
+
+cd "$baseDir/src"
+bal run -- -Cusers="$users" -Cduration="$duration" -Cwarmup="$warmup" -Cscenarios="$scenarios" \
+    -CresultsDir="$baseDir/results"
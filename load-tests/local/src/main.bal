@@ -0,0 +1,205 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/file;
+import ballerina/io;
+import ballerina/random;
+import ballerina/sql;
+import ballerina/time;
+import ballerinax/mysql;
+import ballerinax/mysql.driver as _;
+
+configurable string host = ?;
+configurable string username = ?;
+configurable string password = ?;
+configurable int port = ?;
+
+# The comma separated scenarios to run, out of select, insert, update and delete
+configurable string scenarios = "select,insert,update,delete";
+# The number of concurrent users
+configurable int users = 60;
+# The duration of each scenario in seconds
+configurable decimal duration = 600;
+# The warm-up period of each scenario in seconds, of which the samples are discarded
+configurable decimal warmup = 60;
+# The number of rows in the table at the start of each scenario, of which the ids are updated and deleted
+configurable int seedRows = 300;
+# The directory to which the summary of each scenario is appended, as <resultsDir>/<scenario>/summary.csv
+configurable string resultsDir = "../results";
+
+// The columns of the summary.csv files of the JMeter based load tests. There is no HTTP payload, hence the
+// Received KB/sec and Payload columns are always zero.
+final string[] & readonly SUMMARY_HEADER = ["Label", "# Samples", "Average", "Median", "90% Line", "95% Line",
+    "99% Line", "Min", "Max", "Error %", "Throughput", "Received KB/sec", "Std. Dev.", "Date", "Payload", "Users"];
+
+final string[] & readonly SEED_NAMES = ["John", "John", "Tommy", "Harry", "Benny", "Tigger", "Emma"];
+final string[] & readonly SEED_CATEGORIES = ["Cat", "Dog", "Dog", "Dog", "Cat", "Cat", "Cat"];
+
+final mysql:Client dbClient = check new (host = host, user = username, password = password, port = port);
+
+type Samples record {|
+    float[] latencies;
+    int errors;
+|};
+
+public function main() returns error? {
+    string[] selected = from string scenario in re `,`.split(scenarios) select scenario.trim();
+    foreach string scenario in selected {
+        if scenario !is "select"|"insert"|"update"|"delete" {
+            return error(string `Unknown scenario '${scenario}'. Expected select, insert, update or delete.`);
+        }
+    }
+    foreach string scenario in selected {
+        check prepare();
+        decimal startTime = time:monotonicNow();
+        decimal measureFrom = startTime + warmup;
+        decimal measureUntil = measureFrom + duration;
+        io:println(string `Running the ${scenario} scenario with ${users} users for ${warmup + duration} seconds`);
+        future<Samples>[] workers = [];
+        foreach int _ in 0 ..< users {
+            future<Samples> worker = start runUser(scenario, measureFrom, measureUntil);
+            workers.push(worker);
+        }
+        Samples[] samples = [];
+        foreach future<Samples> worker in workers {
+            samples.push(check wait worker);
+        }
+        string[] summary = check summarize(scenario, samples);
+        check writeSummary(scenario, summary);
+        io:println(string `${scenario}: ${summary[1]} samples, ${summary[10]} requests/sec, ${summary[9]} errors`);
+    }
+    check dbClient.close();
+}
+
+// Recreates the table of the load tests with the same rows as the init.sql scripts of the JMeter based scenarios.
+function prepare() returns error? {
+    _ = check dbClient->execute(`CREATE DATABASE IF NOT EXISTS petdb`);
+    _ = check dbClient->execute(`DROP TABLE IF EXISTS petdb.pet`);
+    _ = check dbClient->execute(`CREATE TABLE petdb.pet (
+            id INTEGER NOT NULL AUTO_INCREMENT,
+            name VARCHAR(300),
+            category VARCHAR(300),
+            price INTEGER,
+            PRIMARY KEY (id)
+        )`);
+    sql:ParameterizedQuery[] inserts = from int i in 0 ..< seedRows
+        let int seed = i % SEED_NAMES.length()
+        select `INSERT INTO petdb.pet (name, category, price)
+            VALUES (${SEED_NAMES[seed]}, ${SEED_CATEGORIES[seed]}, ${seed % 2 == 0 ? 1000 : 2000})`;
+    if inserts.length() > 0 {
+        _ = check dbClient->batchExecute(inserts);
+    }
+}
+
+isolated function runUser(string scenario, decimal measureFrom, decimal measureUntil) returns Samples {
+    float[] latencies = [];
+    int errors = 0;
+    while true {
+        decimal startTime = time:monotonicNow();
+        if startTime >= measureUntil {
+            break;
+        }
+        error? result = execute(scenario);
+        if startTime < measureFrom {
+            continue;
+        }
+        latencies.push(<float>(time:monotonicNow() - startTime) * 1000.0);
+        if result is error {
+            errors += 1;
+        }
+    }
+    return {latencies, errors};
+}
+
+// Executes the same statements as the services of the JMeter based scenarios.
+isolated function execute(string scenario) returns error? {
+    match scenario {
+        "select" => {
+            stream<record {}, sql:Error?> resultStream = dbClient->query(`SELECT COUNT(*) AS total FROM petdb.pet`);
+            _ = check resultStream.next();
+            check resultStream.close();
+        }
+        "insert" => {
+            _ = check dbClient->execute(`INSERT INTO petdb.pet (name, category, price)
+                VALUES (${"Bella"}, ${"Cat"}, ${3000})`);
+        }
+        "update" => {
+            int id = check random:createIntInRange(1, seedRows + 1);
+            _ = check dbClient->execute(`UPDATE petdb.pet SET price = ${"1400"} WHERE id = ${id}`);
+        }
+        "delete" => {
+            int id = check random:createIntInRange(1, seedRows + 1);
+            _ = check dbClient->execute(`DELETE FROM petdb.pet WHERE id = ${id}`);
+        }
+    }
+}
+
+function summarize(string scenario, Samples[] samples) returns string[]|error {
+    float[] latencies = [];
+    int errors = 0;
+    foreach Samples userSamples in samples {
+        latencies.push(...userSamples.latencies);
+        errors += userSamples.errors;
+    }
+    int count = latencies.length();
+    if count == 0 {
+        return error(string `No samples were collected for the ${scenario} scenario.`);
+    }
+    float[] sorted = latencies.sort();
+    float average = float:sum(...sorted) / <float>count;
+    float variance = 0;
+    foreach float latency in sorted {
+        variance += (latency - average) * (latency - average) / <float>count;
+    }
+    return [
+        scenario,
+        count.toString(),
+        format(average),
+        format(percentile(sorted, 50)),
+        format(percentile(sorted, 90)),
+        format(percentile(sorted, 95)),
+        format(percentile(sorted, 99)),
+        format(sorted[0]),
+        format(sorted[count - 1]),
+        format(<float>errors * 100.0 / <float>count) + "%",
+        format(<float>count / <float>duration),
+        "0",
+        format(variance.sqrt()),
+        time:utcNow()[0].toString(),
+        "0",
+        users.toString()
+    ];
+}
+
+// Returns the nearest-rank percentile of the sorted latencies, as reported by JMeter.
+isolated function percentile(float[] sorted, int percent) returns float {
+    int rank = <int>(<float>(percent * sorted.length()) / 100.0).ceiling();
+    return sorted[rank < 1 ? 0 : rank - 1];
+}
+
+isolated function format(float value) returns string => value.round(2).toString();
+
+function writeSummary(string scenario, string[] summary) returns error? {
+    string scenarioDir = check file:joinPath(resultsDir, scenario);
+    boolean scenarioDirExists = check file:test(scenarioDir, file:EXISTS);
+    if !scenarioDirExists {
+        check file:createDir(scenarioDir, file:RECURSIVE);
+    }
+    string summaryFile = check file:joinPath(scenarioDir, "summary.csv");
+    boolean summaryExists = check file:test(summaryFile, file:EXISTS);
+    string[][] rows = summaryExists ? [summary] : [SUMMARY_HEADER, summary];
+    check io:fileWriteCsv(summaryFile, rows, io:APPEND);
+}
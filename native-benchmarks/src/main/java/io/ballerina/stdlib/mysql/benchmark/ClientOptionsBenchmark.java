@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.benchmark;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.mysql.Constants;
+import io.ballerina.stdlib.mysql.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the processing of the client options into the driver properties done by `ClientProcessor.createClient`,
+ * i.e. `Utils.processOptionsMap`. The connection pool created afterwards needs a server, hence it is left out.
+ *
+ * @since 1.18.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientOptionsBenchmark {
+
+    @Param({"defaults", "configured"})
+    private String options;
+
+    private BMap<BString, Object> mysqlOptions;
+
+    @Setup
+    public void setup() {
+        // The fields with default values in the `mysql:Options` record are always present
+        mysqlOptions = ValueCreator.createMapValue();
+        mysqlOptions.put(Constants.Options.USE_XA_DATASOURCE, false);
+        mysqlOptions.put(Constants.Options.CONNECT_TIMEOUT, ValueCreator.createDecimalValue(new BigDecimal(30)));
+        mysqlOptions.put(Constants.Options.SOCKET_TIMEOUT, ValueCreator.createDecimalValue(BigDecimal.ZERO));
+        mysqlOptions.put(Constants.Options.ACCESS_TO_PROCEDURE_BODIES, false);
+        mysqlOptions.put(Constants.Options.USE_COMPRESSION, false);
+        mysqlOptions.put(Constants.Options.TRACK_SESSION_STATE, false);
+        mysqlOptions.put(Constants.Options.ALLOW_LOAD_LOCAL_INFILE, false);
+        if (options.equals("defaults")) {
+            return;
+        }
+        BMap<BString, Object> ssl = ValueCreator.createMapValue();
+        ssl.put(Constants.SecureSocket.MODE, StringUtils.fromString("REQUIRED"));
+        ssl.put(Constants.Options.ALLOW_PUBLIC_KEY_RETRIEVAL, true);
+        mysqlOptions.put(Constants.Options.SSL, ssl);
+        mysqlOptions.put(Constants.Options.SERVER_TIMEZONE, StringUtils.fromString("UTC"));
+        mysqlOptions.put(Constants.Options.USE_COMPRESSION, true);
+        mysqlOptions.put(Constants.Options.TRACK_SESSION_STATE, true);
+        BMap<BString, Object> statementCache = ValueCreator.createMapValue();
+        statementCache.put(Constants.StatementCacheConfig.USE_SERVER_PREP_STMTS, true);
+        statementCache.put(Constants.StatementCacheConfig.SIZE, 25L);
+        statementCache.put(Constants.StatementCacheConfig.MAX_SQL_LENGTH, 256L);
+        mysqlOptions.put(Constants.Options.STATEMENT_CACHE, statementCache);
+        BMap<BString, Object> resultFetch = ValueCreator.createMapValue();
+        resultFetch.put(Constants.ResultFetchConfig.MODE, StringUtils.fromString("CURSOR"));
+        resultFetch.put(Constants.ResultFetchConfig.FETCH_SIZE, 1000L);
+        mysqlOptions.put(Constants.Options.RESULT_FETCH, resultFetch);
+    }
+
+    @Benchmark
+    public BMap<BString, Object> processOptionsMap() {
+        BMap<BString, Object> properties = ValueCreator.createMapValue();
+        Utils.processOptionsMap(mysqlOptions, properties);
+        return properties;
+    }
+}
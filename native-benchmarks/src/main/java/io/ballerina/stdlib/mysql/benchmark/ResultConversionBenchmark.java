@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.benchmark;
+
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.stdlib.mysql.parameterprocessor.MysqlResultParameterProcessor;
+import io.ballerina.stdlib.sql.exception.DataError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of a TIME and a DATETIME cell to the type of a record field by
+ * `MysqlResultParameterProcessor`. Conversions to `time:Civil` and `time:TimeOfDay` records need the Ballerina runtime
+ * of the time module to create the records, and their field values are measured by
+ * {@link TemporalConversionBenchmark} instead.
+ *
+ * @since 1.18.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultConversionBenchmark {
+
+    @Param({"string", "int"})
+    private String fieldType;
+
+    private Type type;
+    private Time time;
+    private Timestamp timestamp;
+
+    @Setup
+    public void setup() {
+        type = fieldType.equals("string") ? PredefinedTypes.TYPE_STRING : PredefinedTypes.TYPE_INT;
+        time = Time.valueOf(LocalTime.of(10, 15, 30));
+        timestamp = Timestamp.valueOf(LocalDateTime.of(2026, 4, 3, 10, 15, 30, 123456000));
+    }
+
+    @Benchmark
+    public Object convertTime() throws DataError {
+        return MysqlResultParameterProcessor.getInstance().convertTime(time, Types.TIME, type);
+    }
+
+    @Benchmark
+    public Object convertTimeStamp() throws DataError {
+        return MysqlResultParameterProcessor.getInstance().convertTimeStamp(timestamp, Types.TIMESTAMP, type);
+    }
+}
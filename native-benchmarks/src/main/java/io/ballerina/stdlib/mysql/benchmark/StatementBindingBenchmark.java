@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.benchmark;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.mysql.parameterprocessor.MysqlStatementParameterProcessor;
+import io.ballerina.stdlib.sql.exception.DataError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the binding of the parameters of a query to a prepared statement by
+ * `MysqlStatementParameterProcessor.setParams`. The parameters are bound to a {@link SyntheticPreparedStatement},
+ * hence the work of the driver is left out.
+ *
+ * @since 1.18.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatementBindingBenchmark {
+
+    @Param({"1", "6", "24"})
+    private int parameterCount;
+
+    private BObject query;
+    private SyntheticPreparedStatement statement;
+
+    @Setup
+    public void setup() {
+        query = SyntheticQuery.create(parameterCount);
+        statement = new SyntheticPreparedStatement(parameterCount);
+    }
+
+    @Benchmark
+    public SyntheticPreparedStatement setParams() throws SQLException, DataError {
+        MysqlStatementParameterProcessor.getInstance().setParams(null, statement, query);
+        return statement;
+    }
+}
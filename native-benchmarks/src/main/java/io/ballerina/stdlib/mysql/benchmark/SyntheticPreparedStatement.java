@@ -0,0 +1,572 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.benchmark;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Calendar;
+
+/**
+ * A prepared statement that keeps the parameters bound to it in memory instead of sending them to a server, so that
+ * the binding done by the statement parameter processor can be measured on its own. Only the setters used for the
+ * values of a `sql:ParameterizedQuery` are supported.
+ *
+ * @since 1.18.1
+ */
+public class SyntheticPreparedStatement implements PreparedStatement {
+
+    private final Object[] values;
+    private final long[] primitives;
+    private boolean closed = false;
+
+    public SyntheticPreparedStatement(int parameterCount) {
+        this.values = new Object[parameterCount + 1];
+        this.primitives = new long[parameterCount + 1];
+    }
+
+    public Object getValue(int parameterIndex) {
+        return values[parameterIndex];
+    }
+
+    public long getPrimitive(int parameterIndex) {
+        return primitives[parameterIndex];
+    }
+
+    @Override
+    public void setNull(int parameterIndex, int sqlType) {
+        values[parameterIndex] = null;
+        primitives[parameterIndex] = sqlType;
+    }
+
+    @Override
+    public void setBoolean(int parameterIndex, boolean x) {
+        primitives[parameterIndex] = x ? 1 : 0;
+    }
+
+    @Override
+    public void setInt(int parameterIndex, int x) {
+        primitives[parameterIndex] = x;
+    }
+
+    @Override
+    public void setLong(int parameterIndex, long x) {
+        primitives[parameterIndex] = x;
+    }
+
+    @Override
+    public void setDouble(int parameterIndex, double x) {
+        primitives[parameterIndex] = Double.doubleToRawLongBits(x);
+    }
+
+    @Override
+    public void setBigDecimal(int parameterIndex, BigDecimal x) {
+        values[parameterIndex] = x;
+    }
+
+    @Override
+    public void setString(int parameterIndex, String x) {
+        values[parameterIndex] = x;
+    }
+
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x) {
+        values[parameterIndex] = x;
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x) {
+        values[parameterIndex] = x;
+    }
+
+    @Override
+    public void clearParameters() {
+        Arrays.fill(values, null);
+        Arrays.fill(primitives, 0);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private static SQLException unsupported() {
+        return new SQLFeatureNotSupportedException("Not supported by the synthetic prepared statement.");
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void addBatch(String sql) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public ResultSet executeQuery(String sql) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public int executeUpdate(String sql, int flag) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public int executeUpdate(String sql) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean execute(String sql, String[] columnNames) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean execute(String sql, int flag) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean execute(String sql) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean getMoreResults(int flag) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public ParameterMetaData getParameterMetaData() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setArray(int parameterIndex, Array x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, InputStream x, long length) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, InputStream x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, Blob x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setByte(int parameterIndex, byte x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader x, int length) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader x, long length) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Reader x, long length) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Reader x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Clob x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCursorName(String sql) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setDate(int parameterIndex, Date x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean value) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setFetchDirection(int value) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setFetchSize(int value) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setFloat(int parameterIndex, float x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setMaxFieldSize(int value) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setMaxRows(int value) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setNCharacterStream(int parameterIndex, Reader x, long length) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setNCharacterStream(int parameterIndex, Reader x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, Reader x, long length) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, Reader x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, NClob x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setNString(int parameterIndex, String x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setNull(int parameterIndex, int x, String typeName) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setPoolable(boolean value) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setQueryTimeout(int value) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setRef(int parameterIndex, Ref x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setRowId(int parameterIndex, RowId x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setSQLXML(int parameterIndex, SQLXML x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setShort(int parameterIndex, short x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setTime(int parameterIndex, Time x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setURL(int parameterIndex, URL x) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        throw unsupported();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        throw unsupported();
+    }
+}
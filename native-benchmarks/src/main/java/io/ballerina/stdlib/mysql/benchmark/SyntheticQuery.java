@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.benchmark;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.mysql.Constants;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+
+/**
+ * Creates stand-ins of `sql:ParameterizedQuery` values, which are otherwise created by the Ballerina runtime of the
+ * sql module. The stand-ins return the strings and insertions of the query, and do not support the other methods of
+ * an object.
+ *
+ * @since 1.18.1
+ */
+public class SyntheticQuery {
+
+    private SyntheticQuery() {
+    }
+
+    /**
+     * Creates a query of which the parameters cycle through int, string, decimal, float, boolean and nil values.
+     *
+     * @param parameterCount the number of parameters of the query
+     * @return the query
+     */
+    public static BObject create(int parameterCount) {
+        Object[] values = {42L, StringUtils.fromString("Ballerina"), ValueCreator.createDecimalValue(
+                new BigDecimal("1234.567")), 3.14, true, null};
+        Object[] insertions = new Object[parameterCount];
+        BString[] strings = new BString[parameterCount + 1];
+        strings[0] = StringUtils.fromString("SELECT * FROM DataTable WHERE ");
+        for (int i = 0; i < parameterCount; i++) {
+            insertions[i] = values[i % values.length];
+            strings[i + 1] = StringUtils.fromString(i < parameterCount - 1 ? " AND col = " : "");
+        }
+        BArray stringArray = ValueCreator.createArrayValue(strings);
+        BArray insertionArray = ValueCreator.createArrayValue(insertions,
+                TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA));
+        return (BObject) Proxy.newProxyInstance(SyntheticQuery.class.getClassLoader(), new Class<?>[]{BObject.class},
+                (proxy, method, args) -> {
+                    if ((method.getName().equals("getArrayValue") || method.getName().equals("get"))) {
+                        if (Constants.ParameterizedQuery.STRINGS.equals(args[0])) {
+                            return stringArray;
+                        } else if (Constants.ParameterizedQuery.INSERTIONS.equals(args[0])) {
+                            return insertionArray;
+                        }
+                    }
+                    throw new UnsupportedOperationException("Not supported by the synthetic query: " +
+                            method.getName());
+                });
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.benchmark;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.stdlib.mysql.utils.TimeUtils;
+import io.ballerina.stdlib.time.util.Constants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the work done per DATETIME cell when it is mapped to a `time:Civil` record, i.e. the field keys and the
+ * field values put into the record. The record itself is created the same way by both conversions and needs the
+ * Ballerina runtime of the time module, hence it is left out. Run with `./gradlew :mysql-native-benchmarks:jmh
+ * -Pbenchmarks=TemporalConversion` and compare the `gc.alloc.rate.norm` (bytes allocated per cell) of the two
+ * benchmarks.
+ *
+ * @since 1.18.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemporalConversionBenchmark {
+
+    private static final BigDecimal NANOS_PER_SECOND = new BigDecimal(1_000_000_000);
+
+    @Param({"0", "123456000"})
+    private int nanos;
+
+    private Timestamp timestamp;
+
+    @Setup
+    public void setup() {
+        timestamp = Timestamp.valueOf(LocalDateTime.of(2026, 4, 3, 10, 15, 30, nanos));
+    }
+
+    /**
+     * The conversion prior to 1.18.1, which created the keys of each field and divided the nanoseconds.
+     */
+    @Benchmark
+    public void fieldsWithDivision(Blackhole blackhole) {
+        LocalDateTime dateTime = timestamp.toLocalDateTime();
+        blackhole.consume(StringUtils.fromString(Constants.DATE_RECORD_YEAR));
+        blackhole.consume(dateTime.getYear());
+        blackhole.consume(StringUtils.fromString(Constants.DATE_RECORD_MONTH));
+        blackhole.consume(dateTime.getMonthValue());
+        blackhole.consume(StringUtils.fromString(Constants.DATE_RECORD_DAY));
+        blackhole.consume(dateTime.getDayOfMonth());
+        blackhole.consume(StringUtils.fromString(Constants.TIME_OF_DAY_RECORD_HOUR));
+        blackhole.consume(dateTime.getHour());
+        blackhole.consume(StringUtils.fromString(Constants.TIME_OF_DAY_RECORD_MINUTE));
+        blackhole.consume(dateTime.getMinute());
+        blackhole.consume(StringUtils.fromString(Constants.TIME_OF_DAY_RECORD_SECOND));
+        BigDecimal second = new BigDecimal(dateTime.getSecond());
+        blackhole.consume(second.add(new BigDecimal(dateTime.getNano()).divide(NANOS_PER_SECOND,
+                MathContext.DECIMAL128)));
+    }
+
+    /**
+     * The conversion done by `MysqlResultParameterProcessor.convertTimeStamp`.
+     */
+    @Benchmark
+    public void fieldsWithoutDivision(Blackhole blackhole) {
+        LocalDateTime dateTime = timestamp.toLocalDateTime();
+        blackhole.consume(TimeUtils.YEAR);
+        blackhole.consume(dateTime.getYear());
+        blackhole.consume(TimeUtils.MONTH);
+        blackhole.consume(dateTime.getMonthValue());
+        blackhole.consume(TimeUtils.DAY);
+        blackhole.consume(dateTime.getDayOfMonth());
+        blackhole.consume(TimeUtils.HOUR);
+        blackhole.consume(dateTime.getHour());
+        blackhole.consume(TimeUtils.MINUTE);
+        blackhole.consume(dateTime.getMinute());
+        blackhole.consume(TimeUtils.SECOND);
+        blackhole.consume(TimeUtils.toSeconds(dateTime.getSecond(), dateTime.getNano()));
+    }
+}
@@ -63,6 +63,19 @@ public final class Constants {
         public static final BString SERVER_TIMEZONE = StringUtils.fromString("serverTimezone");
         public static final BString ACCESS_TO_PROCEDURE_BODIES = StringUtils.fromString("noAccessToProcedureBodies");
         public static final BString FAILOVER_CONFIG = StringUtils.fromString("failoverConfig");
+        public static final BString STATEMENT_CACHE = StringUtils.fromString("statementCache");
+        public static final BString RESULT_FETCH = StringUtils.fromString("resultFetch");
+        public static final BString LOAD_BALANCE_CONFIG = StringUtils.fromString("loadBalanceConfig");
+        public static final BString USE_COMPRESSION = StringUtils.fromString("useCompression");
+        public static final BString TRANSFER_STATS = StringUtils.fromString("transferStats");
+        public static final BString WARM_UP = StringUtils.fromString("warmUp");
+        public static final BString TRACK_SESSION_STATE = StringUtils.fromString("trackSessionState");
+        public static final BString ALLOW_LOAD_LOCAL_INFILE = StringUtils.fromString("allowLoadLocalInfile");
+        public static final BString TRACK_BLOCKING_CALLS = StringUtils.fromString("trackBlockingCalls");
+        public static final BString RESULT_CACHE = StringUtils.fromString("resultCache");
+        public static final BString STATEMENT_METRICS = StringUtils.fromString("statementMetrics");
+        public static final BString SLOW_QUERY_LOG = StringUtils.fromString("slowQueryLog");
+        public static final BString QUERY_TIMEOUT = StringUtils.fromString("queryTimeout");
 
     }
 
@@ -128,6 +141,413 @@ public final class Constants {
         }
     }
 
+    /**
+     * Constants for load balancing.
+     */
+    public static final class LoadBalanceConfig {
+
+        private LoadBalanceConfig() {
+        }
+
+        public static final BString LOAD_BALANCE_SERVERS = StringUtils.fromString("loadBalanceServers");
+        public static final BString STRATEGY = StringUtils.fromString("strategy");
+        public static final BString REBALANCE = StringUtils.fromString("rebalance");
+        public static final BString BLOCKLIST_TIMEOUT = StringUtils.fromString("blocklistTimeout");
+        public static final BString HEALTH_CHECK_INTERVAL = StringUtils.fromString("healthCheckInterval");
+        public static final String BEST_RESPONSE_TIME = "BEST_RESPONSE_TIME";
+        public static final String PER_TRANSACTION = "PER_TRANSACTION";
+
+        /**
+         * Constants for LoadBalanceServer record.
+         */
+        public static final class LoadBalanceServer {
+            private LoadBalanceServer() {
+            }
+
+            public static final BString HOST = StringUtils.fromString("host");
+            public static final BString PORT = StringUtils.fromString("port");
+        }
+    }
+
+    /**
+     * Constants for host health statistics record.
+     */
+    public static final class HostHealthStats {
+
+        private HostHealthStats() {
+        }
+
+        public static final String RECORD_NAME = "HostHealthStats";
+        public static final String HOST = "host";
+        public static final String PORT = "port";
+        public static final String AVAILABLE = "available";
+        public static final String LATENCY = "latency";
+        public static final String AVERAGE_LATENCY = "averageLatency";
+        public static final String CHECKS = "checks";
+        public static final String ERRORS = "errors";
+    }
+
+    /**
+     * Constants for transfer statistics record.
+     */
+    public static final class TransferStats {
+
+        private TransferStats() {
+        }
+
+        public static final String RECORD_NAME = "TransferStats";
+        public static final String WIRE_BYTES_SENT = "wireBytesSent";
+        public static final String WIRE_BYTES_RECEIVED = "wireBytesReceived";
+        public static final String STATEMENTS = "statements";
+        public static final String SESSION_STATEMENTS = "sessionStatements";
+        public static final String CONNECTIONS = "connections";
+    }
+
+    /**
+     * Constants for connection pool warm-up configuration.
+     */
+    public static final class WarmUpConfig {
+
+        private WarmUpConfig() {
+        }
+
+        public static final BString CONNECTIONS = StringUtils.fromString("connections");
+        public static final BString MIN_READY = StringUtils.fromString("minReady");
+        public static final BString TIMEOUT = StringUtils.fromString("timeout");
+    }
+
+    /**
+     * Constants for connection pool warm-up statistics record.
+     */
+    public static final class WarmUpStats {
+
+        private WarmUpStats() {
+        }
+
+        public static final String RECORD_NAME = "WarmUpStats";
+        public static final String READY = "ready";
+        public static final String FAILED = "failed";
+        public static final String DURATION = "duration";
+    }
+
+    /**
+     * Constants for load data result record.
+     */
+    public static final class LoadDataResult {
+
+        private LoadDataResult() {
+        }
+
+        public static final String RECORD_NAME = "LoadDataResult";
+        public static final String ROWS_LOADED = "rowsLoaded";
+        public static final String WARNINGS = "warnings";
+    }
+
+    /**
+     * Constants for in-flight call statistics record.
+     */
+    public static final class InFlightStats {
+
+        private InFlightStats() {
+        }
+
+        public static final String RECORD_NAME = "InFlightStats";
+        public static final String IN_FLIGHT = "inFlight";
+        public static final String PEAK_IN_FLIGHT = "peakInFlight";
+        public static final String COMPLETED = "completed";
+    }
+
+    /**
+     * Constants for statement cache configuration.
+     */
+    public static final class StatementCacheConfig {
+
+        private StatementCacheConfig() {
+        }
+
+        public static final BString USE_SERVER_PREP_STMTS = StringUtils.fromString("useServerPrepStmts");
+        public static final BString SIZE = StringUtils.fromString("size");
+        public static final BString MAX_SQL_LENGTH = StringUtils.fromString("maxSqlLength");
+    }
+
+    /**
+     * Constants for result fetch configuration.
+     */
+    public static final class ResultFetchConfig {
+
+        private ResultFetchConfig() {
+        }
+
+        public static final BString MODE = StringUtils.fromString("mode");
+        public static final BString FETCH_SIZE = StringUtils.fromString("fetchSize");
+        public static final String FETCH_STREAMING = "STREAMING";
+    }
+
+    /**
+     * Constants for replica configuration.
+     */
+    public static final class ReplicaConfig {
+
+        private ReplicaConfig() {
+        }
+
+        public static final BString REPLICAS = StringUtils.fromString("replicas");
+        public static final BString BALANCING = StringUtils.fromString("balancing");
+        public static final BString MAX_REPLICATION_LAG = StringUtils.fromString("maxReplicationLag");
+        public static final BString LAG_CHECK_INTERVAL = StringUtils.fromString("lagCheckInterval");
+        public static final String LEAST_OUTSTANDING_REQUESTS = "LEAST_OUTSTANDING_REQUESTS";
+
+        /**
+         * Constants for ReplicaServer record.
+         */
+        public static final class ReplicaServer {
+            private ReplicaServer() {
+            }
+
+            public static final BString HOST = StringUtils.fromString("host");
+            public static final BString PORT = StringUtils.fromString("port");
+        }
+    }
+
+    /**
+     * Constants for replica status record.
+     */
+    public static final class ReplicaStatus {
+
+        private ReplicaStatus() {
+        }
+
+        public static final String RECORD_NAME = "ReplicaStatus";
+        public static final String HOST = "host";
+        public static final String PORT = "port";
+        public static final String IN_ROTATION = "inRotation";
+        public static final String REPLICATION_LAG = "replicationLag";
+        public static final String OUTSTANDING_REQUESTS = "outstandingRequests";
+    }
+
+    /**
+     * Constants for statement cache estimate record.
+     */
+    public static final class StatementCacheEstimate {
+
+        private StatementCacheEstimate() {
+        }
+
+        public static final String RECORD_NAME = "StatementCacheEstimate";
+        public static final String HITS = "hits";
+        public static final String MISSES = "misses";
+        public static final String EVICTIONS = "evictions";
+    }
+
+    /**
+     * Constants for result cache configuration.
+     */
+    public static final class ResultCacheConfig {
+
+        private ResultCacheConfig() {
+        }
+
+        public static final BString MAX_SIZE = StringUtils.fromString("maxSize");
+        public static final BString DEFAULT_TTL = StringUtils.fromString("defaultTtl");
+    }
+
+    /**
+     * Constants for the cache options of a query.
+     */
+    public static final class CachedQueryOptions {
+
+        private CachedQueryOptions() {
+        }
+
+        public static final BString TTL = StringUtils.fromString("ttl");
+        public static final BString TABLES = StringUtils.fromString("tables");
+    }
+
+    /**
+     * Constants for the options of a paged query.
+     */
+    public static final class PagedQueryOptions {
+
+        private PagedQueryOptions() {
+        }
+
+        public static final BString PAGE_SIZE = StringUtils.fromString("pageSize");
+        public static final BString PREFETCH = StringUtils.fromString("prefetch");
+    }
+
+    /**
+     * Constants for the options of a snapshot export.
+     */
+    public static final class SnapshotExportOptions {
+
+        private SnapshotExportOptions() {
+        }
+
+        public static final BString CONNECTIONS = StringUtils.fromString("connections");
+        public static final BString FORMAT = StringUtils.fromString("format");
+        public static final BString COMPRESS = StringUtils.fromString("compress");
+        public static final BString CONSISTENCY = StringUtils.fromString("consistency");
+        public static final BString CHUNK_ROWS = StringUtils.fromString("chunkRows");
+        public static final BString LOCK_TIMEOUT = StringUtils.fromString("lockTimeout");
+        public static final String FORMAT_NDJSON = "NDJSON";
+        public static final String SNAPSHOT_LOCK = "LOCK";
+    }
+
+    /**
+     * Constants for snapshot export result record.
+     */
+    public static final class SnapshotExportResult {
+
+        private SnapshotExportResult() {
+        }
+
+        public static final String RECORD_NAME = "SnapshotExportResult";
+        public static final String POSITION = "position";
+        public static final String FILES = "files";
+        public static final String LOCK_TIME = "lockTime";
+    }
+
+    /**
+     * Constants for binary log position record.
+     */
+    public static final class BinlogPosition {
+
+        private BinlogPosition() {
+        }
+
+        public static final String RECORD_NAME = "BinlogPosition";
+        public static final String FILE = "file";
+        public static final String POSITION = "position";
+        public static final String GTID_SET = "gtidSet";
+    }
+
+    /**
+     * Constants for exported file record.
+     */
+    public static final class ExportedFile {
+
+        private ExportedFile() {
+        }
+
+        public static final String RECORD_NAME = "ExportedFile";
+        public static final String TABLE_NAME = "tableName";
+        public static final String PATH = "path";
+        public static final String ROW_COUNT = "rowCount";
+        public static final String SIZE = "size";
+    }
+
+    /**
+     * Constants for result cache statistics record.
+     */
+    public static final class ResultCacheStats {
+
+        private ResultCacheStats() {
+        }
+
+        public static final String RECORD_NAME = "ResultCacheStats";
+        public static final String HITS = "hits";
+        public static final String MISSES = "misses";
+        public static final String EXPIRATIONS = "expirations";
+        public static final String EVICTIONS = "evictions";
+        public static final String INVALIDATIONS = "invalidations";
+        public static final String ENTRIES = "entries";
+        public static final String SIZE = "size";
+    }
+
+    /**
+     * Constants for statement metrics configuration.
+     */
+    public static final class StatementMetricsConfig {
+
+        private StatementMetricsConfig() {
+        }
+
+        public static final BString MAX_FINGERPRINTS = StringUtils.fromString("maxFingerprints");
+        public static final BString MAX_METRIC_FINGERPRINTS = StringUtils.fromString("maxMetricFingerprints");
+    }
+
+    /**
+     * Constants for statement statistics record.
+     */
+    public static final class StatementStats {
+
+        private StatementStats() {
+        }
+
+        public static final String RECORD_NAME = "StatementStats";
+        public static final String FINGERPRINT = "fingerprint";
+        public static final String ID = "id";
+        public static final String EXECUTIONS = "executions";
+        public static final String ERRORS = "errors";
+        public static final String ROWS_RETURNED = "rowsReturned";
+        public static final String ROWS_AFFECTED = "rowsAffected";
+        public static final String EXECUTION_TIME = "executionTime";
+        public static final String POOL_WAIT_TIME = "poolWaitTime";
+    }
+
+    /**
+     * Constants for latency statistics record.
+     */
+    public static final class LatencyStats {
+
+        private LatencyStats() {
+        }
+
+        public static final String RECORD_NAME = "LatencyStats";
+        public static final String COUNT = "count";
+        public static final String MEAN = "mean";
+        public static final String MAX = "max";
+        public static final String P50 = "p50";
+        public static final String P95 = "p95";
+        public static final String P99 = "p99";
+    }
+
+    /**
+     * Constants for slow query log configuration.
+     */
+    public static final class SlowQueryLogConfig {
+
+        private SlowQueryLogConfig() {
+        }
+
+        public static final BString THRESHOLD = StringUtils.fromString("threshold");
+        public static final BString CAPACITY = StringUtils.fromString("capacity");
+        public static final BString REDACT_PARAMETERS = StringUtils.fromString("redactParameters");
+        public static final BString EXPLAIN_INTERVAL = StringUtils.fromString("explainInterval");
+    }
+
+    /**
+     * Constants for slow query record.
+     */
+    public static final class SlowQuery {
+
+        private SlowQuery() {
+        }
+
+        public static final String RECORD_NAME = "SlowQuery";
+        public static final String FINGERPRINT = "fingerprint";
+        public static final String PARAMETERS = "parameters";
+        public static final String RECORDED_AT = "recordedAt";
+        public static final String DURATION = "duration";
+        public static final String POOL_WAIT_TIME = "poolWaitTime";
+        public static final String EXECUTION_TIME = "executionTime";
+        public static final String CONVERSION_TIME = "conversionTime";
+        public static final String PLAN = "plan";
+        public static final String PLAN_ERROR = "planError";
+    }
+
+    /**
+     * Constants for fields of `sql:ParameterizedQuery`.
+     */
+    public static final class ParameterizedQuery {
+
+        private ParameterizedQuery() {
+        }
+
+        public static final BString STRINGS = StringUtils.fromString("strings");
+        public static final BString INSERTIONS = StringUtils.fromString("insertions");
+    }
+
     /**
     * Constants for database specific properties.
     */
@@ -155,6 +575,26 @@ public final class Constants {
         public static final BString TIME_BEFORE_RETRY = StringUtils.fromString("secondsBeforeRetryMaster");
         public static final BString QUERIES_BEFORE_RETRY = StringUtils.fromString("queriesBeforeRetryMaster");
         public static final BString FAILOVER_READONLY = StringUtils.fromString("failOverReadOnly");
+        public static final BString USE_SERVER_PREP_STMTS = StringUtils.fromString("useServerPrepStmts");
+        public static final BString CACHE_PREP_STMTS = StringUtils.fromString("cachePrepStmts");
+        public static final BString PREP_STMT_CACHE_SIZE = StringUtils.fromString("prepStmtCacheSize");
+        public static final BString PREP_STMT_CACHE_SQL_LIMIT = StringUtils.fromString("prepStmtCacheSqlLimit");
+        public static final BString USE_CURSOR_FETCH = StringUtils.fromString("useCursorFetch");
+        public static final BString DEFAULT_FETCH_SIZE = StringUtils.fromString("defaultFetchSize");
+        public static final BString LOAD_BALANCE_STRATEGY = StringUtils.fromString("loadBalanceStrategy");
+        public static final BString LOAD_BALANCE_BLOCKLIST_TIMEOUT = StringUtils.fromString(
+            "loadBalanceBlocklistTimeout");
+        public static final BString LOAD_BALANCE_AUTO_COMMIT_STATEMENT_THRESHOLD = StringUtils.fromString(
+            "loadBalanceAutoCommitStatementThreshold");
+        public static final BString USE_COMPRESSION = StringUtils.fromString("useCompression");
+        public static final BString CONNECTION_ATTRIBUTES = StringUtils.fromString("connectionAttributes");
+        public static final BString USE_LOCAL_SESSION_STATE = StringUtils.fromString("useLocalSessionState");
+        public static final BString USE_LOCAL_TRANSACTION_STATE = StringUtils.fromString("useLocalTransactionState");
+        public static final BString CACHE_SERVER_CONFIGURATION = StringUtils.fromString("cacheServerConfiguration");
+        public static final BString ALLOW_LOAD_LOCAL_INFILE = StringUtils.fromString("allowLoadLocalInfile");
+        public static final BString ALLOW_MULTI_QUERIES = StringUtils.fromString("allowMultiQueries");
+        public static final String STRATEGY_RANDOM = "random";
+        public static final String STRATEGY_BEST_RESPONSE_TIME = "bestResponseTime";
 
     }
 
@@ -162,4 +602,29 @@ public final class Constants {
     public static final String MYSQL_XA_DATASOURCE_NAME = "com.mysql.cj.jdbc.MysqlXADataSource";
     public static final String FILE = "file:";
     public static final String POOL_CONNECT_TIMEOUT = "ConnectionTimeout";
+    public static final String STATEMENT_CACHE_ESTIMATOR = "StatementCacheEstimator";
+    public static final String REPLICA_ROUTER = "ReplicaRouter";
+    public static final String REPLICA = "Replica";
+    public static final String HOST_HEALTH_MONITOR = "HostHealthMonitor";
+    public static final String CLIENT_ID = "ClientId";
+    public static final String TRANSFER_STATS_URL = "TransferStatsUrl";
+    public static final String TRANSFER_STATS_PROPERTIES = "TransferStatsProperties";
+    public static final String POOL_WARMER = "PoolWarmer";
+    public static final String LOAD_LOCAL_INFILE_ALLOWED = "LoadLocalInfileAllowed";
+    public static final String LOCAL_INFILE_LOADER = "LocalInfileLoader";
+    public static final String LOAD_DATA_CLIENT = "LoadDataClient";
+    public static final String LOAD_DATA_TABLE = "LoadDataTable";
+    public static final String BLOCKING_CALL_TRACKER = "BlockingCallTracker";
+    public static final String FETCH_HOOKS = "FetchHooks";
+    public static final String MULTI_STATEMENT_CLIENT = "MultiStatementClient";
+    public static final String COLUMN_READER = "ColumnReader";
+    public static final String COLUMN_CHUNK_SIZE = "ColumnChunkSize";
+    public static final String RESULT_CACHE = "ResultCache";
+    public static final String STATEMENT_METRICS = "StatementMetrics";
+    public static final String STATEMENT_BOUND_TIME = "StatementBoundTime";
+    public static final String SLOW_QUERY_LOG = "SlowQueryLog";
+    public static final String QUERY_TIMEOUT = "QueryTimeout";
+    public static final String QUERY_TIMEOUT_SECONDS = "QueryTimeoutSeconds";
+    public static final String CLIENT_ID_ATTRIBUTE = "ballerina_client_id";
+    public static final String REWRITTEN_QUERY = "RewrittenQuery";
 }
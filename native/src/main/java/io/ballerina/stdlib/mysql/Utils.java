@@ -17,10 +17,16 @@
  */
 package io.ballerina.stdlib.mysql;
 
+import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.mysql.utils.ModuleUtils;
+
+import java.util.HashMap;
 
 import static io.ballerina.stdlib.mysql.Constants.Options.ACCESS_TO_PROCEDURE_BODIES;
 
@@ -51,6 +57,95 @@ public class Utils {
 
         boolean noAccessToProcedureBodies = mysqlOptions.getBooleanValue(ACCESS_TO_PROCEDURE_BODIES);
         options.put(Constants.DatabaseProps.ACCESS_TO_PROCEDURE_BODIES, noAccessToProcedureBodies);
+
+        if (mysqlOptions.getBooleanValue(Constants.Options.USE_COMPRESSION)) {
+            options.put(Constants.DatabaseProps.USE_COMPRESSION, true);
+        }
+
+        if (mysqlOptions.getBooleanValue(Constants.Options.ALLOW_LOAD_LOCAL_INFILE)) {
+            options.put(Constants.DatabaseProps.ALLOW_LOAD_LOCAL_INFILE, true);
+        }
+
+        if (mysqlOptions.getBooleanValue(Constants.Options.TRACK_SESSION_STATE)) {
+            // Skip the statements that set or read the session state when it is already known to the driver
+            options.put(Constants.DatabaseProps.USE_LOCAL_SESSION_STATE, true);
+            options.put(Constants.DatabaseProps.USE_LOCAL_TRANSACTION_STATE, true);
+            options.put(Constants.DatabaseProps.CACHE_SERVER_CONFIGURATION, true);
+        }
+
+        addStatementCacheOptions(mysqlOptions.getMapValue(Constants.Options.STATEMENT_CACHE), options);
+        addResultFetchOptions(mysqlOptions.getMapValue(Constants.Options.RESULT_FETCH), options);
+        addLoadBalanceOptions(mysqlOptions.getMapValue(Constants.Options.LOAD_BALANCE_CONFIG), options);
+    }
+
+    public static void addStatementCacheOptions(BMap statementCache, BMap<BString, Object> options) {
+        if (statementCache != null) {
+            options.put(Constants.DatabaseProps.USE_SERVER_PREP_STMTS,
+                    statementCache.getBooleanValue(Constants.StatementCacheConfig.USE_SERVER_PREP_STMTS));
+            options.put(Constants.DatabaseProps.CACHE_PREP_STMTS, true);
+            options.put(Constants.DatabaseProps.PREP_STMT_CACHE_SIZE,
+                    statementCache.getIntValue(Constants.StatementCacheConfig.SIZE));
+            options.put(Constants.DatabaseProps.PREP_STMT_CACHE_SQL_LIMIT,
+                    statementCache.getIntValue(Constants.StatementCacheConfig.MAX_SQL_LENGTH));
+        }
+    }
+
+    public static void addResultFetchOptions(BMap resultFetch, BMap<BString, Object> options) {
+        if (resultFetch != null) {
+            String mode = resultFetch.getStringValue(Constants.ResultFetchConfig.MODE).getValue();
+            if (mode.equals(Constants.ResultFetchConfig.FETCH_STREAMING)) {
+                // The driver streams the result row by row when the fetch size is Integer.MIN_VALUE
+                options.put(Constants.DatabaseProps.DEFAULT_FETCH_SIZE, (long) Integer.MIN_VALUE);
+            } else {
+                options.put(Constants.DatabaseProps.USE_CURSOR_FETCH, true);
+                options.put(Constants.DatabaseProps.DEFAULT_FETCH_SIZE,
+                        resultFetch.getIntValue(Constants.ResultFetchConfig.FETCH_SIZE));
+            }
+        }
+    }
+
+    public static void addLoadBalanceOptions(BMap loadBalance, BMap<BString, Object> options) {
+        if (loadBalance != null) {
+            String strategy = loadBalance.getStringValue(Constants.LoadBalanceConfig.STRATEGY).getValue();
+            options.put(Constants.DatabaseProps.LOAD_BALANCE_STRATEGY, StringUtils.fromString(
+                    strategy.equals(Constants.LoadBalanceConfig.BEST_RESPONSE_TIME) ?
+                            Constants.DatabaseProps.STRATEGY_BEST_RESPONSE_TIME :
+                            Constants.DatabaseProps.STRATEGY_RANDOM));
+            // The driver picks a new host after each explicit transaction, and after the given number of
+            // statements in auto-commit mode (0 keeps the host of the connection)
+            String rebalance = loadBalance.getStringValue(Constants.LoadBalanceConfig.REBALANCE).getValue();
+            options.put(Constants.DatabaseProps.LOAD_BALANCE_AUTO_COMMIT_STATEMENT_THRESHOLD,
+                    rebalance.equals(Constants.LoadBalanceConfig.PER_TRANSACTION) ? 1L : 0L);
+            long blocklistTimeout = getTimeout(loadBalance.get(Constants.LoadBalanceConfig.BLOCKLIST_TIMEOUT));
+            if (blocklistTimeout > 0) {
+                options.put(Constants.DatabaseProps.LOAD_BALANCE_BLOCKLIST_TIMEOUT, blocklistTimeout);
+            }
+        }
+    }
+
+    public static String getSqlQuery(BObject paramString) {
+        BArray stringParts = paramString.getArrayValue(Constants.ParameterizedQuery.STRINGS);
+        StringBuilder sqlQuery = new StringBuilder();
+        for (int i = 0; i < stringParts.size(); i++) {
+            if (i > 0) {
+                sqlQuery.append("?");
+            }
+            sqlQuery.append(stringParts.getBString(i).getValue());
+        }
+        return sqlQuery.toString();
+    }
+
+    /**
+     * Creates a query that is executed in place of a query of the user, of which the SQL text or the parameters are
+     * rewritten by the client.
+     *
+     * @param strings    the SQL text around the parameters
+     * @param insertions the parameters
+     * @return the query
+     */
+    public static BObject createQuery(BString[] strings, BArray insertions) {
+        return ValueCreator.createObjectValue(ModuleUtils.getModule(), Constants.REWRITTEN_QUERY,
+                ValueCreator.createArrayValue(strings).frozenCopy(new HashMap<>()), insertions);
     }
 
     public static long getTimeout(Object secondsDecimal) {
@@ -63,6 +158,17 @@ public class Utils {
         return -1;
     }
 
+    /**
+     * Converts a duration in seconds to nanoseconds. Unlike `getTimeout`, zero and negative durations are returned as
+     * they are, so that they can be validated.
+     *
+     * @param secondsDecimal the duration in seconds
+     * @return the duration in nanoseconds
+     */
+    public static long getNanos(Object secondsDecimal) {
+        return ((BDecimal) secondsDecimal).decimalValue().movePointRight(9).longValue();
+    }
+
     public static void addSSLOptions(BMap secureSocket, BMap<BString, Object> options) {
         if (secureSocket != null) {
             BString mode = secureSocket.getStringValue(Constants.SecureSocket.MODE);
@@ -20,9 +20,16 @@ package io.ballerina.stdlib.mysql.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.mysql.Constants;
 import io.ballerina.stdlib.mysql.parameterprocessor.MysqlResultParameterProcessor;
 import io.ballerina.stdlib.mysql.parameterprocessor.MysqlStatementParameterProcessor;
+import io.ballerina.stdlib.mysql.utils.BlockingCallTracker;
+import io.ballerina.stdlib.mysql.utils.ResultCache;
+import io.ballerina.stdlib.mysql.utils.SlowQueryLog;
+import io.ballerina.stdlib.mysql.utils.StatementMetrics;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
 
 /**
  * This class holds the utility methods involved with executing the call statements.
@@ -34,6 +41,42 @@ public class CallProcessor {
     }
 
     public static Object nativeCall(Environment env, BObject client, BObject paramSQLString, BArray recordTypes) {
+        StatementMetrics metrics = StatementMetrics.get(client);
+        long startTime = System.nanoTime();
+        BlockingCallTracker tracker = BlockingCallTracker.get(client);
+        Object result = tracker == null ? call(env, client, paramSQLString, recordTypes) :
+                tracker.track(() -> call(env, client, paramSQLString, recordTypes));
+        long executionTime = System.nanoTime() - startTime;
+        // The tables written by a procedure are not known
+        ResultCache.recordWrite(client, (String) null);
+        if (metrics != null) {
+            metrics.getStatement(paramSQLString).recordExecution(executionTime, -1, result instanceof BError);
+        }
+        SlowQueryLog slowQueryLog = SlowQueryLog.get(client);
+        if (slowQueryLog != null) {
+            slowQueryLog.record(client, paramSQLString, -1, executionTime, -1);
+        }
+        return result;
+    }
+
+    public static Object nativeQueryMultiple(Environment env, BObject client, BObject paramSQLString,
+                                             BArray recordTypes) {
+        Object connections = client.getNativeData(Constants.MULTI_STATEMENT_CLIENT);
+        if (connections == null) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "Executing multiple queries requires the 'allowMultiStatements' option to be enabled in the " +
+                            "client.");
+        }
+        // The results of the statements are read in order with the multiple result handling of procedure calls
+        BlockingCallTracker tracker = BlockingCallTracker.get(client);
+        Object result = tracker == null ? call(env, (BObject) connections, paramSQLString, recordTypes) :
+                tracker.track(() -> call(env, (BObject) connections, paramSQLString, recordTypes));
+        // Any of the statements may write to any table
+        ResultCache.recordWrite(client, (String) null);
+        return result;
+    }
+
+    private static Object call(Environment env, BObject client, BObject paramSQLString, BArray recordTypes) {
         return io.ballerina.stdlib.sql.nativeimpl.CallProcessor.nativeCall(env, client, paramSQLString,
                 recordTypes, MysqlStatementParameterProcessor.getInstance(),
                 MysqlResultParameterProcessor.getInstance());
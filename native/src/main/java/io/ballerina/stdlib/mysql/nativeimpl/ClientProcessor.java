@@ -18,22 +18,43 @@
 
 package io.ballerina.stdlib.mysql.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.mysql.Constants;
 import io.ballerina.stdlib.mysql.Utils;
+import io.ballerina.stdlib.mysql.utils.BlockingCallTracker;
+import io.ballerina.stdlib.mysql.utils.HostHealthMonitor;
+import io.ballerina.stdlib.mysql.utils.ModuleUtils;
+import io.ballerina.stdlib.mysql.utils.PoolWarmer;
+import io.ballerina.stdlib.mysql.utils.QueryTimeout;
+import io.ballerina.stdlib.mysql.utils.ReplicaRouter;
+import io.ballerina.stdlib.mysql.utils.ResultCache;
+import io.ballerina.stdlib.mysql.utils.SlowQueryLog;
+import io.ballerina.stdlib.mysql.utils.StatementCacheEstimator;
+import io.ballerina.stdlib.mysql.utils.StatementMetrics;
 import io.ballerina.stdlib.sql.datasource.SQLDatasource;
 import io.ballerina.stdlib.sql.observability.ObservabilityUtils;
 import io.ballerina.stdlib.sql.utils.ErrorGenerator;
 
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class contains the utility methods for the mysql clients.
@@ -42,11 +63,52 @@ import java.util.Properties;
  */
 public class ClientProcessor {
 
+    private static final String TRANSFER_STATS_QUERY = "SELECT " +
+            "COALESCE(SUM(IF(s.VARIABLE_NAME = 'Bytes_received', s.VARIABLE_VALUE, 0)), 0), " +
+            "COALESCE(SUM(IF(s.VARIABLE_NAME = 'Bytes_sent', s.VARIABLE_VALUE, 0)), 0), " +
+            "COALESCE(SUM(IF(s.VARIABLE_NAME = 'Questions', s.VARIABLE_VALUE, 0)), 0), " +
+            "COALESCE(SUM(IF(s.VARIABLE_NAME IN ('Com_set_option', 'Com_show_variables'), s.VARIABLE_VALUE, 0)), 0), " +
+            "COUNT(DISTINCT s.THREAD_ID) " +
+            "FROM performance_schema.session_connect_attrs a " +
+            "JOIN performance_schema.threads t ON t.PROCESSLIST_ID = a.PROCESSLIST_ID " +
+            "JOIN performance_schema.status_by_thread s ON s.THREAD_ID = t.THREAD_ID " +
+            "WHERE a.ATTR_NAME = ? AND a.ATTR_VALUE = ? AND s.VARIABLE_NAME IN " +
+            "('Bytes_received', 'Bytes_sent', 'Questions', 'Com_set_option', 'Com_show_variables')";
+
+    private static final String PERFORMANCE_SCHEMA_QUERY = "SELECT @@performance_schema";
+
     private ClientProcessor() {
     }
 
     public static Object createClient(BObject client, BMap<BString, Object> clientConfig,
                                       BMap<BString, Object> globalPool) {
+        return createClient(client, clientConfig, globalPool, false);
+    }
+
+    /**
+     * Creates the connection pool used by `queryMultiple`, in which the multi-statement protocol is enabled. The other
+     * operations of the client do not use these connections.
+     *
+     * @param client       the MySQL client
+     * @param connections  the object to hold the connection pool
+     * @param clientConfig the client configuration
+     * @param globalPool   the global connection pool configuration
+     * @return an error if the connection pool cannot be created
+     */
+    public static Object createMultiStatementClient(BObject client, BObject connections,
+                                                    BMap<BString, Object> clientConfig,
+                                                    BMap<BString, Object> globalPool) {
+        Object result = createClient(connections, clientConfig, globalPool, true);
+        if (result == null) {
+            client.addNativeData(Constants.MULTI_STATEMENT_CLIENT, connections);
+        } else {
+            close(client);
+        }
+        return result;
+    }
+
+    private static Object createClient(BObject client, BMap<BString, Object> clientConfig,
+                                       BMap<BString, Object> globalPool, boolean multiStatements) {
         BMap<BString, Object> properties = ValueCreator.createMapValue();
         Properties poolProperties = null;
         String datasourceName = Constants.MYSQL_DATASOURCE_NAME;
@@ -66,6 +128,21 @@ public class ClientProcessor {
                 datasourceName = Constants.MYSQL_XA_DATASOURCE_NAME;
             }
         }
+        if (multiStatements) {
+            properties.put(Constants.DatabaseProps.ALLOW_MULTI_QUERIES, true);
+            // Statements prepared on the server and cursor fetches cannot span multiple statements
+            properties.put(Constants.DatabaseProps.USE_SERVER_PREP_STMTS, false);
+            properties.put(Constants.DatabaseProps.USE_CURSOR_FETCH, false);
+        }
+        // Tags the connections of the client so that their server-side counters can be found in getTransferStats.
+        // The attribute is part of the pool key, so it is set only when asked for to keep the pool shareable.
+        String clientId = null;
+        if (!multiStatements && options.containsKey(Constants.Options.TRANSFER_STATS) &&
+                options.getBooleanValue(Constants.Options.TRANSFER_STATS)) {
+            clientId = UUID.randomUUID().toString();
+            properties.put(Constants.DatabaseProps.CONNECTION_ATTRIBUTES,
+                    StringUtils.fromString(Constants.CLIENT_ID_ATTRIBUTE + ":" + clientId));
+        }
         List<String> secondaryHosts = new ArrayList<>();
         boolean isFailoverConfigPresent = options.containsKey(Constants.Options.FAILOVER_CONFIG);
         if (isFailoverConfigPresent) {
@@ -99,13 +176,119 @@ public class ClientProcessor {
 
         }
 
-        StringBuilder url = new StringBuilder("jdbc:mysql://")
+        List<BMap> loadBalanceServers = new ArrayList<>();
+        BMap loadBalance = options.getMapValue(Constants.Options.LOAD_BALANCE_CONFIG);
+        if (loadBalance != null) {
+            if (isFailoverConfigPresent) {
+                return ErrorGenerator.getSQLApplicationError(
+                        "The 'failoverConfig' and 'loadBalanceConfig' options cannot be used together.");
+            }
+            BArray servers = loadBalance.getArrayValue(Constants.LoadBalanceConfig.LOAD_BALANCE_SERVERS);
+            if (servers.isEmpty()) {
+                return ErrorGenerator.getSQLApplicationError(
+                        "LoadBalanceConfig's 'loadBalanceServers' field cannot be an empty array.");
+            }
+            if (Utils.getTimeout(loadBalance.get(Constants.LoadBalanceConfig.HEALTH_CHECK_INTERVAL)) <= 0) {
+                return ErrorGenerator.getSQLApplicationError(
+                        "LoadBalanceConfig's 'healthCheckInterval' field should be greater than zero.");
+            }
+            for (long i = 0; i < servers.getLength(); i++) {
+                BMap server = (BMap) servers.get(i);
+                loadBalanceServers.add(server);
+                secondaryHosts.add(server.getStringValue(Constants.LoadBalanceConfig.LoadBalanceServer.HOST)
+                        .getValue() + ":" + server.getIntValue(Constants.LoadBalanceConfig.LoadBalanceServer.PORT));
+            }
+        }
+
+        BMap warmUp = options.getMapValue(Constants.Options.WARM_UP);
+        if (warmUp != null) {
+            long connections = warmUp.getIntValue(Constants.WarmUpConfig.CONNECTIONS);
+            if (connections <= 0) {
+                return ErrorGenerator.getSQLApplicationError(
+                        "WarmUpConfig's 'connections' field should be greater than zero.");
+            }
+            long minReady = warmUp.getIntValue(Constants.WarmUpConfig.MIN_READY);
+            if (minReady < 0 || minReady > connections) {
+                return ErrorGenerator.getSQLApplicationError(
+                        "WarmUpConfig's 'minReady' field should be between zero and the 'connections' field.");
+            }
+            if (Utils.getTimeout(warmUp.get(Constants.WarmUpConfig.TIMEOUT)) <= 0) {
+                return ErrorGenerator.getSQLApplicationError(
+                        "WarmUpConfig's 'timeout' field should be greater than zero.");
+            }
+        }
+
+        BMap statementCache = options.getMapValue(Constants.Options.STATEMENT_CACHE);
+        if (statementCache != null) {
+            if (statementCache.getIntValue(Constants.StatementCacheConfig.SIZE) <= 0) {
+                return ErrorGenerator.getSQLApplicationError(
+                        "StatementCacheConfig's 'size' field should be greater than zero.");
+            }
+            if (statementCache.getIntValue(Constants.StatementCacheConfig.MAX_SQL_LENGTH) <= 0) {
+                return ErrorGenerator.getSQLApplicationError(
+                        "StatementCacheConfig's 'maxSqlLength' field should be greater than zero.");
+            }
+        }
+
+        BMap resultCache = options.getMapValue(Constants.Options.RESULT_CACHE);
+        if (resultCache != null) {
+            if (resultCache.getIntValue(Constants.ResultCacheConfig.MAX_SIZE) <= 0) {
+                return ErrorGenerator.getSQLApplicationError(
+                        "ResultCacheConfig's 'maxSize' field should be greater than zero.");
+            }
+            if (Utils.getTimeout(resultCache.get(Constants.ResultCacheConfig.DEFAULT_TTL)) <= 0) {
+                return ErrorGenerator.getSQLApplicationError(
+                        "ResultCacheConfig's 'defaultTtl' field should be greater than zero.");
+            }
+        }
+
+        BMap statementMetrics = options.getMapValue(Constants.Options.STATEMENT_METRICS);
+        if (statementMetrics != null &&
+                statementMetrics.getIntValue(Constants.StatementMetricsConfig.MAX_FINGERPRINTS) <= 0) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "StatementMetricsConfig's 'maxFingerprints' field should be greater than zero.");
+        }
+        if (statementMetrics != null &&
+                statementMetrics.getIntValue(Constants.StatementMetricsConfig.MAX_METRIC_FINGERPRINTS) < 0) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "StatementMetricsConfig's 'maxMetricFingerprints' field should not be negative.");
+        }
+
+        BMap slowQueryLog = options.getMapValue(Constants.Options.SLOW_QUERY_LOG);
+        if (slowQueryLog != null) {
+            if (Utils.getNanos(slowQueryLog.get(Constants.SlowQueryLogConfig.THRESHOLD)) < 0) {
+                return ErrorGenerator.getSQLApplicationError(
+                        "SlowQueryLogConfig's 'threshold' field should not be negative.");
+            }
+            if (slowQueryLog.getIntValue(Constants.SlowQueryLogConfig.CAPACITY) <= 0) {
+                return ErrorGenerator.getSQLApplicationError(
+                        "SlowQueryLogConfig's 'capacity' field should be greater than zero.");
+            }
+            if (Utils.getNanos(slowQueryLog.get(Constants.SlowQueryLogConfig.EXPLAIN_INTERVAL)) < 0) {
+                return ErrorGenerator.getSQLApplicationError(
+                        "SlowQueryLogConfig's 'explainInterval' field should not be negative.");
+            }
+        }
+
+        long queryTimeout = options.containsKey(Constants.Options.QUERY_TIMEOUT) ?
+                Utils.getNanos(options.get(Constants.Options.QUERY_TIMEOUT)) : 0;
+        if (queryTimeout < 0) {
+            return ErrorGenerator.getSQLApplicationError("The 'queryTimeout' option should not be negative.");
+        }
+
+        BMap resultFetch = options.getMapValue(Constants.Options.RESULT_FETCH);
+        if (resultFetch != null && resultFetch.getIntValue(Constants.ResultFetchConfig.FETCH_SIZE) <= 0) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "ResultFetchConfig's 'fetchSize' field should be greater than zero.");
+        }
+
+        StringBuilder url = new StringBuilder(loadBalance != null ? "jdbc:mysql:loadbalance://" : "jdbc:mysql://")
                 .append(clientConfig.getStringValue(Constants.ClientConfiguration.HOST));
         Long portValue = clientConfig.getIntValue(Constants.ClientConfiguration.PORT);
         if (portValue > 0) {
             url.append(":").append(portValue.intValue());
         }
-        if (isFailoverConfigPresent) {
+        if (!secondaryHosts.isEmpty()) {
             url.append(",");
             int hostSize = secondaryHosts.size();
             for (int i = 0; i < hostSize - 1; i++) {
@@ -143,10 +326,291 @@ public class ClientProcessor {
                 .setPoolProperties(poolProperties)
                 .setMetricsTags(metricsTags);
 
-        return io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.createClient(client, sqlDatasourceParams, true, true);
+        Object result = io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.createClient(client, sqlDatasourceParams,
+                true, true);
+        if (result == null && multiStatements) {
+            return null;
+        }
+        if (result == null) {
+            if (clientId != null) {
+                client.addNativeData(Constants.CLIENT_ID, clientId);
+                client.addNativeData(Constants.TRANSFER_STATS_URL, url.toString());
+                client.addNativeData(Constants.TRANSFER_STATS_PROPERTIES,
+                        getTransferStatsProperties(properties, user, password));
+            }
+            client.addNativeData(Constants.LOAD_LOCAL_INFILE_ALLOWED,
+                    options.containsKey(Constants.Options.ALLOW_LOAD_LOCAL_INFILE) &&
+                            options.getBooleanValue(Constants.Options.ALLOW_LOAD_LOCAL_INFILE));
+            if (options.containsKey(Constants.Options.TRACK_BLOCKING_CALLS) &&
+                    options.getBooleanValue(Constants.Options.TRACK_BLOCKING_CALLS)) {
+                Object fetchSize = properties.get(Constants.DatabaseProps.DEFAULT_FETCH_SIZE);
+                client.addNativeData(Constants.BLOCKING_CALL_TRACKER,
+                        new BlockingCallTracker(fetchSize == null ? 0 : (Long) fetchSize));
+            }
+            if (resultCache != null) {
+                client.addNativeData(Constants.RESULT_CACHE, new ResultCache(
+                        resultCache.getIntValue(Constants.ResultCacheConfig.MAX_SIZE),
+                        Utils.getTimeout(resultCache.get(Constants.ResultCacheConfig.DEFAULT_TTL))));
+            }
+            if (statementMetrics != null) {
+                client.addNativeData(Constants.STATEMENT_METRICS, new StatementMetrics(
+                        statementMetrics.getIntValue(Constants.StatementMetricsConfig.MAX_FINGERPRINTS).intValue(),
+                        statementMetrics.getIntValue(Constants.StatementMetricsConfig.MAX_METRIC_FINGERPRINTS)
+                                .intValue(), metricsTags));
+            }
+            if (queryTimeout > 0) {
+                client.addNativeData(Constants.QUERY_TIMEOUT, QueryTimeout.toMillis(queryTimeout));
+            }
+            if (slowQueryLog != null) {
+                client.addNativeData(Constants.SLOW_QUERY_LOG, new SlowQueryLog(
+                        Utils.getNanos(slowQueryLog.get(Constants.SlowQueryLogConfig.THRESHOLD)),
+                        slowQueryLog.getIntValue(Constants.SlowQueryLogConfig.CAPACITY).intValue(),
+                        slowQueryLog.getBooleanValue(Constants.SlowQueryLogConfig.REDACT_PARAMETERS),
+                        Utils.getNanos(slowQueryLog.get(Constants.SlowQueryLogConfig.EXPLAIN_INTERVAL))));
+            }
+        }
+        if (result == null && warmUp != null) {
+            result = warmUpPool(client, warmUp, connectionPool != null ? connectionPool : globalPool);
+        }
+        if (result == null && loadBalance != null) {
+            client.addNativeData(Constants.HOST_HEALTH_MONITOR, createHostHealthMonitor(clientConfig,
+                    loadBalanceServers, loadBalance, properties, user, password, database));
+        }
+        if (result == null && statementCache != null) {
+            client.addNativeData(Constants.STATEMENT_CACHE_ESTIMATOR, new StatementCacheEstimator(
+                    statementCache.getIntValue(Constants.StatementCacheConfig.SIZE).intValue(),
+                    statementCache.getIntValue(Constants.StatementCacheConfig.MAX_SQL_LENGTH).intValue()));
+        }
+        return result;
+    }
+
+    private static Object warmUpPool(BObject client, BMap warmUp, BMap pool) {
+        // Connections beyond the pool size would only wait for the other warm-up connections to be released
+        int connections = (int) Math.min(warmUp.getIntValue(Constants.WarmUpConfig.CONNECTIONS),
+                pool.getIntValue(io.ballerina.stdlib.sql.Constants.ConnectionPool.MAX_OPEN_CONNECTIONS));
+        int minReady = (int) Math.min(warmUp.getIntValue(Constants.WarmUpConfig.MIN_READY), connections);
+        long timeout = Utils.getTimeout(warmUp.get(Constants.WarmUpConfig.TIMEOUT));
+        SQLDatasource datasource = (SQLDatasource) client.getNativeData(
+                io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT);
+        PoolWarmer warmer = PoolWarmer.start(datasource, connections,
+                (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeout)));
+        client.addNativeData(Constants.POOL_WARMER, warmer);
+        if (minReady == 0) {
+            return null;
+        }
+        int ready;
+        try {
+            ready = warmer.awaitReady(minReady, timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ready = 0;
+        }
+        if (ready < minReady) {
+            io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.close(client);
+            return ErrorGenerator.getSQLApplicationError("Failed to warm up the connection pool. Only " + ready +
+                    " of the required " + minReady + " connections are ready.");
+        }
+        return null;
+    }
+
+    public static Object getWarmUpStats(BObject client) {
+        Object warmer = client.getNativeData(Constants.POOL_WARMER);
+        if (warmer == null) {
+            return null;
+        }
+        return ((PoolWarmer) warmer).getStats();
+    }
+
+    public static Object getResultCacheStats(BObject client) {
+        ResultCache cache = ResultCache.get(client);
+        if (cache == null) {
+            return null;
+        }
+        return cache.getStats();
+    }
+
+    public static void invalidateResultCache(BObject client, Object tableName) {
+        ResultCache cache = ResultCache.get(client);
+        if (cache != null) {
+            cache.invalidate(tableName == null ? null : ((BString) tableName).getValue());
+        }
+    }
+
+    public static void populateStatementStats(BObject client, BArray stats) {
+        StatementMetrics metrics = StatementMetrics.get(client);
+        if (metrics != null) {
+            metrics.populateStats(stats);
+        }
+    }
+
+    public static void drainSlowQueryLog(BObject client, BArray slowQueries) {
+        SlowQueryLog log = SlowQueryLog.get(client);
+        if (log != null) {
+            log.drain(slowQueries);
+        }
+    }
+
+    public static Object getInFlightStats(BObject client) {
+        BlockingCallTracker tracker = BlockingCallTracker.get(client);
+        if (tracker == null) {
+            return null;
+        }
+        return tracker.getStats();
+    }
+
+    private static HostHealthMonitor createHostHealthMonitor(BMap<BString, Object> clientConfig,
+                                                             List<BMap> loadBalanceServers, BMap loadBalance,
+                                                             BMap<BString, Object> properties, String user,
+                                                             String password, String database) {
+        Properties connectionProperties = new Properties();
+        for (Map.Entry<BString, Object> property : properties.entrySet()) {
+            if (property.getKey().equals(Constants.DatabaseProps.CONNECTION_ATTRIBUTES)) {
+                // Health check connections are not counted in the transfer statistics of the client
+                continue;
+            }
+            connectionProperties.setProperty(property.getKey().getValue(), property.getValue().toString());
+        }
+        if (user != null) {
+            connectionProperties.setProperty(Constants.ClientConfiguration.USER.getValue(), user);
+        }
+        if (password != null) {
+            connectionProperties.setProperty(Constants.ClientConfiguration.PASSWORD.getValue(), password);
+        }
+        String path = database != null && !database.isEmpty() ? "/" + database : "";
+
+        List<HostHealthMonitor.Host> hosts = new ArrayList<>();
+        BString primaryHost = clientConfig.getStringValue(Constants.ClientConfiguration.HOST);
+        long primaryPort = clientConfig.getIntValue(Constants.ClientConfiguration.PORT);
+        hosts.add(new HostHealthMonitor.Host(primaryHost, primaryPort,
+                "jdbc:mysql://" + primaryHost.getValue() + ":" + primaryPort + path, connectionProperties));
+        for (BMap server : loadBalanceServers) {
+            BString host = server.getStringValue(Constants.LoadBalanceConfig.LoadBalanceServer.HOST);
+            long port = server.getIntValue(Constants.LoadBalanceConfig.LoadBalanceServer.PORT);
+            hosts.add(new HostHealthMonitor.Host(host, port, "jdbc:mysql://" + host.getValue() + ":" + port + path,
+                    connectionProperties));
+        }
+        return new HostHealthMonitor(hosts,
+                Utils.getTimeout(loadBalance.get(Constants.LoadBalanceConfig.HEALTH_CHECK_INTERVAL)));
+    }
+
+    public static Object getStatementCacheEstimate(BObject client) {
+        Object estimator = client.getNativeData(Constants.STATEMENT_CACHE_ESTIMATOR);
+        if (estimator == null) {
+            return null;
+        }
+        return ((StatementCacheEstimator) estimator).getStats();
+    }
+
+    public static void registerReplicas(BObject client, BArray replicaClients, BMap<BString, Object> replicaConfig) {
+        BArray servers = replicaConfig.getArrayValue(Constants.ReplicaConfig.REPLICAS);
+        List<ReplicaRouter.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaClients.size(); i++) {
+            replicas.add(new ReplicaRouter.Replica((BObject) replicaClients.get(i), (BMap) servers.get(i)));
+        }
+        client.addNativeData(Constants.REPLICA_ROUTER, new ReplicaRouter(replicas,
+                replicaConfig.getStringValue(Constants.ReplicaConfig.BALANCING).getValue(),
+                ((BDecimal) replicaConfig.get(Constants.ReplicaConfig.MAX_REPLICATION_LAG)).floatValue(),
+                Utils.getTimeout(replicaConfig.get(Constants.ReplicaConfig.LAG_CHECK_INTERVAL))));
+    }
+
+    public static void populateReplicaStatus(BObject client, BArray status) {
+        Object router = client.getNativeData(Constants.REPLICA_ROUTER);
+        if (router != null) {
+            ((ReplicaRouter) router).populateStatus(status);
+        }
+    }
+
+    public static Object getTransferStats(Environment env, BObject client) {
+        String clientId = (String) client.getNativeData(Constants.CLIENT_ID);
+        if (clientId == null) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "Transfer statistics are not available as the 'transferStats' option is not enabled.");
+        }
+        return env.yieldAndRun(() -> {
+            // The counters are read over a connection that is not tagged, so that the traffic of this query and
+            // its connection set-up are not counted
+            try (Connection connection = DriverManager.getConnection(
+                    (String) client.getNativeData(Constants.TRANSFER_STATS_URL),
+                    (Properties) client.getNativeData(Constants.TRANSFER_STATS_PROPERTIES))) {
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery(PERFORMANCE_SCHEMA_QUERY)) {
+                    if (!resultSet.next() || !resultSet.getBoolean(1)) {
+                        return ErrorGenerator.getSQLApplicationError("Transfer statistics are not available as " +
+                                "the Performance Schema is disabled on the server.");
+                    }
+                }
+                try (PreparedStatement statement = connection.prepareStatement(TRANSFER_STATS_QUERY)) {
+                    statement.setString(1, Constants.CLIENT_ID_ATTRIBUTE);
+                    statement.setString(2, clientId);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        resultSet.next();
+                        Map<String, Object> stats = new HashMap<>();
+                        // The server counts the bytes it receives from and sends to the client
+                        stats.put(Constants.TransferStats.WIRE_BYTES_SENT, resultSet.getLong(1));
+                        stats.put(Constants.TransferStats.WIRE_BYTES_RECEIVED, resultSet.getLong(2));
+                        stats.put(Constants.TransferStats.STATEMENTS, resultSet.getLong(3));
+                        stats.put(Constants.TransferStats.SESSION_STATEMENTS, resultSet.getLong(4));
+                        stats.put(Constants.TransferStats.CONNECTIONS, resultSet.getLong(5));
+                        return ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                                Constants.TransferStats.RECORD_NAME, stats);
+                    }
+                }
+            } catch (SQLException e) {
+                return ErrorGenerator.getSQLDatabaseError(e, "Error while reading the transfer statistics: ");
+            }
+        });
+    }
+
+    private static Properties getTransferStatsProperties(BMap<BString, Object> options, String user,
+                                                         String password) {
+        Properties properties = new Properties();
+        for (Map.Entry<BString, Object> option : options.entrySet()) {
+            if (!option.getKey().equals(Constants.DatabaseProps.CONNECTION_ATTRIBUTES)) {
+                Object value = option.getValue();
+                properties.setProperty(option.getKey().getValue(),
+                        value instanceof BString ? ((BString) value).getValue() : String.valueOf(value));
+            }
+        }
+        if (user != null) {
+            properties.setProperty("user", user);
+        }
+        if (password != null) {
+            properties.setProperty("password", password);
+        }
+        return properties;
+    }
+
+    public static void populateHostHealthStats(BObject client, BArray stats) {
+        Object monitor = client.getNativeData(Constants.HOST_HEALTH_MONITOR);
+        if (monitor != null) {
+            ((HostHealthMonitor) monitor).populateStats(stats);
+        }
     }
 
     public static Object close(BObject client) {
-        return io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.close(client);
+        Object monitor = client.getNativeData(Constants.HOST_HEALTH_MONITOR);
+        if (monitor != null) {
+            ((HostHealthMonitor) monitor).close();
+        }
+        // Every pool is closed even if closing another one fails, and the first error is returned
+        Object error = null;
+        Object router = client.getNativeData(Constants.REPLICA_ROUTER);
+        if (router != null) {
+            ReplicaRouter replicaRouter = (ReplicaRouter) router;
+            replicaRouter.close();
+            for (BObject replicaClient : replicaRouter.getReplicaClients()) {
+                error = closePool(replicaClient, error);
+            }
+        }
+        Object connections = client.getNativeData(Constants.MULTI_STATEMENT_CLIENT);
+        if (connections != null) {
+            error = closePool((BObject) connections, error);
+        }
+        return closePool(client, error);
+    }
+
+    private static Object closePool(BObject client, Object error) {
+        Object result = io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.close(client);
+        return error == null ? result : error;
     }
 }
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.mysql.Constants;
+import io.ballerina.stdlib.mysql.Utils;
+import io.ballerina.stdlib.mysql.utils.ColumnReader;
+import io.ballerina.stdlib.mysql.utils.InListExpansion;
+import io.ballerina.stdlib.mysql.utils.ModuleUtils;
+import io.ballerina.stdlib.mysql.utils.ReplicaRouter;
+import io.ballerina.stdlib.mysql.utils.SlowQueryLog;
+import io.ballerina.stdlib.mysql.utils.StatementCacheEstimator;
+import io.ballerina.stdlib.mysql.utils.StatementMetrics;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.sql.SQLException;
+
+/**
+ * This class contains methods for executing queries of which the result is returned with an array per column.
+ *
+ * @since 1.18.1
+ */
+public class ColumnQueryProcessor {
+
+    private static final String COLUMN_CHUNK_ITERATOR = "ColumnChunkIterator";
+
+    private ColumnQueryProcessor() {
+    }
+
+    public static Object queryColumns(Environment env, BObject client, BObject paramSQLString, Object rowLimit,
+                                      BTypedesc columnsType) {
+        Object result = validate(columnsType, rowLimit);
+        if (result != null) {
+            return result;
+        }
+        Object expanded = InListExpansion.expand(paramSQLString);
+        if (expanded instanceof BError) {
+            return expanded;
+        }
+        BObject expandedQuery = (BObject) expanded;
+        StatementCacheEstimator.record(client, expandedQuery);
+        StatementMetrics metrics = StatementMetrics.get(client);
+        SlowQueryLog slowQueryLog = SlowQueryLog.get(client);
+        ReplicaRouter.Replica replica = ReplicaRouter.getReplica(client);
+        return env.yieldAndRun(() -> {
+            ColumnReader reader = null;
+            long startTime = System.nanoTime();
+            long executedAt = -1;
+            Object columns;
+            try {
+                reader = execute(client, replica, expandedQuery, columnsType, rowLimit);
+                executedAt = System.nanoTime();
+                columns = reader.read(-1);
+            } catch (SQLException e) {
+                columns = ErrorGenerator.getSQLDatabaseError(e, "Error while executing SQL query: " +
+                        Utils.getSqlQuery(expandedQuery) + ". ");
+            } catch (DataError e) {
+                columns = ErrorGenerator.getSQLApplicationError(e.getMessage());
+            } finally {
+                close(reader);
+            }
+            long endTime = System.nanoTime();
+            long poolWaitTime = reader == null ? -1 : reader.getPoolWaitTime();
+            if (metrics != null) {
+                StatementMetrics.Statement statement = metrics.getStatement(expandedQuery);
+                statement.recordExecution(endTime - startTime - Math.max(poolWaitTime, 0), poolWaitTime,
+                        reader == null || columns instanceof BError);
+                statement.recordRowsReturned(reader == null ? 0 : reader.getRowsRead());
+            }
+            if (slowQueryLog != null) {
+                if (executedAt < 0) {
+                    slowQueryLog.record(client, expandedQuery, -1, endTime - startTime, -1);
+                } else {
+                    slowQueryLog.record(client, expandedQuery, poolWaitTime, executedAt - startTime - poolWaitTime,
+                            endTime - executedAt);
+                }
+            }
+            return columns;
+        });
+    }
+
+    public static Object queryColumnChunks(Environment env, BObject client, BObject paramSQLString, long chunkSize,
+                                           Object rowLimit, BTypedesc columnsType) {
+        Object result = chunkSize > 0 ? validate(columnsType, rowLimit) :
+                ErrorGenerator.getSQLApplicationError("The 'chunkSize' parameter should be greater than zero.");
+        if (result == null) {
+            result = InListExpansion.expand(paramSQLString);
+        }
+        BObject iterator = ValueCreator.createObjectValue(ModuleUtils.getModule(), COLUMN_CHUNK_ITERATOR);
+        Type streamType = TypeCreator.createStreamType(columnsType.getDescribingType(), PredefinedTypes.TYPE_NULL);
+        if (result instanceof BError) {
+            // The error is returned by the first call to the next method of the stream
+            iterator.addNativeData(Constants.COLUMN_READER, result);
+            return ValueCreator.createStreamValue(streamType, iterator);
+        }
+        BObject expandedQuery = (BObject) result;
+        StatementCacheEstimator.record(client, expandedQuery);
+        StatementMetrics metrics = StatementMetrics.get(client);
+        ReplicaRouter.Replica replica = ReplicaRouter.getReplica(client);
+        long startTime = System.nanoTime();
+        Object reader = env.yieldAndRun(() -> {
+            try {
+                return execute(client, replica, expandedQuery, columnsType, rowLimit);
+            } catch (SQLException e) {
+                return ErrorGenerator.getSQLDatabaseError(e, "Error while executing SQL query: " +
+                        Utils.getSqlQuery(expandedQuery) + ". ");
+            } catch (DataError e) {
+                return ErrorGenerator.getSQLApplicationError(e.getMessage());
+            }
+        });
+        long executionTime = System.nanoTime() - startTime;
+        long poolWaitTime = reader instanceof ColumnReader ? ((ColumnReader) reader).getPoolWaitTime() : -1;
+        if (metrics != null) {
+            StatementMetrics.Statement statement = metrics.getStatement(expandedQuery);
+            statement.recordExecution(executionTime - Math.max(poolWaitTime, 0), poolWaitTime,
+                    !(reader instanceof ColumnReader));
+            // The rows returned are counted as the chunks are read
+            iterator.addNativeData(Constants.STATEMENT_METRICS, statement);
+        }
+        SlowQueryLog slowQueryLog = SlowQueryLog.get(client);
+        if (slowQueryLog != null) {
+            if (reader instanceof ColumnReader) {
+                slowQueryLog.recordOnFetch(iterator, client, expandedQuery, poolWaitTime,
+                        executionTime - poolWaitTime);
+            } else {
+                slowQueryLog.record(client, expandedQuery, -1, executionTime, -1);
+            }
+        }
+        iterator.addNativeData(Constants.COLUMN_CHUNK_SIZE, chunkSize);
+        iterator.addNativeData(Constants.COLUMN_READER, reader);
+        return ValueCreator.createStreamValue(streamType, iterator);
+    }
+
+    public static Object nextChunk(Environment env, BObject iterator) {
+        Object state = iterator.getNativeData(Constants.COLUMN_READER);
+        if (!(state instanceof ColumnReader)) {
+            // Either the result is closed, or the error of the query is reported once
+            iterator.addNativeData(Constants.COLUMN_READER, null);
+            return state;
+        }
+        ColumnReader reader = (ColumnReader) state;
+        long chunkSize = (long) iterator.getNativeData(Constants.COLUMN_CHUNK_SIZE);
+        return env.yieldAndRun(() -> {
+            long rowsRead = reader.getRowsRead();
+            long startTime = System.nanoTime();
+            try {
+                BMap<BString, Object> chunk = reader.read(chunkSize);
+                StatementMetrics.recordRows(iterator, reader.getRowsRead() - rowsRead, false);
+                SlowQueryLog.recordFetch(iterator, System.nanoTime() - startTime, chunk == null);
+                if (chunk == null) {
+                    closeChunks(iterator);
+                }
+                return chunk;
+            } catch (SQLException e) {
+                StatementMetrics.recordRows(iterator, reader.getRowsRead() - rowsRead, true);
+                SlowQueryLog.recordFetch(iterator, System.nanoTime() - startTime, true);
+                closeChunks(iterator);
+                return ErrorGenerator.getSQLDatabaseError(e, "Error while reading the query result. ");
+            } catch (DataError e) {
+                StatementMetrics.recordRows(iterator, reader.getRowsRead() - rowsRead, true);
+                SlowQueryLog.recordFetch(iterator, System.nanoTime() - startTime, true);
+                closeChunks(iterator);
+                return ErrorGenerator.getSQLApplicationError(e.getMessage());
+            }
+        });
+    }
+
+    public static Object closeChunks(BObject iterator) {
+        Object state = iterator.getNativeData(Constants.COLUMN_READER);
+        iterator.addNativeData(Constants.COLUMN_READER, null);
+        if (state instanceof ColumnReader) {
+            try {
+                ((ColumnReader) state).close();
+            } catch (SQLException e) {
+                return ErrorGenerator.getSQLDatabaseError(e, "Error while closing the query result. ");
+            }
+        }
+        return null;
+    }
+
+    private static Object validate(BTypedesc columnsType, Object rowLimit) {
+        if (TypeUtils.getImpliedType(columnsType.getDescribingType()).getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return ErrorGenerator.getSQLApplicationError("The 'columnsType' parameter should be a record type.");
+        }
+        if (rowLimit != null && (long) rowLimit < 0) {
+            return ErrorGenerator.getSQLApplicationError("The 'rowLimit' parameter should not be negative.");
+        }
+        return null;
+    }
+
+    private static ColumnReader execute(BObject client, ReplicaRouter.Replica replica, BObject paramSQLString,
+                                        BTypedesc columnsType, Object rowLimit) throws SQLException, DataError {
+        RecordType recordType = (RecordType) TypeUtils.getImpliedType(columnsType.getDescribingType());
+        long limit = rowLimit == null ? -1 : (long) rowLimit;
+        BObject target = replica == null ? client : replica.getClient();
+        SQLDatasource datasource = (SQLDatasource) target.getNativeData(
+                io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT);
+        if (replica == null) {
+            return ColumnReader.execute(target, datasource, null, paramSQLString, recordType, limit);
+        }
+        replica.startRequest();
+        try {
+            return ColumnReader.execute(target, datasource, replica, paramSQLString, recordType, limit);
+        } catch (SQLException | DataError | RuntimeException e) {
+            replica.endRequest();
+            throw e;
+        }
+    }
+
+    private static void close(ColumnReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (SQLException e) {
+            // The result is already read, hence the failure to release the connection is not reported
+        }
+    }
+}
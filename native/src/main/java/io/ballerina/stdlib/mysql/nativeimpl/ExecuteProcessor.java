@@ -20,8 +20,19 @@ package io.ballerina.stdlib.mysql.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.mysql.Utils;
 import io.ballerina.stdlib.mysql.parameterprocessor.MysqlStatementParameterProcessor;
+import io.ballerina.stdlib.mysql.utils.BlockingCallTracker;
+import io.ballerina.stdlib.mysql.utils.InListExpansion;
+import io.ballerina.stdlib.mysql.utils.QueryTimeout;
+import io.ballerina.stdlib.mysql.utils.ResultCache;
+import io.ballerina.stdlib.mysql.utils.SlowQueryLog;
+import io.ballerina.stdlib.mysql.utils.StatementCacheEstimator;
+import io.ballerina.stdlib.mysql.utils.StatementMetrics;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
 
 /**
  * This class contains methods for executing SQL queries.
@@ -33,11 +44,90 @@ public class ExecuteProcessor {
     }
 
     public static Object nativeExecute(Environment env, BObject client, BObject paramSQLString) {
+        return timedExecute(env, client, paramSQLString, QueryTimeout.getDefault(client));
+    }
+
+    public static Object nativeExecuteWithTimeout(Environment env, BObject client, BObject paramSQLString,
+                                                  BDecimal timeout) {
+        long timeoutMillis = QueryTimeout.toMillis(Utils.getNanos(timeout));
+        if (timeoutMillis <= 0) {
+            return ErrorGenerator.getSQLApplicationError("The 'timeout' parameter should be greater than zero.");
+        }
+        return timedExecute(env, client, paramSQLString, timeoutMillis);
+    }
+
+    private static Object timedExecute(Environment env, BObject client, BObject paramSQLString, long timeout) {
+        Object expanded = InListExpansion.expand(paramSQLString);
+        if (expanded instanceof BError) {
+            return expanded;
+        }
+        BObject expandedQuery = (BObject) expanded;
+        BObject executedQuery = QueryTimeout.apply(expandedQuery, timeout);
+        StatementCacheEstimator.record(client, executedQuery);
+        StatementMetrics metrics = StatementMetrics.get(client);
+        SlowQueryLog slowQueryLog = SlowQueryLog.get(client);
+        boolean timed = metrics != null || slowQueryLog != null;
+        if (timed) {
+            StatementMetrics.markStart(executedQuery);
+        }
+        long startTime = System.nanoTime();
+        BlockingCallTracker tracker = BlockingCallTracker.get(client);
+        Object result = tracker == null ? execute(env, client, executedQuery) :
+                tracker.track(() -> execute(env, client, executedQuery));
+        long elapsedTime = System.nanoTime() - startTime;
+        long poolWaitTime = timed ? StatementMetrics.getPoolWaitTime(executedQuery, startTime) : -1;
+        long executionTime = elapsedTime - Math.max(poolWaitTime, 0);
+        result = QueryTimeout.toTimeoutError(result, timeout, elapsedTime);
+        // The results are invalidated once the statement completes, so that the queries that ran concurrently with
+        // it are not cached
+        ResultCache.recordWrite(client, expandedQuery);
+        if (metrics != null) {
+            metrics.getStatement(expandedQuery).recordExecuteResult(executionTime, poolWaitTime, result);
+        }
+        if (slowQueryLog != null) {
+            slowQueryLog.record(client, expandedQuery, poolWaitTime, executionTime, -1);
+        }
+        return result;
+    }
+
+    private static Object execute(Environment env, BObject client, BObject paramSQLString) {
         return io.ballerina.stdlib.sql.nativeimpl.ExecuteProcessor.nativeExecute(env, client, paramSQLString,
                 MysqlStatementParameterProcessor.getInstance());
     }
 
     public static Object nativeBatchExecute(Environment env, BObject client, BArray paramSQLStrings) {
+        Object expanded = InListExpansion.expandBatch(paramSQLStrings);
+        if (expanded instanceof BError) {
+            return expanded;
+        }
+        BArray expandedQueries = (BArray) expanded;
+        StatementCacheEstimator.recordBatch(client, expandedQueries);
+        StatementMetrics metrics = StatementMetrics.get(client);
+        SlowQueryLog slowQueryLog = SlowQueryLog.get(client);
+        boolean timed = metrics != null || slowQueryLog != null;
+        if (timed) {
+            StatementMetrics.markStart((BObject) expandedQueries.get(0));
+        }
+        long startTime = System.nanoTime();
+        BlockingCallTracker tracker = BlockingCallTracker.get(client);
+        Object result = tracker == null ? batchExecute(env, client, expandedQueries) :
+                tracker.track(() -> batchExecute(env, client, expandedQueries));
+        long elapsedTime = System.nanoTime() - startTime;
+        long poolWaitTime = timed ? StatementMetrics.getPoolWaitTime((BObject) expandedQueries.get(0), startTime) : -1;
+        long executionTime = elapsedTime - Math.max(poolWaitTime, 0);
+        ResultCache.recordBatchWrite(client, expandedQueries);
+        if (metrics != null) {
+            // The statements of a batch are recorded as one execution of the fingerprint of the first statement
+            metrics.getStatement((BObject) expandedQueries.get(0)).recordExecuteResult(executionTime, poolWaitTime,
+                    result);
+        }
+        if (slowQueryLog != null) {
+            slowQueryLog.record(client, (BObject) expandedQueries.get(0), poolWaitTime, executionTime, -1);
+        }
+        return result;
+    }
+
+    private static Object batchExecute(Environment env, BObject client, BArray paramSQLStrings) {
         return io.ballerina.stdlib.sql.nativeimpl.ExecuteProcessor.nativeBatchExecute(env, client, paramSQLStrings,
                 MysqlStatementParameterProcessor.getInstance());
     }
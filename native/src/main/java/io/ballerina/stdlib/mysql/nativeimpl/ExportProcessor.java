@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.mysql.Constants;
+import io.ballerina.stdlib.mysql.Utils;
+import io.ballerina.stdlib.mysql.utils.SnapshotExporter;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.nio.file.Paths;
+
+/**
+ * This class contains methods for exporting tables to files from a consistent snapshot.
+ *
+ * @since 1.18.1
+ */
+public class ExportProcessor {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private ExportProcessor() {
+    }
+
+    public static Object exportSnapshot(Environment env, BObject client, BArray tables, BString directory,
+                                        BMap<BString, Object> options, BArray files) {
+        long connections = options.getIntValue(Constants.SnapshotExportOptions.CONNECTIONS);
+        long chunkRows = options.getIntValue(Constants.SnapshotExportOptions.CHUNK_ROWS);
+        long lockTimeout = Utils.getNanos(options.get(Constants.SnapshotExportOptions.LOCK_TIMEOUT));
+        if (tables.isEmpty()) {
+            return ErrorGenerator.getSQLApplicationError("The 'tables' parameter cannot be empty.");
+        }
+        if (connections <= 0) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "The 'connections' field of the snapshot export options should be greater than zero.");
+        }
+        if (chunkRows <= 0) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "The 'chunkRows' field of the snapshot export options should be greater than zero.");
+        }
+        if (lockTimeout <= 0) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "The 'lockTimeout' field of the snapshot export options should be greater than zero.");
+        }
+        SQLDatasource datasource = (SQLDatasource) client.getNativeData(
+                io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT);
+        boolean ndjson = Constants.SnapshotExportOptions.FORMAT_NDJSON.equals(
+                options.getStringValue(Constants.SnapshotExportOptions.FORMAT).getValue());
+        boolean lock = Constants.SnapshotExportOptions.SNAPSHOT_LOCK.equals(
+                options.getStringValue(Constants.SnapshotExportOptions.CONSISTENCY).getValue());
+        // The server accepts a lock wait timeout in whole seconds
+        SnapshotExporter exporter = new SnapshotExporter(datasource, Paths.get(directory.getValue()),
+                (int) connections, ndjson, options.getBooleanValue(Constants.SnapshotExportOptions.COMPRESS), lock,
+                chunkRows, (lockTimeout + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+        String[] tableNames = tables.getStringArray();
+        return env.yieldAndRun(() -> {
+            try {
+                return exporter.export(tableNames, files);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ErrorGenerator.getSQLApplicationError("Interrupted while exporting the snapshot.");
+            }
+        });
+    }
+}
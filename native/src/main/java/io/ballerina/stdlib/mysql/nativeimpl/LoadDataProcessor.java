@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.mysql.Constants;
+import io.ballerina.stdlib.mysql.utils.LocalInfileLoader;
+import io.ballerina.stdlib.mysql.utils.ResultCache;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+/**
+ * This class contains methods for loading rows into tables with `LOAD DATA LOCAL INFILE`.
+ *
+ * @since 1.18.1
+ */
+public class LoadDataProcessor {
+
+    private LoadDataProcessor() {
+    }
+
+    public static Object startLoad(BObject writer, BObject client, BString tableName, BArray columns) {
+        if (!Boolean.TRUE.equals(client.getNativeData(Constants.LOAD_LOCAL_INFILE_ALLOWED))) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "Loading data requires the 'allowLoadLocalInfile' option to be enabled in the client.");
+        }
+        if (columns.isEmpty()) {
+            return ErrorGenerator.getSQLApplicationError("The 'columns' parameter cannot be empty.");
+        }
+        SQLDatasource datasource = (SQLDatasource) client.getNativeData(
+                io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT);
+        writer.addNativeData(Constants.LOCAL_INFILE_LOADER, LocalInfileLoader.start(datasource,
+                LocalInfileLoader.getStatement(tableName.getValue(), columns.getStringArray())));
+        writer.addNativeData(Constants.LOAD_DATA_CLIENT, client);
+        writer.addNativeData(Constants.LOAD_DATA_TABLE, tableName.getValue());
+        return null;
+    }
+
+    public static Object writeRow(Environment env, BObject writer, BArray row) {
+        LocalInfileLoader loader = (LocalInfileLoader) writer.getNativeData(Constants.LOCAL_INFILE_LOADER);
+        return env.yieldAndRun(() -> {
+            try {
+                return loader.write(row);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ErrorGenerator.getSQLApplicationError("Interrupted while loading data.");
+            }
+        });
+    }
+
+    public static Object finishLoad(Environment env, BObject writer) {
+        LocalInfileLoader loader = (LocalInfileLoader) writer.getNativeData(Constants.LOCAL_INFILE_LOADER);
+        Object result = env.yieldAndRun(() -> {
+            try {
+                return loader.finish();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ErrorGenerator.getSQLApplicationError("Interrupted while loading data.");
+            }
+        });
+        recordWrite(writer);
+        return result;
+    }
+
+    public static void abortLoad(Environment env, BObject writer) {
+        LocalInfileLoader loader = (LocalInfileLoader) writer.getNativeData(Constants.LOCAL_INFILE_LOADER);
+        env.yieldAndRun(() -> {
+            try {
+                loader.abort();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        // The rows loaded before the abort are kept by the tables that are not transactional
+        recordWrite(writer);
+    }
+
+    private static void recordWrite(BObject writer) {
+        ResultCache.recordWrite((BObject) writer.getNativeData(Constants.LOAD_DATA_CLIENT),
+                (String) writer.getNativeData(Constants.LOAD_DATA_TABLE));
+    }
+}
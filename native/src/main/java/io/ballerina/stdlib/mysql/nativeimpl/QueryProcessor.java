@@ -19,11 +19,43 @@
 package io.ballerina.stdlib.mysql.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.api.values.BValue;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.mysql.Constants;
+import io.ballerina.stdlib.mysql.Utils;
 import io.ballerina.stdlib.mysql.parameterprocessor.MysqlResultParameterProcessor;
 import io.ballerina.stdlib.mysql.parameterprocessor.MysqlStatementParameterProcessor;
+import io.ballerina.stdlib.mysql.utils.BlockingCallTracker;
+import io.ballerina.stdlib.mysql.utils.InListExpansion;
+import io.ballerina.stdlib.mysql.utils.ModuleUtils;
+import io.ballerina.stdlib.mysql.utils.QueryTimeout;
+import io.ballerina.stdlib.mysql.utils.ReplicaRouter;
+import io.ballerina.stdlib.mysql.utils.ResultCache;
+import io.ballerina.stdlib.mysql.utils.SlowQueryLog;
+import io.ballerina.stdlib.mysql.utils.StatementCacheEstimator;
+import io.ballerina.stdlib.mysql.utils.StatementMetrics;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import io.ballerina.stdlib.sql.utils.RecordIteratorUtils;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * This class provides the methods for query processing which executes sql queries.
@@ -31,23 +63,423 @@ import io.ballerina.stdlib.mysql.parameterprocessor.MysqlStatementParameterProce
  * @since 1.2.0
  */
 public class QueryProcessor {
+
+    private static final String CACHED_RESULT_ITERATOR = "CachedResultIterator";
+    private static final String REPLICA_RESULT_ITERATOR = "ReplicaResultIterator";
+    private static final String PAGED_RESULT_ITERATOR = "PagedResultIterator";
+    private static final String TABLE_SCAN_ITERATOR = "TableScanIterator";
+    private static final BString PARTITION_COUNT = StringUtils.fromString("partitionCount");
+    // The `sql:ResultIterator` of a stream keeps the error of a failed query in this field
+    private static final BString ERROR_FIELD = StringUtils.fromString("err");
+    private static final String NO_ROWS_ERROR = "NoRowsError";
+    private static final Pattern ORDER_OR_LIMIT_CLAUSE = Pattern.compile("\\b(ORDER\\s+BY|(LIMIT))\\b",
+            Pattern.CASE_INSENSITIVE);
+    // Returned by readRows when the result is larger than the result cache
+    private static final Object RESULT_TOO_LARGE = new Object();
+
     private QueryProcessor() {
     }
 
     public static BStream nativeQuery(Environment env, BObject client, BObject paramSQLString,
                                       BTypedesc recordType) {
+        return endReplicaRequestOnClose(
+                timedQuery(env, client, paramSQLString, QueryTimeout.getDefault(client), recordType), recordType);
+    }
+
+    public static BStream nativeQueryWithTimeout(Environment env, BObject client, BObject paramSQLString,
+                                                 BDecimal timeout, BTypedesc recordType) {
+        long timeoutMillis = QueryTimeout.toMillis(Utils.getNanos(timeout));
+        if (timeoutMillis <= 0) {
+            return createErrorStream(recordType,
+                    ErrorGenerator.getSQLApplicationError("The 'timeout' parameter should be greater than zero."));
+        }
+        return endReplicaRequestOnClose(timedQuery(env, client, paramSQLString, timeoutMillis, recordType),
+                recordType);
+    }
+
+    private static BStream timedQuery(Environment env, BObject client, BObject paramSQLString, long timeout,
+                                      BTypedesc recordType) {
+        Object expanded = InListExpansion.expand(paramSQLString);
+        if (expanded instanceof BError) {
+            return createErrorStream(recordType, expanded);
+        }
+        BObject expandedQuery = (BObject) expanded;
+        BObject executedQuery = QueryTimeout.apply(expandedQuery, timeout);
+        StatementCacheEstimator.record(client, executedQuery);
+        StatementMetrics metrics = StatementMetrics.get(client);
+        SlowQueryLog slowQueryLog = SlowQueryLog.get(client);
+        boolean timed = metrics != null || slowQueryLog != null;
+        if (timed) {
+            StatementMetrics.markStart(executedQuery);
+        }
+        long startTime = System.nanoTime();
+        BlockingCallTracker tracker = BlockingCallTracker.get(client);
+        BStream stream;
+        if (tracker == null) {
+            stream = query(env, client, executedQuery, recordType);
+        } else {
+            stream = tracker.track(() -> query(env, client, executedQuery, recordType));
+            BlockingCallTracker.RowFetcher fetcher = tracker.newRowFetcher();
+            if (fetcher != null) {
+                // The rows of the stream are fetched from the server through its iterator
+                stream.getIteratorObj().addNativeData(Constants.BLOCKING_CALL_TRACKER, fetcher);
+                stream.getIteratorObj().addNativeData(Constants.FETCH_HOOKS, true);
+            }
+        }
+        long elapsedTime = System.nanoTime() - startTime;
+        long poolWaitTime = timed ? StatementMetrics.getPoolWaitTime(executedQuery, startTime) : -1;
+        long executionTime = elapsedTime - Math.max(poolWaitTime, 0);
+        BObject iterator = stream.getIteratorObj();
+        boolean failed = iterator.get(ERROR_FIELD) != null;
+        if (failed) {
+            iterator.set(ERROR_FIELD, QueryTimeout.toTimeoutError(iterator.get(ERROR_FIELD), timeout, elapsedTime));
+        }
+        if (metrics != null) {
+            StatementMetrics.Statement statement = metrics.getStatement(expandedQuery);
+            statement.recordExecution(executionTime, poolWaitTime, failed);
+            // The rows returned are counted as they are read from the stream
+            iterator.addNativeData(Constants.STATEMENT_METRICS, statement);
+            iterator.addNativeData(Constants.FETCH_HOOKS, true);
+        }
+        if (slowQueryLog != null) {
+            if (failed) {
+                slowQueryLog.record(client, expandedQuery, poolWaitTime, executionTime, -1);
+            } else {
+                // The conversion time is known only once the rows are read from the stream
+                slowQueryLog.recordOnFetch(iterator, client, expandedQuery, poolWaitTime, executionTime);
+                iterator.addNativeData(Constants.FETCH_HOOKS, true);
+            }
+        }
+        return stream;
+    }
+
+    private static BStream query(Environment env, BObject client, BObject paramSQLString, BTypedesc recordType) {
         MysqlStatementParameterProcessor statementParametersProcessor = MysqlStatementParameterProcessor
                 .getInstance();
         MysqlResultParameterProcessor resultParametersProcessor = MysqlResultParameterProcessor.getInstance();
-        return io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQuery(env, client, paramSQLString, recordType,
-                statementParametersProcessor, resultParametersProcessor);
+        ReplicaRouter.Replica replica = ReplicaRouter.getReplica(client);
+        if (replica == null) {
+            return io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQuery(env, client, paramSQLString,
+                    recordType, statementParametersProcessor, resultParametersProcessor);
+        }
+        replica.startRequest();
+        BStream stream;
+        try {
+            stream = io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQuery(env, replica.getClient(),
+                    paramSQLString, recordType, statementParametersProcessor, resultParametersProcessor);
+        } catch (RuntimeException e) {
+            replica.endRequest();
+            throw e;
+        }
+        if (stream.getIteratorObj().get(ERROR_FIELD) != null) {
+            replica.endRequest();
+        } else {
+            // The request is ended once the rows of the stream are read or the stream is closed
+            stream.getIteratorObj().addNativeData(Constants.REPLICA, replica);
+        }
+        return stream;
+    }
+
+    /**
+     * Wraps the stream of a query executed on a replica, so that the request to the replica is ended once the stream
+     * is closed or all its rows are read.
+     */
+    private static BStream endReplicaRequestOnClose(BStream stream, BTypedesc recordType) {
+        BObject iterator = stream.getIteratorObj();
+        Object replica = iterator.getNativeData(Constants.REPLICA);
+        if (replica == null) {
+            return stream;
+        }
+        iterator.addNativeData(Constants.REPLICA, null);
+        BObject replicaIterator = ValueCreator.createObjectValue(ModuleUtils.getModule(), REPLICA_RESULT_ITERATOR,
+                stream);
+        replicaIterator.addNativeData(Constants.REPLICA, replica);
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(recordType.getDescribingType(),
+                PredefinedTypes.TYPE_NULL), replicaIterator);
     }
 
     public static Object nativeQueryRow(Environment env, BObject client, BObject paramSQLString, BTypedesc recordType) {
+        return timedQueryRow(env, client, paramSQLString, QueryTimeout.getDefault(client), recordType);
+    }
+
+    public static Object nativeQueryRowWithTimeout(Environment env, BObject client, BObject paramSQLString,
+                                                   BDecimal timeout, BTypedesc recordType) {
+        long timeoutMillis = QueryTimeout.toMillis(Utils.getNanos(timeout));
+        if (timeoutMillis <= 0) {
+            return ErrorGenerator.getSQLApplicationError("The 'timeout' parameter should be greater than zero.");
+        }
+        return timedQueryRow(env, client, paramSQLString, timeoutMillis, recordType);
+    }
+
+    private static Object timedQueryRow(Environment env, BObject client, BObject paramSQLString, long timeout,
+                                        BTypedesc recordType) {
+        Object expanded = InListExpansion.expand(paramSQLString);
+        if (expanded instanceof BError) {
+            return expanded;
+        }
+        BObject expandedQuery = (BObject) expanded;
+        BObject executedQuery = QueryTimeout.apply(expandedQuery, timeout);
+        StatementCacheEstimator.record(client, executedQuery);
+        StatementMetrics metrics = StatementMetrics.get(client);
+        SlowQueryLog slowQueryLog = SlowQueryLog.get(client);
+        boolean timed = metrics != null || slowQueryLog != null;
+        if (timed) {
+            StatementMetrics.markStart(executedQuery);
+        }
+        long startTime = System.nanoTime();
+        BlockingCallTracker tracker = BlockingCallTracker.get(client);
+        Object result = tracker == null ? queryRow(env, client, executedQuery, recordType) :
+                tracker.track(() -> queryRow(env, client, executedQuery, recordType));
+        long elapsedTime = System.nanoTime() - startTime;
+        long poolWaitTime = timed ? StatementMetrics.getPoolWaitTime(executedQuery, startTime) : -1;
+        long executionTime = elapsedTime - Math.max(poolWaitTime, 0);
+        result = QueryTimeout.toTimeoutError(result, timeout, elapsedTime);
+        if (metrics != null) {
+            StatementMetrics.Statement statement = metrics.getStatement(expandedQuery);
+            boolean noRows = result instanceof BError && NO_ROWS_ERROR.equals(((BError) result).getType().getName());
+            statement.recordExecution(executionTime, poolWaitTime, result instanceof BError && !noRows);
+            if (!(result instanceof BError)) {
+                statement.recordRowsReturned(1);
+            }
+        }
+        if (slowQueryLog != null) {
+            slowQueryLog.record(client, expandedQuery, poolWaitTime, executionTime, -1);
+        }
+        return result;
+    }
+
+    private static Object queryRow(Environment env, BObject client, BObject paramSQLString, BTypedesc recordType) {
         MysqlStatementParameterProcessor statementParametersProcessor = MysqlStatementParameterProcessor
                 .getInstance();
         MysqlResultParameterProcessor resultParametersProcessor = MysqlResultParameterProcessor.getInstance();
-        return io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQueryRow(env, client, paramSQLString, recordType,
-                statementParametersProcessor, resultParametersProcessor);
+        ReplicaRouter.Replica replica = ReplicaRouter.getReplica(client);
+        if (replica == null) {
+            return io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQueryRow(env, client, paramSQLString,
+                    recordType, statementParametersProcessor, resultParametersProcessor);
+        }
+        replica.startRequest();
+        try {
+            return io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQueryRow(env, replica.getClient(),
+                    paramSQLString, recordType, statementParametersProcessor, resultParametersProcessor);
+        } finally {
+            replica.endRequest();
+        }
+    }
+
+    public static BStream nativeQueryCached(Environment env, BObject client, BObject paramSQLString,
+                                            BMap<BString, Object> cacheOptions, BTypedesc recordType) {
+        ResultCache cache = ResultCache.get(client);
+        // Results read within a transaction may not be committed, hence the cache is not used in transactions
+        if (cache == null || TransactionResourceManager.getInstance().isInTransaction()) {
+            return nativeQuery(env, client, paramSQLString, recordType);
+        }
+        Type rowType = recordType.getDescribingType();
+        BArray rows = ValueCreator.createArrayValue(TypeCreator.createArrayType(rowType));
+        long ttl = getTtl(cacheOptions);
+        if (ttl == 0) {
+            return createCachedStream(rowType, rows, ErrorGenerator.getSQLApplicationError(
+                    "The 'ttl' field of the cache options should be greater than zero."));
+        }
+        ResultCache.Key key = ResultCache.createKey(paramSQLString, rowType);
+        ResultCache.Entry entry = cache.get(key);
+        if (entry != null) {
+            return createCachedStream(rowType, (BArray) entry.getValue(), null);
+        }
+        long generation = cache.getGeneration();
+        BStream stream = timedQuery(env, client, paramSQLString, QueryTimeout.getDefault(client), recordType);
+        BObject iterator = stream.getIteratorObj();
+        Object error = env.yieldAndRun(() -> readRows(iterator, rows, cache.getMaxSize()));
+        if (error == RESULT_TOO_LARGE) {
+            // The result is not cached, and the rest of its rows are read from the stream of the query
+            return createCachedStream(rowType, (BArray) rows.frozenCopy(new HashMap<>()), null,
+                    endReplicaRequestOnClose(stream, recordType));
+        }
+        if (error != null) {
+            return createCachedStream(rowType, rows, error);
+        }
+        BArray result = (BArray) rows.frozenCopy(new HashMap<>());
+        cache.put(key, result, ttl, getTables(cacheOptions), generation);
+        return createCachedStream(rowType, result, null);
+    }
+
+    public static Object nativeQueryRowCached(Environment env, BObject client, BObject paramSQLString,
+                                              BMap<BString, Object> cacheOptions, BTypedesc recordType) {
+        ResultCache cache = ResultCache.get(client);
+        if (cache == null || TransactionResourceManager.getInstance().isInTransaction()) {
+            return nativeQueryRow(env, client, paramSQLString, recordType);
+        }
+        long ttl = getTtl(cacheOptions);
+        if (ttl == 0) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "The 'ttl' field of the cache options should be greater than zero.");
+        }
+        ResultCache.Key key = ResultCache.createKey(paramSQLString, recordType.getDescribingType());
+        ResultCache.Entry entry = cache.get(key);
+        if (entry != null) {
+            return entry.getValue();
+        }
+        long generation = cache.getGeneration();
+        Object value = nativeQueryRow(env, client, paramSQLString, recordType);
+        if (value instanceof BError) {
+            return value;
+        }
+        // The cached value is shared by the callers, hence it is made immutable
+        Object result = value instanceof BMap || value instanceof BArray ?
+                ((BValue) value).frozenCopy(new HashMap<>()) : value;
+        cache.put(key, result, ttl, getTables(cacheOptions), generation);
+        return result;
+    }
+
+    public static BStream nativeQueryPaged(Environment env, BObject client, BObject paramSQLString, Object key,
+                                           BMap<BString, Object> options, BTypedesc recordType) {
+        BArray keyColumns = key instanceof BString ? ValueCreator.createArrayValue(new BString[]{(BString) key}) :
+                (BArray) key;
+        long pageSize = options.getIntValue(Constants.PagedQueryOptions.PAGE_SIZE);
+        if (keyColumns.size() == 0) {
+            return createErrorStream(recordType,
+                    ErrorGenerator.getSQLApplicationError("The 'key' parameter should have at least one column."));
+        }
+        Set<String> uniqueColumns = new HashSet<>();
+        for (String column : keyColumns.getStringArray()) {
+            // The column names are not case-sensitive
+            if (!uniqueColumns.add(column.toLowerCase(Locale.ROOT))) {
+                return createErrorStream(recordType, ErrorGenerator.getSQLApplicationError(
+                        "The 'key' parameter should not have duplicate columns."));
+            }
+        }
+        if (pageSize <= 0) {
+            return createErrorStream(recordType, ErrorGenerator.getSQLApplicationError(
+                    "The 'pageSize' field of the paged query options should be greater than zero."));
+        }
+        String clause = getOrderOrLimitClause(Utils.getSqlQuery(paramSQLString));
+        if (clause != null) {
+            // The pages are ordered and limited by the page queries that wrap the query
+            return createErrorStream(recordType, ErrorGenerator.getSQLApplicationError(
+                    "The 'sqlQuery' parameter should not have an '" + clause + "' clause outside its subqueries."));
+        }
+        // A page prefetched on a new strand would be read outside the transaction
+        boolean prefetch = options.getBooleanValue(Constants.PagedQueryOptions.PREFETCH) &&
+                !TransactionResourceManager.getInstance().isInTransaction();
+        BObject iterator = ValueCreator.createObjectValue(ModuleUtils.getModule(), PAGED_RESULT_ITERATOR, client,
+                paramSQLString, keyColumns, pageSize, prefetch, recordType, null, 0L);
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(recordType.getDescribingType(),
+                PredefinedTypes.TYPE_NULL), iterator);
+    }
+
+    /**
+     * Returns the `ORDER BY` or `LIMIT` clause of a query outside its subqueries, or null if it has neither.
+     */
+    static String getOrderOrLimitClause(String sqlQuery) {
+        // The fingerprint has no literals or comments, of which the text would otherwise be matched
+        String fingerprint = StatementMetrics.createFingerprint(sqlQuery);
+        StringBuilder outerQuery = new StringBuilder(fingerprint.length());
+        int depth = 0;
+        boolean quoted = false;
+        for (int i = 0; i < fingerprint.length(); i++) {
+            char c = fingerprint.charAt(i);
+            if (c == '`') {
+                quoted = !quoted;
+            } else if (!quoted && c == '(') {
+                depth++;
+            } else if (!quoted && c == ')') {
+                depth--;
+            }
+            outerQuery.append(depth == 0 && !quoted ? c : ' ');
+        }
+        Matcher matcher = ORDER_OR_LIMIT_CLAUSE.matcher(outerQuery);
+        return matcher.find() ? (matcher.group(2) == null ? "ORDER BY" : "LIMIT") : null;
+    }
+
+    public static BStream nativeScanRows(BObject scan, BTypedesc recordType) {
+        long[] partitions = new long[(int) scan.getIntValue(PARTITION_COUNT)];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = i;
+        }
+        return createScanStream(scan, partitions, recordType);
+    }
+
+    public static BArray nativeScanPartitionRows(BObject scan, BTypedesc recordType) {
+        long partitionCount = scan.getIntValue(PARTITION_COUNT);
+        BArray streams = ValueCreator.createArrayValue(TypeCreator.createArrayType(
+                TypeCreator.createStreamType(recordType.getDescribingType(), PredefinedTypes.TYPE_NULL)));
+        for (long i = 0; i < partitionCount; i++) {
+            streams.append(createScanStream(scan, new long[]{i}, recordType));
+        }
+        return streams;
+    }
+
+    private static BStream createScanStream(BObject scan, long[] partitions, BTypedesc recordType) {
+        BObject iterator = ValueCreator.createObjectValue(ModuleUtils.getModule(), TABLE_SCAN_ITERATOR, scan,
+                ValueCreator.createArrayValue(partitions), recordType);
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(recordType.getDescribingType(),
+                PredefinedTypes.TYPE_NULL), iterator);
+    }
+
+    /**
+     * Reads the rows of a result until their estimated size exceeds the given size, in which case the result is left
+     * open and {@link #RESULT_TOO_LARGE} is returned.
+     */
+    private static Object readRows(BObject iterator, BArray rows, long maxSize) {
+        Object error = iterator.get(ERROR_FIELD);
+        if (error != null) {
+            return error;
+        }
+        long startTime = System.nanoTime();
+        long size = 0;
+        boolean tooLarge = false;
+        try {
+            while (true) {
+                Object row = RecordIteratorUtils.nextResult(iterator, MysqlResultParameterProcessor.getInstance());
+                if (row == null || row instanceof BError) {
+                    StatementMetrics.recordRows(iterator, rows.size(), row instanceof BError);
+                    SlowQueryLog.recordFetch(iterator, System.nanoTime() - startTime, true);
+                    return row;
+                }
+                rows.append(row);
+                size += ResultCache.estimateSize(row);
+                if (size > maxSize) {
+                    StatementMetrics.recordRows(iterator, rows.size(), false);
+                    SlowQueryLog.recordFetch(iterator, System.nanoTime() - startTime, false);
+                    tooLarge = true;
+                    return RESULT_TOO_LARGE;
+                }
+            }
+        } finally {
+            if (!tooLarge) {
+                RecordIteratorUtils.closeResult(iterator);
+                ReplicaRouter.endRequest(iterator);
+            }
+        }
+    }
+
+    private static BStream createErrorStream(BTypedesc recordType, Object error) {
+        Type rowType = recordType.getDescribingType();
+        return createCachedStream(rowType, ValueCreator.createArrayValue(TypeCreator.createArrayType(rowType)), error);
+    }
+
+    private static BStream createCachedStream(Type rowType, BArray rows, Object error) {
+        return createCachedStream(rowType, rows, error, null);
+    }
+
+    private static BStream createCachedStream(Type rowType, BArray rows, Object error, BStream rest) {
+        // The iterator returns only the error of a failed query, and does not return the rows read before it failed
+        BObject iterator = ValueCreator.createObjectValue(ModuleUtils.getModule(), CACHED_RESULT_ITERATOR,
+                error == null ? rows : rows.frozenCopy(new HashMap<>()), error, rest);
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(rowType, PredefinedTypes.TYPE_NULL),
+                iterator);
+    }
+
+    /**
+     * Returns the time-to-live of the cache options in milliseconds, -1 if it is not set, or 0 if it is not positive.
+     */
+    private static long getTtl(BMap<BString, Object> cacheOptions) {
+        if (!cacheOptions.containsKey(Constants.CachedQueryOptions.TTL)) {
+            return -1;
+        }
+        return Math.max(Utils.getTimeout(cacheOptions.get(Constants.CachedQueryOptions.TTL)), 0);
+    }
+
+    private static String[] getTables(BMap<BString, Object> cacheOptions) {
+        return cacheOptions.getArrayValue(Constants.CachedQueryOptions.TABLES).getStringArray();
     }
 }
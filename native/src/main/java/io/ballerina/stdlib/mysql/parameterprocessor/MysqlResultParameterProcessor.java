@@ -20,25 +20,22 @@ package io.ballerina.stdlib.mysql.parameterprocessor;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
-import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.mysql.utils.ModuleUtils;
+import io.ballerina.stdlib.mysql.utils.TimeUtils;
 import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.exception.TypeMismatchError;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultResultParameterProcessor;
 import io.ballerina.stdlib.sql.utils.Utils;
 
-import java.math.BigDecimal;
-import java.math.MathContext;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 import static io.ballerina.runtime.api.utils.StringUtils.fromString;
-import static io.ballerina.stdlib.time.util.Constants.ANALOG_GIGA;
 
 /**
  * This class implements methods required convert mysql specific SQL types into ballerina types and
@@ -48,8 +45,6 @@ import static io.ballerina.stdlib.time.util.Constants.ANALOG_GIGA;
  */
 public class MysqlResultParameterProcessor extends DefaultResultParameterProcessor {
     private static final MysqlResultParameterProcessor instance = new MysqlResultParameterProcessor();
-    private static final BObject iteratorObject = ValueCreator.createObjectValue(
-            ModuleUtils.getModule(), "CustomResultIterator");
 
     private MysqlResultParameterProcessor() {
     }
@@ -73,15 +68,10 @@ public class MysqlResultParameterProcessor extends DefaultResultParameterProcess
                         BMap<BString, Object> timeMap = ValueCreator.createRecordValue(
                                 io.ballerina.stdlib.time.util.ModuleUtils.getModule(),
                                 io.ballerina.stdlib.time.util.Constants.TIME_OF_DAY_RECORD);
-                        timeMap.put(StringUtils.fromString(io.ballerina.stdlib.time.util.Constants
-                                .TIME_OF_DAY_RECORD_HOUR), timeObj.getHour());
-                        timeMap.put(StringUtils.fromString(io.ballerina.stdlib.time.util.Constants
-                                .TIME_OF_DAY_RECORD_MINUTE), timeObj.getMinute());
-                        BigDecimal second = new BigDecimal(timeObj.getSecond());
-                        second = second.add(new BigDecimal(timeObj.getNano())
-                                .divide(ANALOG_GIGA, MathContext.DECIMAL128));
-                        timeMap.put(StringUtils.fromString(io.ballerina.stdlib.time.util.Constants
-                                .TIME_OF_DAY_RECORD_SECOND), ValueCreator.createDecimalValue(second));
+                        timeMap.put(TimeUtils.HOUR, timeObj.getHour());
+                        timeMap.put(TimeUtils.MINUTE, timeObj.getMinute());
+                        timeMap.put(TimeUtils.SECOND, ValueCreator.createDecimalValue(
+                                TimeUtils.toSeconds(timeObj.getSecond(), timeObj.getNano())));
                         return timeMap;
                     } else {
                         throw new TypeMismatchError("SQL Time", type.getName(), "time:TimeOfDay");
@@ -108,23 +98,13 @@ public class MysqlResultParameterProcessor extends DefaultResultParameterProcess
                         BMap<BString, Object> civilMap = ValueCreator.createRecordValue(
                                 io.ballerina.stdlib.time.util.ModuleUtils.getModule(),
                                 io.ballerina.stdlib.time.util.Constants.CIVIL_RECORD);
-                        civilMap.put(StringUtils.fromString(
-                                io.ballerina.stdlib.time.util.Constants.DATE_RECORD_YEAR), dateTimeObj.getYear());
-                        civilMap.put(StringUtils.fromString(
-                                        io.ballerina.stdlib.time.util.Constants.DATE_RECORD_MONTH),
-                                dateTimeObj.getMonthValue());
-                        civilMap.put(StringUtils.fromString(
-                                        io.ballerina.stdlib.time.util.Constants.DATE_RECORD_DAY),
-                                dateTimeObj.getDayOfMonth());
-                        civilMap.put(StringUtils.fromString(io.ballerina.stdlib.time.util.Constants
-                                .TIME_OF_DAY_RECORD_HOUR), dateTimeObj.getHour());
-                        civilMap.put(StringUtils.fromString(io.ballerina.stdlib.time.util.Constants
-                                .TIME_OF_DAY_RECORD_MINUTE), dateTimeObj.getMinute());
-                        BigDecimal second = new BigDecimal(dateTimeObj.getSecond());
-                        second = second.add(new BigDecimal(dateTimeObj.getNano())
-                                .divide(ANALOG_GIGA, MathContext.DECIMAL128));
-                        civilMap.put(StringUtils.fromString(io.ballerina.stdlib.time.util.Constants
-                                .TIME_OF_DAY_RECORD_SECOND), ValueCreator.createDecimalValue(second));
+                        civilMap.put(TimeUtils.YEAR, dateTimeObj.getYear());
+                        civilMap.put(TimeUtils.MONTH, dateTimeObj.getMonthValue());
+                        civilMap.put(TimeUtils.DAY, dateTimeObj.getDayOfMonth());
+                        civilMap.put(TimeUtils.HOUR, dateTimeObj.getHour());
+                        civilMap.put(TimeUtils.MINUTE, dateTimeObj.getMinute());
+                        civilMap.put(TimeUtils.SECOND, ValueCreator.createDecimalValue(
+                                TimeUtils.toSeconds(dateTimeObj.getSecond(), dateTimeObj.getNano())));
                         return civilMap;
                     } else {
                         throw new TypeMismatchError("SQL Timestamp", type.getName(), "time:Civil");
@@ -140,7 +120,16 @@ public class MysqlResultParameterProcessor extends DefaultResultParameterProcess
 
     @Override
     public BObject getBalStreamResultIterator() {
-        return iteratorObject;
+        return IteratorHolder.ITERATOR_OBJECT;
+    }
+
+    /**
+     * Creates the iterator object when it is first used, so that the conversions can be used without loading the
+     * Ballerina module, as in the benchmarks.
+     */
+    private static final class IteratorHolder {
+        private static final BObject ITERATOR_OBJECT = ValueCreator.createObjectValue(
+                ModuleUtils.getModule(), "CustomResultIterator");
     }
 
 }
@@ -18,11 +18,15 @@
 
 package io.ballerina.stdlib.mysql.parameterprocessor;
 
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.mysql.utils.QueryTimeout;
+import io.ballerina.stdlib.mysql.utils.StatementMetrics;
 import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 
 /**
  * This class has implementation of methods required process the MySQL Prepared Statement.
@@ -38,6 +42,16 @@ public class MysqlStatementParameterProcessor extends DefaultStatementParameterP
         return instance;
     }
 
+    @Override
+    public void setParams(Connection connection, PreparedStatement preparedStatement, BObject paramString)
+            throws DataError, SQLException {
+        super.setParams(connection, preparedStatement, paramString);
+        // The statements of the queries executed with a timeout are given it here, as they are created by the
+        // `ballerina/sql` module
+        QueryTimeout.setQueryTimeout(preparedStatement, paramString);
+        StatementMetrics.recordBound(paramString);
+    }
+
     @Override
     protected void setVarcharArray(Connection conn, PreparedStatement preparedStatement, int index, Object value)
             throws DataError {
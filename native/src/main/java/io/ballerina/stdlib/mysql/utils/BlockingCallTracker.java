@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.utils;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.mysql.Constants;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Tracks the blocking calls made to the server by a client, and suspends the calling strand during the row fetches
+ * of result streams that read from the server.
+ *
+ * @since 1.18.1
+ */
+public class BlockingCallTracker {
+
+    private final long fetchSize;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+
+    /**
+     * Creates a tracker.
+     *
+     * @param fetchSize the fetch size of the result streams of the client, which is `Integer.MIN_VALUE` when the
+     *                  rows are streamed, or `0` when the results are buffered in the client
+     */
+    public BlockingCallTracker(long fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public static BlockingCallTracker get(BObject nativeDataHolder) {
+        return (BlockingCallTracker) nativeDataHolder.getNativeData(Constants.BLOCKING_CALL_TRACKER);
+    }
+
+    /**
+     * Makes a call that suspends the calling strand by itself, counting it as in flight.
+     *
+     * @param call the call
+     * @return the result of the call
+     */
+    public <T> T track(Supplier<T> call) {
+        begin();
+        try {
+            return call.get();
+        } finally {
+            end();
+        }
+    }
+
+    /**
+     * Returns the fetcher of the rows of a result stream, or `null` if the results are buffered in the client, in
+     * which case the rows are read without waiting for the server.
+     *
+     * @return the row fetcher
+     */
+    public RowFetcher newRowFetcher() {
+        return fetchSize == 0 ? null : new RowFetcher();
+    }
+
+    private Object trackSuspended(Environment env, Supplier<Object> call) {
+        begin();
+        try {
+            return env.yieldAndRun(call);
+        } finally {
+            end();
+        }
+    }
+
+    private void begin() {
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    }
+
+    private void end() {
+        inFlight.decrementAndGet();
+        completed.incrementAndGet();
+    }
+
+    public BMap<BString, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.InFlightStats.IN_FLIGHT, (long) inFlight.get());
+        stats.put(Constants.InFlightStats.PEAK_IN_FLIGHT, (long) peakInFlight.get());
+        stats.put(Constants.InFlightStats.COMPLETED, completed.get());
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.InFlightStats.RECORD_NAME, stats);
+    }
+
+    /**
+     * Fetches the rows of a result stream, suspending the calling strand only for the fetches that read from the
+     * server.
+     */
+    public class RowFetcher {
+
+        private long rows;
+
+        private RowFetcher() {
+        }
+
+        public Object fetch(Environment env, Supplier<Object> call) {
+            // A cursor reads `fetchSize` rows from the server at a time, while streamed rows are each read from it
+            if (fetchSize > 0 && rows++ % fetchSize != 0) {
+                return call.get();
+            }
+            return trackSuspended(env, call);
+        }
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.mysql.Utils;
+import io.ballerina.stdlib.mysql.parameterprocessor.MysqlStatementParameterProcessor;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.DataError;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the rows of a query result into a record with an array per column, adding each value to the array of its
+ * column instead of creating a record per row.
+ *
+ * @since 1.18.1
+ */
+public class ColumnReader {
+
+    private final Connection connection;
+    private final ResultSet resultSet;
+    private final RecordType columnsType;
+    private final List<Column> columns;
+    private final long rowLimit;
+    private final ReplicaRouter.Replica replica;
+    private final long poolWaitTime;
+    private final boolean transactional;
+    private long rowsRead = 0;
+    private boolean closed = false;
+
+    private ColumnReader(Connection connection, ResultSet resultSet, RecordType columnsType, List<Column> columns,
+                         long rowLimit, ReplicaRouter.Replica replica, long poolWaitTime, boolean transactional) {
+        this.connection = connection;
+        this.resultSet = resultSet;
+        this.columnsType = columnsType;
+        this.columns = columns;
+        this.rowLimit = rowLimit;
+        this.replica = replica;
+        this.poolWaitTime = poolWaitTime;
+        this.transactional = transactional;
+    }
+
+    /**
+     * Executes a query on a connection of the given connection pool, or on the connection of the current transaction
+     * of the client if the query is executed within a transaction block.
+     *
+     * @param client         the client that owns the connection pool
+     * @param datasource     the connection pool
+     * @param replica        the replica the query is routed to, or null if it is executed on the primary server
+     * @param paramSQLString the query
+     * @param columnsType    the record type with an array field per column
+     * @param rowLimit       the maximum number of rows to read, or a negative value to read all the rows
+     * @return the reader of the result
+     */
+    public static ColumnReader execute(BObject client, SQLDatasource datasource, ReplicaRouter.Replica replica,
+                                       BObject paramSQLString, RecordType columnsType, long rowLimit)
+            throws SQLException, DataError {
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        long startTime = System.nanoTime();
+        Connection connection = SQLDatasource.getConnection(trxResourceManager, client, datasource);
+        long poolWaitTime = System.nanoTime() - startTime;
+        // The connection of a transaction is released by the transaction once it completes
+        boolean transactional = trxResourceManager.isInTransaction() &&
+                trxResourceManager.getCurrentTransactionContext().hasTransactionBlock();
+        PreparedStatement statement = null;
+        try {
+            statement = connection.prepareStatement(Utils.getSqlQuery(paramSQLString));
+            MysqlStatementParameterProcessor.getInstance().setParams(connection, statement, paramSQLString);
+            if (rowLimit > 0) {
+                statement.setLargeMaxRows(rowLimit);
+            }
+            ResultSet resultSet = statement.executeQuery();
+            List<Column> columns = getColumns(resultSet.getMetaData(), columnsType);
+            return new ColumnReader(connection, resultSet, columnsType, columns, rowLimit, replica, poolWaitTime,
+                    transactional);
+        } catch (SQLException | DataError | RuntimeException e) {
+            if (!transactional) {
+                connection.close();
+            } else if (statement != null) {
+                statement.close();
+            }
+            throw e;
+        }
+    }
+
+    private static List<Column> getColumns(ResultSetMetaData metaData, RecordType columnsType)
+            throws SQLException, DataError {
+        List<Column> columns = new ArrayList<>();
+        for (Field field : columnsType.getFields().values()) {
+            Type fieldType = TypeUtils.getImpliedType(field.getFieldType());
+            if (fieldType.getTag() != TypeTags.ARRAY_TAG) {
+                throw new DataError("The field '" + field.getFieldName() + "' of the columns record should be an " +
+                        "array.");
+            }
+            int index = getColumnIndex(metaData, field.getFieldName());
+            if (index == 0) {
+                throw new DataError("No column found in the result for the field '" + field.getFieldName() +
+                        "' of the columns record.");
+            }
+            columns.add(new Column(field.getFieldName(), index, (ArrayType) fieldType));
+        }
+        return columns;
+    }
+
+    private static int getColumnIndex(ResultSetMetaData metaData, String fieldName) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (metaData.getColumnLabel(i).equalsIgnoreCase(fieldName)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Reads the next rows of the result.
+     *
+     * @param chunkSize the maximum number of rows to read, or a negative value to read all the remaining rows
+     * @return the record with the values of the rows, or null if all the rows are read
+     */
+    public BMap<BString, Object> read(long chunkSize) throws SQLException, DataError {
+        List<BArray> arrays = new ArrayList<>(columns.size());
+        for (Column column : columns) {
+            arrays.add(ValueCreator.createArrayValue(column.arrayType));
+        }
+        long rows = 0;
+        while ((chunkSize < 0 || rows < chunkSize) && (rowLimit < 0 || rowsRead < rowLimit) && resultSet.next()) {
+            for (int i = 0; i < columns.size(); i++) {
+                columns.get(i).read(resultSet, arrays.get(i), rows);
+            }
+            rows++;
+            rowsRead++;
+        }
+        if (rows == 0 && chunkSize >= 0) {
+            return null;
+        }
+        BMap<BString, Object> record = ValueCreator.createRecordValue(columnsType.getPackage(),
+                columnsType.getName());
+        for (int i = 0; i < columns.size(); i++) {
+            record.put(columns.get(i).fieldName, arrays.get(i));
+        }
+        return record;
+    }
+
+    /**
+     * Returns the time waited for a connection of the pool to execute the query.
+     *
+     * @return the time in nanoseconds
+     */
+    public long getPoolWaitTime() {
+        return poolWaitTime;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (replica != null) {
+            replica.endRequest();
+        }
+        if (transactional) {
+            // The connection is kept open for the rest of the transaction
+            resultSet.getStatement().close();
+            return;
+        }
+        // Closing the connection releases it to the pool along with the statement and the result set
+        connection.close();
+    }
+
+    /**
+     * Maps a column of the result to the array field of the columns record.
+     */
+    private static class Column {
+        private final BString fieldName;
+        private final int index;
+        private final ArrayType arrayType;
+        private final int valueTag;
+        private final boolean nullable;
+
+        Column(String fieldName, int index, ArrayType arrayType) throws DataError {
+            this.fieldName = StringUtils.fromString(fieldName);
+            this.index = index;
+            this.arrayType = arrayType;
+            Type elementType = TypeUtils.getImpliedType(arrayType.getElementType());
+            boolean nullable = false;
+            if (elementType.getTag() == TypeTags.UNION_TAG) {
+                Type valueType = null;
+                for (Type memberType : ((UnionType) elementType).getMemberTypes()) {
+                    Type member = TypeUtils.getImpliedType(memberType);
+                    if (member.getTag() == TypeTags.NULL_TAG) {
+                        nullable = true;
+                    } else if (valueType == null) {
+                        valueType = member;
+                    } else {
+                        valueType = elementType;
+                    }
+                }
+                elementType = valueType == null ? elementType : valueType;
+            }
+            this.nullable = nullable;
+            this.valueTag = getValueTag(elementType);
+            if (valueTag == -1) {
+                throw new DataError("The field '" + fieldName + "' of the columns record should be an array of " +
+                        "int, float, decimal, string, boolean, time:Civil or time:Utc values.");
+            }
+        }
+
+        private static int getValueTag(Type elementType) {
+            switch (elementType.getTag()) {
+                case TypeTags.INT_TAG:
+                case TypeTags.FLOAT_TAG:
+                case TypeTags.DECIMAL_TAG:
+                case TypeTags.STRING_TAG:
+                case TypeTags.BOOLEAN_TAG:
+                    return elementType.getTag();
+                case TypeTags.RECORD_TYPE_TAG:
+                    return io.ballerina.stdlib.time.util.Constants.CIVIL_RECORD.equals(elementType.getName()) ?
+                            TypeTags.RECORD_TYPE_TAG : -1;
+                case TypeTags.INTERSECTION_TAG:
+                    // time:Utc, which is a readonly tuple of the seconds and the fraction of a second
+                    return TypeTags.INTERSECTION_TAG;
+                default:
+                    return -1;
+            }
+        }
+
+        void read(ResultSet resultSet, BArray values, long row) throws SQLException, DataError {
+            switch (valueTag) {
+                case TypeTags.INT_TAG:
+                    long intValue = resultSet.getLong(index);
+                    if (isNull(resultSet)) {
+                        values.add(row, (Object) null);
+                    } else if (nullable) {
+                        values.add(row, (Object) intValue);
+                    } else {
+                        values.add(row, intValue);
+                    }
+                    return;
+                case TypeTags.FLOAT_TAG:
+                    double floatValue = resultSet.getDouble(index);
+                    if (isNull(resultSet)) {
+                        values.add(row, (Object) null);
+                    } else if (nullable) {
+                        values.add(row, (Object) floatValue);
+                    } else {
+                        values.add(row, floatValue);
+                    }
+                    return;
+                case TypeTags.BOOLEAN_TAG:
+                    boolean booleanValue = resultSet.getBoolean(index);
+                    if (isNull(resultSet)) {
+                        values.add(row, (Object) null);
+                    } else if (nullable) {
+                        values.add(row, (Object) booleanValue);
+                    } else {
+                        values.add(row, booleanValue);
+                    }
+                    return;
+                case TypeTags.DECIMAL_TAG:
+                    BigDecimal decimalValue = resultSet.getBigDecimal(index);
+                    values.add(row, isNull(resultSet) ? null : ValueCreator.createDecimalValue(decimalValue));
+                    return;
+                case TypeTags.STRING_TAG:
+                    String stringValue = resultSet.getString(index);
+                    values.add(row, isNull(resultSet) ? null : StringUtils.fromString(stringValue));
+                    return;
+                case TypeTags.RECORD_TYPE_TAG:
+                    Timestamp civilValue = resultSet.getTimestamp(index);
+                    values.add(row, isNull(resultSet) ? null : createCivil(civilValue.toLocalDateTime()));
+                    return;
+                default:
+                    Timestamp utcValue = resultSet.getTimestamp(index);
+                    values.add(row, isNull(resultSet) ? null :
+                            io.ballerina.stdlib.sql.utils.Utils.createTimeStruct(utcValue.getTime()));
+            }
+        }
+
+        private boolean isNull(ResultSet resultSet) throws SQLException, DataError {
+            if (!resultSet.wasNull()) {
+                return false;
+            }
+            if (!nullable) {
+                throw new DataError("The NULL value of the column '" + fieldName + "' cannot be added to an " +
+                        "array of non-nullable values.");
+            }
+            return true;
+        }
+
+        private static BMap<BString, Object> createCivil(LocalDateTime dateTime) {
+            BMap<BString, Object> civil = ValueCreator.createRecordValue(
+                    io.ballerina.stdlib.time.util.ModuleUtils.getModule(),
+                    io.ballerina.stdlib.time.util.Constants.CIVIL_RECORD);
+            civil.put(TimeUtils.YEAR, dateTime.getYear());
+            civil.put(TimeUtils.MONTH, dateTime.getMonthValue());
+            civil.put(TimeUtils.DAY, dateTime.getDayOfMonth());
+            civil.put(TimeUtils.HOUR, dateTime.getHour());
+            civil.put(TimeUtils.MINUTE, dateTime.getMinute());
+            civil.put(TimeUtils.SECOND, ValueCreator.createDecimalValue(
+                    TimeUtils.toSeconds(dateTime.getSecond(), dateTime.getNano())));
+            return civil;
+        }
+    }
+}
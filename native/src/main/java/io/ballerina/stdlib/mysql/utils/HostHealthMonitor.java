@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.mysql.Constants;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the health of the hosts of a load-balanced client. The driver does not expose the state of the hosts it
+ * balances over, hence a background task pings each host periodically over a dedicated connection and records the
+ * round trip latency and the failed checks.
+ *
+ * @since 1.18.1
+ */
+public class HostHealthMonitor {
+
+    private static final int NANOS_SCALE = 9;
+
+    private final List<Host> hosts;
+    private final ScheduledExecutorService healthChecker;
+
+    public HostHealthMonitor(List<Host> hosts, long healthCheckIntervalMillis) {
+        this.hosts = hosts;
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mysql-host-health-checker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        int checkTimeout = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(healthCheckIntervalMillis));
+        this.healthChecker.scheduleWithFixedDelay(() -> hosts.forEach(host -> host.check(checkTimeout)), 0,
+                healthCheckIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void populateStats(BArray stats) {
+        for (Host host : hosts) {
+            stats.append(ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    Constants.HostHealthStats.RECORD_NAME, host.getStats()));
+        }
+    }
+
+    public void close() {
+        healthChecker.shutdownNow();
+        hosts.forEach(Host::close);
+    }
+
+    /**
+     * Represents a load-balanced host and its health check counters.
+     */
+    public static class Host {
+        private final BString host;
+        private final long port;
+        private final String url;
+        private final Properties properties;
+        private Connection connection = null;
+        private boolean available = false;
+        private Long latency = null;
+        private long totalLatency = 0;
+        private long checks = 0;
+        private long errors = 0;
+        private boolean closed = false;
+
+        public Host(BString host, long port, String url, Properties properties) {
+            this.host = host;
+            this.port = port;
+            this.url = url;
+            this.properties = properties;
+        }
+
+        private synchronized void check(int timeoutSeconds) {
+            if (closed) {
+                return;
+            }
+            checks++;
+            try {
+                if (connection == null) {
+                    connection = DriverManager.getConnection(url, properties);
+                }
+                long start = System.nanoTime();
+                available = connection.isValid(timeoutSeconds);
+                latency = System.nanoTime() - start;
+            } catch (SQLException e) {
+                available = false;
+            }
+            if (available) {
+                totalLatency += latency;
+            } else {
+                errors++;
+                latency = null;
+                // The connection is opened again in the next check, so that a restarted host is detected
+                close(connection);
+                connection = null;
+            }
+        }
+
+        private synchronized Map<String, Object> getStats() {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put(Constants.HostHealthStats.HOST, host);
+            stats.put(Constants.HostHealthStats.PORT, port);
+            stats.put(Constants.HostHealthStats.AVAILABLE, available);
+            stats.put(Constants.HostHealthStats.LATENCY, latency == null ? null : toSeconds(latency));
+            long successes = checks - errors;
+            stats.put(Constants.HostHealthStats.AVERAGE_LATENCY,
+                    successes == 0 ? null : toSeconds(totalLatency / successes));
+            stats.put(Constants.HostHealthStats.CHECKS, checks);
+            stats.put(Constants.HostHealthStats.ERRORS, errors);
+            return stats;
+        }
+
+        private synchronized void close() {
+            closed = true;
+            close(connection);
+            connection = null;
+        }
+
+        private static void close(Connection connection) {
+            if (connection != null) {
+                try {
+                    connection.close();
+                } catch (SQLException ignored) {
+                    // The host is already unreachable, hence the connection is discarded
+                }
+            }
+        }
+
+        private static Object toSeconds(long nanos) {
+            return ValueCreator.createDecimalValue(BigDecimal.valueOf(nanos, NANOS_SCALE));
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package io.ballerina.stdlib.mysql.utils;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.mysql.Constants;
+import io.ballerina.stdlib.mysql.Utils;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Expands the array parameters of `IN` lists, such as `WHERE id IN (${ids})`, into a parameter per element, as MySQL
+ * does not support array parameters. The number of parameters is rounded up to a bucket, which is the next power of
+ * two up to 1024 and the next multiple of 1024 above it, and the list is padded with its last element. The lists of
+ * any length are hence prepared as a few statements, which are reused from the statement cache of the connection.
+ *
+ * @since 1.18.1
+ */
+public final class InListExpansion {
+
+    private static final int MAX_POWER_OF_TWO_BUCKET = 1024;
+    private static final BString SEPARATOR = StringUtils.fromString(", ");
+    private static final int NOT_IN_LIST = 0;
+    private static final int PARENTHESIZED_LIST = 1;
+    private static final int BARE_LIST = 2;
+
+    private InListExpansion() {
+    }
+
+    /**
+     * Returns a copy of a query of which the array parameters of `IN` lists are expanded. The query is returned as it
+     * is if it has no such parameters. An array parameter that does not follow `IN` is left as it is.
+     *
+     * @param paramSQLString the query
+     * @return the query to execute, or an error if an array parameter of an `IN` list is empty
+     */
+    public static Object expand(BObject paramSQLString) {
+        BArray strings = paramSQLString.getArrayValue(Constants.ParameterizedQuery.STRINGS);
+        BArray insertions = paramSQLString.getArrayValue(Constants.ParameterizedQuery.INSERTIONS);
+        if (!hasInList(strings, insertions)) {
+            return paramSQLString;
+        }
+        return expand(paramSQLString, null);
+    }
+
+    /**
+     * Returns a copy of the queries of a batch of which the array parameters of `IN` lists are expanded. As the
+     * statement of a batch is prepared once, a list is expanded to the same number of parameters in all the queries,
+     * which is the bucket of the longest of the lists.
+     *
+     * @param paramSQLStrings the queries
+     * @return the queries to execute, or an error if an array parameter of an `IN` list is empty
+     */
+    public static Object expandBatch(BArray paramSQLStrings) {
+        int[] listSizes = null;
+        for (int i = 0; i < paramSQLStrings.size(); i++) {
+            BObject paramSQLString = (BObject) paramSQLStrings.get(i);
+            BArray strings = paramSQLString.getArrayValue(Constants.ParameterizedQuery.STRINGS);
+            BArray insertions = paramSQLString.getArrayValue(Constants.ParameterizedQuery.INSERTIONS);
+            if (!hasInList(strings, insertions)) {
+                continue;
+            }
+            if (listSizes == null) {
+                listSizes = new int[insertions.size()];
+            }
+            for (int j = 0; j < Math.min(listSizes.length, insertions.size()); j++) {
+                Object insertion = insertions.get(j);
+                if (isArray(insertion) && getInList(strings.getBString(j).getValue()) != NOT_IN_LIST) {
+                    listSizes[j] = Math.max(listSizes[j], ((BArray) insertion).size());
+                }
+            }
+        }
+        if (listSizes == null) {
+            return paramSQLStrings;
+        }
+        Object[] queries = new Object[paramSQLStrings.size()];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = expand((BObject) paramSQLStrings.get(i), listSizes);
+            if (queries[i] instanceof BError) {
+                return queries[i];
+            }
+        }
+        ArrayType queriesType = (ArrayType) TypeUtils.getImpliedType(paramSQLStrings.getType());
+        return ValueCreator.createArrayValue(queries, TypeCreator.createArrayType(queriesType.getElementType()));
+    }
+
+    private static Object expand(BObject paramSQLString, int[] listSizes) {
+        BArray strings = paramSQLString.getArrayValue(Constants.ParameterizedQuery.STRINGS);
+        BArray insertions = paramSQLString.getArrayValue(Constants.ParameterizedQuery.INSERTIONS);
+        List<BString> expandedStrings = new ArrayList<>();
+        List<Object> expandedInsertions = new ArrayList<>();
+        String sqlQuery = strings.getBString(0).getValue();
+        for (int i = 0; i < insertions.size(); i++) {
+            Object insertion = insertions.get(i);
+            String next = strings.getBString(i + 1).getValue();
+            int list = isArray(insertion) ? getInList(sqlQuery) : NOT_IN_LIST;
+            if (list == NOT_IN_LIST) {
+                expandedStrings.add(StringUtils.fromString(sqlQuery));
+                expandedInsertions.add(insertion);
+                sqlQuery = next;
+                continue;
+            }
+            BArray values = (BArray) insertion;
+            if (values.size() == 0) {
+                return ErrorGenerator.getSQLApplicationError("An empty array cannot be used as the list of an IN " +
+                        "predicate, as MySQL does not support empty lists: " + Utils.getSqlQuery(paramSQLString) +
+                        ".");
+            }
+            // A list without parentheses, such as `IN ${ids}`, is enclosed in parentheses
+            expandedStrings.add(StringUtils.fromString(list == PARENTHESIZED_LIST ? sqlQuery : sqlQuery + "("));
+            int bucket = getBucket(listSizes == null || i >= listSizes.length ? values.size() :
+                    Math.max(values.size(), listSizes[i]));
+            for (int j = 0; j < bucket; j++) {
+                if (j > 0) {
+                    expandedStrings.add(SEPARATOR);
+                }
+                expandedInsertions.add(values.get(Math.min(j, values.size() - 1)));
+            }
+            sqlQuery = list == PARENTHESIZED_LIST ? next : ")" + next;
+        }
+        expandedStrings.add(StringUtils.fromString(sqlQuery));
+        ArrayType insertionsType = (ArrayType) TypeUtils.getImpliedType(insertions.getType());
+        return Utils.createQuery(expandedStrings.toArray(new BString[0]),
+                ValueCreator.createArrayValue(expandedInsertions.toArray(),
+                        TypeCreator.createArrayType(insertionsType.getElementType())));
+    }
+
+    private static boolean hasInList(BArray strings, BArray insertions) {
+        for (int i = 0; i < insertions.size(); i++) {
+            if (isArray(insertions.get(i)) && getInList(strings.getBString(i).getValue()) != NOT_IN_LIST) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isArray(Object insertion) {
+        // A byte array is a binary value rather than a list
+        return insertion instanceof BArray &&
+                TypeUtils.getImpliedType(((BArray) insertion).getElementType()).getTag() != TypeTags.BYTE_TAG;
+    }
+
+    /**
+     * Returns the kind of `IN` list of a parameter from the SQL text before it, which ends with `IN (` or `IN`.
+     */
+    private static int getInList(String sqlQuery) {
+        int end = skipWhitespaceBackwards(sqlQuery, sqlQuery.length());
+        boolean parenthesized = end > 0 && sqlQuery.charAt(end - 1) == '(';
+        if (parenthesized) {
+            end = skipWhitespaceBackwards(sqlQuery, end - 1);
+        }
+        if (end < 2 || !sqlQuery.regionMatches(true, end - 2, "IN", 0, 2) ||
+                (end > 2 && isIdentifierPart(sqlQuery.charAt(end - 3)))) {
+            return NOT_IN_LIST;
+        }
+        return parenthesized ? PARENTHESIZED_LIST : BARE_LIST;
+    }
+
+    private static int skipWhitespaceBackwards(String sqlQuery, int end) {
+        int i = end;
+        while (i > 0 && Character.isWhitespace(sqlQuery.charAt(i - 1))) {
+            i--;
+        }
+        return i;
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '`';
+    }
+
+    private static int getBucket(int size) {
+        if (size > MAX_POWER_OF_TWO_BUCKET) {
+            return (size + MAX_POWER_OF_TWO_BUCKET - 1) / MAX_POWER_OF_TWO_BUCKET * MAX_POWER_OF_TWO_BUCKET;
+        }
+        return size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+    }
+}
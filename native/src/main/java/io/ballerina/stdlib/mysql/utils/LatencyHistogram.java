@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.mysql.Constants;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of latencies with a bucket per power of two microseconds. The latencies are recorded without locking, and
+ * the percentiles are reported as the upper bound of the bucket they fall in.
+ *
+ * @since 1.18.1
+ */
+public class LatencyHistogram {
+
+    // The last bucket holds the latencies of 2^30 microseconds (about 18 minutes) or more
+    private static final int BUCKETS = 32;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        long latency = Math.max(nanos, 0);
+        buckets.incrementAndGet(getBucket(latency / 1000));
+        count.increment();
+        totalNanos.add(latency);
+        long max = maxNanos.get();
+        while (latency > max && !maxNanos.compareAndSet(max, latency)) {
+            max = maxNanos.get();
+        }
+    }
+
+    private static int getBucket(long micros) {
+        // Bucket i holds the latencies from 2^(i-1) up to 2^i microseconds
+        return Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKETS - 1);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the latency below which the given fraction of the recorded latencies fall.
+     *
+     * @param fraction the fraction, between zero and one
+     * @return the upper bound of the bucket of the latency in nanoseconds
+     */
+    public long getPercentile(double fraction) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        long rank = (long) Math.ceil(fraction * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS - 1; i++) {
+            seen += counts[i];
+            if (seen >= rank && seen > 0) {
+                return Math.min((1L << i) * 1000, maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    public BMap<BString, Object> getStats() {
+        long recorded = count.sum();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.LatencyStats.COUNT, recorded);
+        stats.put(Constants.LatencyStats.MEAN, toSeconds(recorded == 0 ? 0 : totalNanos.sum() / recorded));
+        stats.put(Constants.LatencyStats.MAX, toSeconds(maxNanos.get()));
+        stats.put(Constants.LatencyStats.P50, toSeconds(getPercentile(0.50)));
+        stats.put(Constants.LatencyStats.P95, toSeconds(getPercentile(0.95)));
+        stats.put(Constants.LatencyStats.P99, toSeconds(getPercentile(0.99)));
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.LatencyStats.RECORD_NAME, stats);
+    }
+
+    private static Object toSeconds(long nanos) {
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(nanos, 9));
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.mysql.Constants;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads rows into a table with a `LOAD DATA LOCAL INFILE` statement, which reads the file content from the rows
+ * written to the loader instead of a file. The rows are encoded in chunks, and a bounded number of chunks are queued
+ * for the statement, so that the memory used does not grow with the number of rows. The statement is executed in a
+ * separate transaction, which is rolled back if the load is aborted.
+ *
+ * @since 1.18.1
+ */
+public class LocalInfileLoader {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int QUEUED_CHUNKS = 16;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    private static final byte[] END = new byte[0];
+    private static final byte[] ABORT = new byte[0];
+    private static final String SET_LOCAL_INFILE_INPUT_STREAM = "setLocalInfileInputStream";
+    private static final BString YEAR = StringUtils.fromString(
+            io.ballerina.stdlib.time.util.Constants.DATE_RECORD_YEAR);
+    private static final BString MONTH = StringUtils.fromString(
+            io.ballerina.stdlib.time.util.Constants.DATE_RECORD_MONTH);
+    private static final BString DAY = StringUtils.fromString(
+            io.ballerina.stdlib.time.util.Constants.DATE_RECORD_DAY);
+    private static final BString HOUR = StringUtils.fromString(
+            io.ballerina.stdlib.time.util.Constants.TIME_OF_DAY_RECORD_HOUR);
+    private static final BString MINUTE = StringUtils.fromString(
+            io.ballerina.stdlib.time.util.Constants.TIME_OF_DAY_RECORD_MINUTE);
+    private static final BString SECOND = StringUtils.fromString(
+            io.ballerina.stdlib.time.util.Constants.TIME_OF_DAY_RECORD_SECOND);
+    private static final DateTimeFormatter UTC_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSSSSS").withZone(ZoneOffset.UTC);
+
+    private final BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(QUEUED_CHUNKS);
+    private final ByteArrayOutputStream chunk = new ByteArrayOutputStream(CHUNK_SIZE);
+    private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+    private LocalInfileLoader() {
+    }
+
+    public static LocalInfileLoader start(SQLDatasource datasource, String statement) {
+        LocalInfileLoader loader = new LocalInfileLoader();
+        Thread.ofVirtual().name("mysql-local-infile-loader").start(() -> loader.load(datasource, statement));
+        return loader;
+    }
+
+    public static String getStatement(String tableName, String[] columns) {
+        StringBuilder statement = new StringBuilder("LOAD DATA LOCAL INFILE 'stream' INTO TABLE ");
+        String[] tableNameParts = tableName.split("\\.");
+        for (int i = 0; i < tableNameParts.length; i++) {
+            if (i > 0) {
+                statement.append(".");
+            }
+            statement.append(quoteIdentifier(tableNameParts[i]));
+        }
+        // The text is written in UTF-8, and the binary values are written as they are
+        statement.append(" CHARACTER SET binary FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' " +
+                "LINES TERMINATED BY '\\n' (");
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                statement.append(", ");
+            }
+            statement.append(quoteIdentifier(columns[i]));
+        }
+        return statement.append(")").toString();
+    }
+
+    private static String quoteIdentifier(String identifier) {
+        return "`" + identifier.replace("`", "``") + "`";
+    }
+
+    private void load(SQLDatasource datasource, String statement) {
+        try (Connection connection = datasource.getSQLConnection();
+             Statement loadStatement = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            try {
+                Statement driverStatement = loadStatement.unwrap(Statement.class);
+                driverStatement.getClass().getMethod(SET_LOCAL_INFILE_INPUT_STREAM, InputStream.class)
+                        .invoke(driverStatement, new ChunkInputStream());
+                long rowsLoaded = loadStatement.executeLargeUpdate(statement);
+                List<BString> warnings = new ArrayList<>();
+                for (SQLWarning warning = loadStatement.getWarnings(); warning != null;
+                     warning = warning.getNextWarning()) {
+                    warnings.add(StringUtils.fromString(warning.getMessage()));
+                }
+                connection.commit();
+                Map<String, Object> loadResult = new HashMap<>();
+                loadResult.put(Constants.LoadDataResult.ROWS_LOADED, rowsLoaded);
+                loadResult.put(Constants.LoadDataResult.WARNINGS,
+                        ValueCreator.createArrayValue(warnings.toArray(new BString[0])));
+                result.complete(ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                        Constants.LoadDataResult.RECORD_NAME, loadResult));
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } catch (ReflectiveOperationException e) {
+                connection.rollback();
+                result.complete(ErrorGenerator.getSQLApplicationError(
+                        "The MySQL driver does not support loading data from a stream.", e));
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            result.complete(ErrorGenerator.getSQLDatabaseError(e, "Error while loading data: "));
+        } catch (RuntimeException e) {
+            result.complete(ErrorGenerator.getSQLApplicationError("Error while loading data: " + e.getMessage()));
+        } finally {
+            // Releases the writer if the statement completed before reading all the rows
+            chunks.clear();
+        }
+    }
+
+    /**
+     * Encodes a row and queues it for the statement.
+     *
+     * @param row values of the row, in the order of the columns
+     * @return an error if the row cannot be encoded or the statement has already failed, otherwise null
+     */
+    public Object write(BArray row) throws InterruptedException {
+        if (result.isDone()) {
+            return getResult();
+        }
+        for (int i = 0; i < row.size(); i++) {
+            if (i > 0) {
+                chunk.write('\t');
+            }
+            String error = encode(row.get(i));
+            if (error != null) {
+                return ErrorGenerator.getSQLApplicationError(error);
+            }
+        }
+        chunk.write('\n');
+        if (chunk.size() >= CHUNK_SIZE) {
+            return flush();
+        }
+        return null;
+    }
+
+    public Object finish() throws InterruptedException {
+        Object flushResult = flush();
+        if (flushResult != null) {
+            return flushResult;
+        }
+        enqueue(END);
+        return getResult();
+    }
+
+    public void abort() throws InterruptedException {
+        chunks.clear();
+        enqueue(ABORT);
+        getResult();
+    }
+
+    private Object flush() throws InterruptedException {
+        if (chunk.size() > 0) {
+            byte[] encoded = chunk.toByteArray();
+            chunk.reset();
+            if (!enqueue(encoded)) {
+                return getResult();
+            }
+        }
+        return null;
+    }
+
+    private boolean enqueue(byte[] encoded) throws InterruptedException {
+        while (!chunks.offer(encoded, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (result.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object getResult() throws InterruptedException {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            return ErrorGenerator.getSQLApplicationError("Error while loading data: " + e.getMessage());
+        }
+    }
+
+    private String encode(Object value) {
+        if (value == null) {
+            chunk.writeBytes(new byte[]{'\\', 'N'});
+        } else if (value instanceof BString) {
+            escape(((BString) value).getValue().getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Long || value instanceof Double) {
+            chunk.writeBytes(value.toString().getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof BDecimal) {
+            chunk.writeBytes(((BDecimal) value).decimalValue().toPlainString().getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Boolean) {
+            chunk.write((Boolean) value ? '1' : '0');
+        } else if (value instanceof BArray) {
+            return encodeArray((BArray) value);
+        } else if (value instanceof BMap) {
+            return encodeTime((BMap<BString, Object>) value);
+        } else {
+            return "Unsupported value type " + TypeUtils.getType(value).getName() + " in the rows to load.";
+        }
+        return null;
+    }
+
+    private String encodeArray(BArray value) {
+        if (TypeUtils.getImpliedType(value.getElementType()).getTag() == TypeTags.BYTE_TAG) {
+            escape(value.getBytes());
+            return null;
+        }
+        if (value.size() == 2 && value.get(0) instanceof Long && value.get(1) instanceof BDecimal) {
+            // time:Utc
+            BigDecimal epochSeconds = BigDecimal.valueOf((Long) value.get(0))
+                    .add(((BDecimal) value.get(1)).decimalValue());
+            Instant instant = Instant.ofEpochSecond(epochSeconds.longValue(),
+                    epochSeconds.remainder(BigDecimal.ONE).movePointRight(9).longValue());
+            chunk.writeBytes(UTC_FORMATTER.format(instant).getBytes(StandardCharsets.UTF_8));
+            return null;
+        }
+        return "Unsupported array value in the rows to load.";
+    }
+
+    private String encodeTime(BMap<BString, Object> value) {
+        StringBuilder time = new StringBuilder();
+        if (value.containsKey(YEAR)) {
+            time.append(String.format("%04d-%02d-%02d", value.getIntValue(YEAR),
+                    value.getIntValue(MONTH), value.getIntValue(DAY)));
+        }
+        if (value.containsKey(HOUR)) {
+            if (time.length() > 0) {
+                time.append(' ');
+            }
+            time.append(String.format("%02d:%02d:", value.getIntValue(HOUR),
+                    value.getIntValue(MINUTE)));
+            Object second = value.get(SECOND);
+            BigDecimal seconds = second instanceof BDecimal ? ((BDecimal) second).decimalValue() : BigDecimal.ZERO;
+            if (seconds.compareTo(BigDecimal.TEN) < 0) {
+                time.append('0');
+            }
+            time.append(seconds.stripTrailingZeros().toPlainString());
+        }
+        if (time.length() == 0) {
+            return "Unsupported record value in the rows to load.";
+        }
+        chunk.writeBytes(time.toString().getBytes(StandardCharsets.UTF_8));
+        return null;
+    }
+
+    private void escape(byte[] bytes) {
+        for (byte b : bytes) {
+            switch (b) {
+                case '\\' -> chunk.writeBytes(new byte[]{'\\', '\\'});
+                case '\t' -> chunk.writeBytes(new byte[]{'\\', 't'});
+                case '\n' -> chunk.writeBytes(new byte[]{'\\', 'n'});
+                case '\r' -> chunk.writeBytes(new byte[]{'\\', 'r'});
+                case 0 -> chunk.writeBytes(new byte[]{'\\', '0'});
+                default -> chunk.write(b);
+            }
+        }
+    }
+
+    /**
+     * Input stream read by the driver, which returns the queued chunks.
+     */
+    private class ChunkInputStream extends InputStream {
+        private byte[] current = new byte[0];
+        private int position = 0;
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            while (position == current.length) {
+                if (current == END) {
+                    return -1;
+                }
+                try {
+                    current = chunks.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for the rows to load.", e);
+                }
+                position = 0;
+                if (current == ABORT) {
+                    throw new IOException("Loading data is aborted.");
+                }
+            }
+            int count = Math.min(length, current.length - position);
+            System.arraycopy(current, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+    }
+}
@@ -17,7 +17,10 @@
  */
 package io.ballerina.stdlib.mysql.utils;
 
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.mysql.Constants;
 import io.ballerina.stdlib.mysql.parameterprocessor.MysqlResultParameterProcessor;
 import io.ballerina.stdlib.sql.utils.RecordIteratorUtils;
 
@@ -29,7 +32,20 @@ public class MysqlRecordIteratorUtils extends RecordIteratorUtils {
     private MysqlRecordIteratorUtils() {
     }
 
-    public static Object nextResult(BObject mysqlRecordIterator, BObject recordIterator) {
-        return nextResult(recordIterator, MysqlResultParameterProcessor.getInstance());
+    public static Object nextRecord(Environment env, BObject mysqlRecordIterator, BObject recordIterator) {
+        if (recordIterator.getNativeData(Constants.FETCH_HOOKS) == null) {
+            return nextResult(recordIterator, MysqlResultParameterProcessor.getInstance());
+        }
+        BlockingCallTracker.RowFetcher fetcher =
+                (BlockingCallTracker.RowFetcher) recordIterator.getNativeData(Constants.BLOCKING_CALL_TRACKER);
+        long startTime = System.nanoTime();
+        Object result = fetcher == null ? nextResult(recordIterator, MysqlResultParameterProcessor.getInstance()) :
+                fetcher.fetch(env, () -> nextResult(recordIterator, MysqlResultParameterProcessor.getInstance()));
+        if (result != null) {
+            StatementMetrics.recordRows(recordIterator, result instanceof BError ? 0 : 1, result instanceof BError);
+        }
+        SlowQueryLog.recordFetch(recordIterator, System.nanoTime() - startTime,
+                result == null || result instanceof BError);
+        return result;
     }
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.mysql.Constants;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Opens connections of a client pool in parallel, so that the handshakes are not made while serving the first
+ * requests. Each connection is held until all the connections are opened, so that every attempt opens a separate
+ * physical connection, and is then returned to the pool as an idle connection.
+ *
+ * @since 1.18.1
+ */
+public class PoolWarmer {
+
+    private static final int NANOS_SCALE = 9;
+
+    private final int connections;
+    private final long start = System.nanoTime();
+    private int ready = 0;
+    private int failed = 0;
+    private long duration = -1;
+
+    private PoolWarmer(int connections) {
+        this.connections = connections;
+    }
+
+    public static PoolWarmer start(SQLDatasource datasource, int connections, int validationTimeout) {
+        PoolWarmer warmer = new PoolWarmer(connections);
+        for (int i = 0; i < connections; i++) {
+            Thread.ofVirtual().name("mysql-pool-warmer").start(() -> warmer.open(datasource, validationTimeout));
+        }
+        return warmer;
+    }
+
+    private void open(SQLDatasource datasource, int validationTimeout) {
+        try (Connection connection = datasource.getSQLConnection()) {
+            if (connection.isValid(validationTimeout)) {
+                complete(true);
+                awaitCompletion();
+            } else {
+                complete(false);
+            }
+        } catch (SQLException e) {
+            complete(false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void complete(boolean success) {
+        if (success) {
+            ready++;
+        } else {
+            failed++;
+        }
+        if (ready + failed == connections) {
+            duration = System.nanoTime() - start;
+        }
+        notifyAll();
+    }
+
+    // Each attempt completes within the connection timeout of the pool
+    private synchronized void awaitCompletion() throws InterruptedException {
+        while (ready + failed < connections) {
+            wait();
+        }
+    }
+
+    /**
+     * Waits until the given number of connections are ready, all the attempts are completed or the timeout elapses.
+     *
+     * @param minReady      number of connections to wait for
+     * @param timeoutMillis maximum time to wait
+     * @return the number of connections that are ready
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public synchronized int awaitReady(int minReady, long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (ready < minReady && ready + failed < connections && System.currentTimeMillis() < deadline) {
+            wait(Math.max(1, deadline - System.currentTimeMillis()));
+        }
+        return ready;
+    }
+
+    public synchronized BMap<BString, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.WarmUpStats.READY, (long) ready);
+        stats.put(Constants.WarmUpStats.FAILED, (long) failed);
+        stats.put(Constants.WarmUpStats.DURATION, duration < 0 ? null :
+                ValueCreator.createDecimalValue(BigDecimal.valueOf(duration, NANOS_SCALE)));
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.WarmUpStats.RECORD_NAME, stats);
+    }
+}
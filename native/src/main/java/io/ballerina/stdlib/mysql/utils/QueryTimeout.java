@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.utils;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.mysql.Constants;
+import io.ballerina.stdlib.mysql.Utils;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * Limits the execution time of statements on the server. A `SELECT` statement is given a `MAX_EXECUTION_TIME`
+ * optimizer hint, with which the server aborts the statement itself. Any other statement is given a query timeout,
+ * after which the driver sends `KILL QUERY` for the statement on a separate connection. Neither closes the connection
+ * of the statement, which is returned to the pool as usual.
+ *
+ * @since 1.18.1
+ */
+public final class QueryTimeout {
+
+    private static final String QUERY_TIMEOUT_ERROR = "QueryTimeoutError";
+    private static final String HINT = "MAX_EXECUTION_TIME";
+    private static final BString ERROR_CODE = StringUtils.fromString("errorCode");
+    private static final BString SQL_STATE = StringUtils.fromString("sqlState");
+    // ER_QUERY_TIMEOUT is returned for the statements aborted by the hint, and the driver reports the statements it
+    // cancels on their timeout with the S1T00 SQL state
+    private static final long ER_QUERY_TIMEOUT = 3024L;
+    private static final String TIMEOUT_SQL_STATE = "S1T00";
+    // ER_QUERY_INTERRUPTED is also returned for the statements killed by other sessions, hence it is taken as a
+    // timeout only once the timeout has elapsed
+    private static final long ER_QUERY_INTERRUPTED = 1317L;
+    private static final String INTERRUPTED_SQL_STATE = "70100";
+
+    private QueryTimeout() {
+    }
+
+    /**
+     * Returns the default timeout of the statements of a client.
+     *
+     * @param client the client
+     * @return the timeout in milliseconds, or zero if the statements are not limited
+     */
+    public static long getDefault(BObject client) {
+        Object timeout = client.getNativeData(Constants.QUERY_TIMEOUT);
+        return timeout == null ? 0 : (long) timeout;
+    }
+
+    /**
+     * Converts a timeout to milliseconds, rounding it up so that a timeout of less than a millisecond is not
+     * disabled.
+     *
+     * @param timeoutNanos the timeout in nanoseconds
+     * @return the timeout in milliseconds
+     */
+    public static long toMillis(long timeoutNanos) {
+        return timeoutNanos <= 0 ? timeoutNanos : (timeoutNanos + 999_999) / 1_000_000;
+    }
+
+    /**
+     * Returns a copy of a query that is executed with the given timeout. The query is returned as it is if the timeout
+     * is zero.
+     *
+     * @param paramSQLString the query
+     * @param timeout        the timeout in milliseconds
+     * @return the query to execute
+     */
+    public static BObject apply(BObject paramSQLString, long timeout) {
+        if (timeout <= 0) {
+            return paramSQLString;
+        }
+        BArray strings = paramSQLString.getArrayValue(Constants.ParameterizedQuery.STRINGS);
+        BString[] timedStrings = new BString[strings.size()];
+        for (int i = 0; i < timedStrings.length; i++) {
+            timedStrings[i] = strings.getBString(i);
+        }
+        boolean hinted = false;
+        if (timedStrings.length > 0) {
+            String hintedString = addHint(timedStrings[0].getValue(), timeout);
+            if (hintedString != null) {
+                timedStrings[0] = StringUtils.fromString(hintedString);
+                hinted = true;
+            }
+        }
+        BObject timedQuery = Utils.createQuery(timedStrings,
+                paramSQLString.getArrayValue(Constants.ParameterizedQuery.INSERTIONS));
+        // A hinted statement is also given a query timeout of a second longer, in case the server does not apply the
+        // hint, such as to a locking read
+        long timeoutSeconds = (timeout + 999) / 1000 + (hinted ? 1 : 0);
+        timedQuery.addNativeData(Constants.QUERY_TIMEOUT_SECONDS, timeoutSeconds);
+        return timedQuery;
+    }
+
+    /**
+     * Adds the `MAX_EXECUTION_TIME` hint to the SQL text of a `SELECT` statement.
+     *
+     * @param sqlQuery the SQL text up to the first parameter of the statement
+     * @param timeout  the timeout in milliseconds
+     * @return the SQL text with the hint, or null if the statement is not a `SELECT` statement or already has the hint
+     */
+    static String addHint(String sqlQuery, long timeout) {
+        int start = skipIgnored(sqlQuery, 0);
+        while (start < sqlQuery.length() && sqlQuery.charAt(start) == '(') {
+            start = skipIgnored(sqlQuery, start + 1);
+        }
+        int end = start + "SELECT".length();
+        if (end > sqlQuery.length() || !sqlQuery.substring(start, end).equalsIgnoreCase("SELECT") ||
+                (end < sqlQuery.length() && Character.isLetterOrDigit(sqlQuery.charAt(end))) ||
+                sqlQuery.toUpperCase(Locale.ROOT).contains(HINT)) {
+            return null;
+        }
+        String hint = HINT + "(" + timeout + ")";
+        int hintStart = skipWhitespace(sqlQuery, end);
+        if (sqlQuery.startsWith("/*+", hintStart)) {
+            // A query block can have only one hint comment, to which the hint is added
+            return sqlQuery.substring(0, hintStart + 3) + " " + hint + sqlQuery.substring(hintStart + 3);
+        }
+        return sqlQuery.substring(0, end) + " /*+ " + hint + " */" + sqlQuery.substring(end);
+    }
+
+    private static int skipIgnored(String sqlQuery, int start) {
+        int i = skipWhitespace(sqlQuery, start);
+        while (sqlQuery.startsWith("/*", i) && !sqlQuery.startsWith("/*+", i)) {
+            int end = sqlQuery.indexOf("*/", i + 2);
+            i = skipWhitespace(sqlQuery, end < 0 ? sqlQuery.length() : end + 2);
+        }
+        return i;
+    }
+
+    private static int skipWhitespace(String sqlQuery, int start) {
+        int i = start;
+        while (i < sqlQuery.length() && Character.isWhitespace(sqlQuery.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Sets the query timeout of a statement to the timeout of a query returned by `apply`, or clears it for any
+     * other query, as a statement taken from the statement cache keeps the timeout of its previous execution.
+     *
+     * @param statement      the statement
+     * @param paramSQLString the query of the statement
+     */
+    public static void setQueryTimeout(PreparedStatement statement, BObject paramSQLString) throws SQLException {
+        Object timeout = paramSQLString.getNativeData(Constants.QUERY_TIMEOUT_SECONDS);
+        statement.setQueryTimeout(timeout == null ? 0 : (int) Math.min((long) timeout, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Returns a `mysql:QueryTimeoutError` in place of the error of a statement aborted by its timeout.
+     *
+     * @param result       the result of the statement
+     * @param timeout      the timeout in milliseconds
+     * @param elapsedNanos the time taken by the statement
+     * @return the timeout error, or the result as it is if the statement did not time out
+     */
+    public static Object toTimeoutError(Object result, long timeout, long elapsedNanos) {
+        if (timeout <= 0 || !(result instanceof BError) ||
+                !isTimeout((BError) result, elapsedNanos >= timeout * 1_000_000)) {
+            return result;
+        }
+        BError error = (BError) result;
+        return ErrorCreator.createError(ModuleUtils.getModule(), QUERY_TIMEOUT_ERROR, StringUtils.fromString(
+                "Execution of the SQL query exceeded the timeout of " + timeout / 1000.0 + " seconds. " +
+                        error.getErrorMessage().getValue()), error, error.getDetails());
+    }
+
+    private static boolean isTimeout(BError error, boolean elapsed) {
+        if (!(error.getDetails() instanceof BMap)) {
+            return false;
+        }
+        BMap<?, ?> details = (BMap<?, ?>) error.getDetails();
+        Object errorCode = details.get(ERROR_CODE);
+        Object sqlState = details.get(SQL_STATE);
+        String state = sqlState instanceof BString ? ((BString) sqlState).getValue() : null;
+        if (Long.valueOf(ER_QUERY_TIMEOUT).equals(errorCode) || TIMEOUT_SQL_STATE.equals(state)) {
+            return true;
+        }
+        return elapsed && (Long.valueOf(ER_QUERY_INTERRUPTED).equals(errorCode) || INTERRUPTED_SQL_STATE.equals(state));
+    }
+}
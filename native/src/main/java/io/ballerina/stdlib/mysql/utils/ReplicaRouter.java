@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.mysql.Constants;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes the reads of a client to its replica servers. A background task checks the replication lag of each replica
+ * periodically and takes the replicas that lag behind the configured limit out of rotation.
+ *
+ * @since 1.18.1
+ */
+public class ReplicaRouter {
+
+    private static final String SHOW_REPLICA_STATUS = "SHOW REPLICA STATUS";
+    private static final String SHOW_SLAVE_STATUS = "SHOW SLAVE STATUS";
+    private static final String SECONDS_BEHIND_SOURCE = "Seconds_Behind_Source";
+    private static final String SECONDS_BEHIND_MASTER = "Seconds_Behind_Master";
+    private static final int PARSE_ERROR = 1064;
+
+    private final List<Replica> replicas;
+    private final boolean leastOutstandingRequests;
+    private final double maxReplicationLag;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService lagChecker;
+
+    public ReplicaRouter(List<Replica> replicas, String balancing, double maxReplicationLag,
+                         long lagCheckIntervalMillis) {
+        this.replicas = replicas;
+        this.leastOutstandingRequests = Constants.ReplicaConfig.LEAST_OUTSTANDING_REQUESTS.equals(balancing);
+        this.maxReplicationLag = maxReplicationLag;
+        this.lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mysql-replica-lag-checker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.lagChecker.scheduleWithFixedDelay(this::checkReplicationLag, 0, lagCheckIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the replica to which a read of the given client should be routed.
+     *
+     * @param client the MySQL client
+     * @return the replica, or null if the read should be executed on the primary server
+     */
+    public static Replica getReplica(BObject client) {
+        Object router = client.getNativeData(Constants.REPLICA_ROUTER);
+        if (router == null || TransactionResourceManager.getInstance().isInTransaction()) {
+            return null;
+        }
+        return ((ReplicaRouter) router).selectReplica();
+    }
+
+    /**
+     * Ends the request of a query result read from a replica, once the result is closed or all its rows are read.
+     * The request is ended only once for each result.
+     *
+     * @param iterator the iterator of the result
+     */
+    public static void endRequest(BObject iterator) {
+        Object replica = iterator.getNativeData(Constants.REPLICA);
+        if (replica != null) {
+            iterator.addNativeData(Constants.REPLICA, null);
+            ((Replica) replica).endRequest();
+        }
+    }
+
+    private Replica selectReplica() {
+        if (leastOutstandingRequests) {
+            Replica selected = null;
+            for (Replica replica : replicas) {
+                if (replica.inRotation && (selected == null ||
+                        replica.outstandingRequests.get() < selected.outstandingRequests.get())) {
+                    selected = replica;
+                }
+            }
+            return selected;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.inRotation) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void checkReplicationLag() {
+        for (Replica replica : replicas) {
+            Long lag = getReplicationLag(replica);
+            replica.replicationLag = lag;
+            replica.inRotation = lag != null && lag <= maxReplicationLag;
+        }
+    }
+
+    private static Long getReplicationLag(Replica replica) {
+        SQLDatasource datasource = (SQLDatasource) replica.client.getNativeData(
+                io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT);
+        try (Connection connection = datasource.getSQLConnection();
+             Statement statement = connection.createStatement()) {
+            ResultSet resultSet;
+            try {
+                resultSet = statement.executeQuery(SHOW_REPLICA_STATUS);
+            } catch (SQLException e) {
+                if (e.getErrorCode() != PARSE_ERROR) {
+                    throw e;
+                }
+                // Servers prior to MySQL 8.0.22 only support the legacy statement
+                resultSet = statement.executeQuery(SHOW_SLAVE_STATUS);
+            }
+            try (ResultSet status = resultSet) {
+                if (!status.next()) {
+                    // The server is not replicating from a source, hence it does not lag behind
+                    return 0L;
+                }
+                long lag = status.getLong(getLagColumn(status.getMetaData()));
+                return status.wasNull() ? null : lag;
+            }
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private static String getLagColumn(ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (SECONDS_BEHIND_SOURCE.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                return SECONDS_BEHIND_SOURCE;
+            }
+        }
+        return SECONDS_BEHIND_MASTER;
+    }
+
+    public void populateStatus(BArray status) {
+        for (Replica replica : replicas) {
+            Map<String, Object> fields = new HashMap<>();
+            fields.put(Constants.ReplicaStatus.HOST, replica.host);
+            fields.put(Constants.ReplicaStatus.PORT, replica.port);
+            fields.put(Constants.ReplicaStatus.IN_ROTATION, replica.inRotation);
+            fields.put(Constants.ReplicaStatus.REPLICATION_LAG, replica.replicationLag);
+            fields.put(Constants.ReplicaStatus.OUTSTANDING_REQUESTS, (long) replica.outstandingRequests.get());
+            status.append(ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.ReplicaStatus.RECORD_NAME,
+                    fields));
+        }
+    }
+
+    public List<BObject> getReplicaClients() {
+        List<BObject> clients = new ArrayList<>();
+        for (Replica replica : replicas) {
+            clients.add(replica.client);
+        }
+        return clients;
+    }
+
+    public void close() {
+        lagChecker.shutdownNow();
+    }
+
+    /**
+     * Represents a replica server and its routing state.
+     */
+    public static class Replica {
+        private final BObject client;
+        private final BString host;
+        private final long port;
+        private final AtomicInteger outstandingRequests = new AtomicInteger();
+        private volatile boolean inRotation = true;
+        private volatile Long replicationLag = null;
+
+        public Replica(BObject client, BMap<BString, Object> server) {
+            this.client = client;
+            this.host = server.getStringValue(Constants.ReplicaConfig.ReplicaServer.HOST);
+            this.port = server.getIntValue(Constants.ReplicaConfig.ReplicaServer.PORT);
+        }
+
+        public BObject getClient() {
+            return client;
+        }
+
+        public void startRequest() {
+            outstandingRequests.incrementAndGet();
+        }
+
+        public void endRequest() {
+            outstandingRequests.decrementAndGet();
+        }
+    }
+}
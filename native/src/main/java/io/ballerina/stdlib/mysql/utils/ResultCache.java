@@ -0,0 +1,468 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.transactions.BallerinaTransactionContext;
+import io.ballerina.runtime.transactions.TransactionLocalContext;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.mysql.Constants;
+import io.ballerina.stdlib.mysql.Utils;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.transaction.xa.XAResource;
+
+/**
+ * Caches the results of queries of a client per query text, parameter values and result type. The entries expire
+ * after their time-to-live, the least recently used entries are evicted once the estimated size of the cached results
+ * exceeds the configured size, and the entries tagged with a table are removed when the table is invalidated, either
+ * explicitly or by a statement of the client that writes to the table. Each invalidation starts a new generation, so
+ * that the result of a query that ran concurrently with the invalidation of one of its tables is not cached. The
+ * tables written within a transaction are invalidated again when the transaction ends, as the queries that run
+ * outside the transaction until then read the rows before the write.
+ *
+ * @since 1.18.1
+ */
+public class ResultCache {
+
+    private static final BString VALUE = StringUtils.fromString("value");
+    // The statements that do not write to any table, and the statements that write to a single table
+    private static final Pattern READ_STATEMENT = Pattern.compile(
+            "^\\s*(SELECT|SET|SHOW|EXPLAIN|DESCRIBE|DESC|USE)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern WRITE_STATEMENT = Pattern.compile(
+            "^\\s*(?:(?:INSERT|REPLACE)(?:\\s+(?:LOW_PRIORITY|DELAYED|HIGH_PRIORITY|IGNORE))*(?:\\s+INTO)?|" +
+                    "UPDATE(?:\\s+(?:LOW_PRIORITY|IGNORE))*|" +
+                    "DELETE(?:\\s+(?:LOW_PRIORITY|QUICK|IGNORE))*\\s+FROM)\\s+((?:`[^`]+`|[\\w$]+)" +
+                    "(?:\\s*\\.\\s*(?:`[^`]+`|[\\w$]+))?)(.*)$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    // The rest of an `UPDATE` statement of a single table, which sets the columns after an optional alias
+    private static final Pattern SINGLE_TABLE_UPDATE = Pattern.compile("^\\s+(?:(?:AS\\s+)?[\\w$]+\\s+)?SET\\b",
+            Pattern.CASE_INSENSITIVE);
+    // The rest of a `DELETE` statement of multiple tables
+    private static final Pattern MULTI_TABLE_DELETE = Pattern.compile("^\\s*,|\\bUSING\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    private final long maxSize;
+    private final long defaultTtl;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long expirations = 0;
+    private long evictions = 0;
+    private long invalidations = 0;
+    private long generation = 0;
+    private long allInvalidatedAt = 0;
+    private final Map<String, Long> tablesInvalidatedAt = new HashMap<>();
+    // The id with which the tables written within a transaction are registered with the transaction
+    private final String transactionContextId = "mysql-result-cache-" + UUID.randomUUID();
+
+    public ResultCache(long maxSize, long defaultTtl) {
+        this.maxSize = maxSize;
+        this.defaultTtl = defaultTtl;
+    }
+
+    public static ResultCache get(BObject client) {
+        return (ResultCache) client.getNativeData(Constants.RESULT_CACHE);
+    }
+
+    /**
+     * Invalidates the cached results of the table written by a statement executed by a client, or all the cached
+     * results if the table cannot be determined from the statement.
+     *
+     * @param client         the client
+     * @param paramSQLString the statement
+     */
+    public static void recordWrite(BObject client, BObject paramSQLString) {
+        ResultCache cache = get(client);
+        if (cache == null) {
+            return;
+        }
+        String sqlQuery = Utils.getSqlQuery(paramSQLString);
+        if (!READ_STATEMENT.matcher(sqlQuery).find()) {
+            cache.invalidateWritten(getWrittenTable(sqlQuery));
+        }
+    }
+
+    /**
+     * Invalidates the cached results of a table written by a client, or all the cached results if no table is given.
+     * Within a transaction, the table is invalidated again when the transaction is committed or rolled back.
+     *
+     * @param client the client
+     * @param table  the name of the table, or null if the written tables are not known
+     */
+    public static void recordWrite(BObject client, String table) {
+        ResultCache cache = get(client);
+        if (cache != null) {
+            cache.invalidateWritten(table);
+        }
+    }
+
+    private void invalidateWritten(String table) {
+        invalidate(table);
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        if (trxResourceManager.isInTransaction()) {
+            PendingInvalidations.get(this, trxResourceManager).add(table);
+        }
+    }
+
+    /**
+     * Invalidates the cached results of the tables written by the statements of a batch.
+     *
+     * @param client          the client
+     * @param paramSQLStrings the statements of the batch
+     */
+    public static void recordBatchWrite(BObject client, BArray paramSQLStrings) {
+        if (get(client) == null) {
+            return;
+        }
+        for (int i = 0; i < paramSQLStrings.size(); i++) {
+            // The statements of a batch usually share the same text
+            if (i == 0 || !Utils.getSqlQuery((BObject) paramSQLStrings.get(i)).equals(
+                    Utils.getSqlQuery((BObject) paramSQLStrings.get(i - 1)))) {
+                recordWrite(client, (BObject) paramSQLStrings.get(i));
+            }
+        }
+    }
+
+    /**
+     * Returns the table written by an `INSERT`, `REPLACE`, `UPDATE` or `DELETE` statement of a single table.
+     *
+     * @param sqlQuery the statement
+     * @return the name of the table, qualified with the database if the statement qualifies it, or null if the
+     *         statement may write to any other table
+     */
+    static String getWrittenTable(String sqlQuery) {
+        Matcher matcher = WRITE_STATEMENT.matcher(sqlQuery);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String rest = matcher.group(2);
+        String statement = sqlQuery.stripLeading().substring(0, 6).toUpperCase(Locale.ROOT);
+        if (statement.equals("UPDATE") && !SINGLE_TABLE_UPDATE.matcher(rest).find() ||
+                statement.equals("DELETE") && MULTI_TABLE_DELETE.matcher(rest).find()) {
+            return null;
+        }
+        return matcher.group(1).replace("`", "").replaceAll("\\s", "");
+    }
+
+    /**
+     * Returns the current generation of the invalidations of the cache, which is captured before a query is executed
+     * and passed to {@link #put}.
+     *
+     * @return the generation
+     */
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Creates the key of a query, of which the parameter values are included with their types, so that the same value
+     * passed as different SQL types is cached separately.
+     *
+     * @param paramSQLString the query
+     * @param resultType     the type to which the result is mapped
+     * @return the key of the query
+     */
+    public static Key createKey(BObject paramSQLString, Type resultType) {
+        StringBuilder parameters = new StringBuilder();
+        BArray insertions = paramSQLString.getArrayValue(Constants.ParameterizedQuery.INSERTIONS);
+        for (int i = 0; i < insertions.size(); i++) {
+            if (i > 0) {
+                parameters.append(',');
+            }
+            appendValue(parameters, insertions.get(i));
+        }
+        return new Key(Utils.getSqlQuery(paramSQLString), parameters.toString(), resultType);
+    }
+
+    static void appendValue(StringBuilder parameters, Object value) {
+        if (value instanceof BObject) {
+            // sql:TypedValue, such as sql:VarcharValue
+            BObject typedValue = (BObject) value;
+            parameters.append(typedValue.getType().getName()).append('(');
+            appendValue(parameters, typedValue.get(VALUE));
+            parameters.append(')');
+        } else {
+            parameters.append(StringUtils.getExpressionStringValue(value));
+        }
+    }
+
+    /**
+     * Returns the cached entry of a query.
+     *
+     * @param key the key of the query
+     * @return the entry, or null if the result is not cached or has expired
+     */
+    public synchronized Entry get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt - System.nanoTime() <= 0) {
+            remove(key, entry);
+            expirations++;
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry;
+    }
+
+    /**
+     * Caches the result of a query.
+     *
+     * @param key        the key of the query
+     * @param value      the immutable result
+     * @param ttl        the time-to-live of the result in milliseconds, or a negative value to use the default
+     * @param tables     the tables from which the result is read
+     * @param generation the generation of the invalidations captured before the query was executed
+     */
+    public synchronized void put(Key key, Object value, long ttl, String[] tables, long generation) {
+        long valueSize = estimateSize(value);
+        if (valueSize > maxSize || isInvalidatedSince(generation, tables)) {
+            return;
+        }
+        long expiresAt = System.nanoTime() + (ttl < 0 ? defaultTtl : ttl) * 1_000_000;
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            size -= previous.size;
+        }
+        entries.put(key, new Entry(value, tables, expiresAt, valueSize));
+        size += valueSize;
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Entry eldest = iterator.next().getValue();
+            iterator.remove();
+            size -= eldest.size;
+            evictions++;
+        }
+    }
+
+    /**
+     * Removes the entries tagged with a table, or all the entries if no table is given. A table name qualified with
+     * the database, as reported by the CDC events, matches the tags of the table with or without the database.
+     *
+     * @param table the name of the table, or null to remove all the entries
+     */
+    public synchronized void invalidate(String table) {
+        generation++;
+        if (table == null) {
+            allInvalidatedAt = generation;
+            tablesInvalidatedAt.clear();
+        } else {
+            tablesInvalidatedAt.put(table.toLowerCase(Locale.ROOT), generation);
+        }
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            if (table == null || entry.isTaggedWith(table)) {
+                iterator.remove();
+                size -= entry.size;
+                invalidations++;
+            }
+        }
+    }
+
+    private boolean isInvalidatedSince(long generation, String[] tables) {
+        if (allInvalidatedAt > generation) {
+            return true;
+        }
+        for (Map.Entry<String, Long> invalidated : tablesInvalidatedAt.entrySet()) {
+            if (invalidated.getValue() > generation && isAnyTaggedWith(tables, invalidated.getKey())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAnyTaggedWith(String[] tables, String table) {
+        String name = table.toLowerCase(Locale.ROOT);
+        for (String tag : tables) {
+            String tagName = tag.toLowerCase(Locale.ROOT);
+            if (tagName.equals(name) || name.endsWith("." + tagName) || tagName.endsWith("." + name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void remove(Key key, Entry entry) {
+        entries.remove(key);
+        size -= entry.size;
+    }
+
+    /**
+     * Estimates the memory retained by a result, which is used only to bound the size of the cache.
+     *
+     * @param value the result, or a row of the result
+     * @return the estimated size in bytes
+     */
+    public static long estimateSize(Object value) {
+        if (value instanceof BString) {
+            return 40 + 2L * ((BString) value).length();
+        } else if (value instanceof BArray) {
+            BArray array = (BArray) value;
+            long arraySize = 24;
+            for (int i = 0; i < array.size(); i++) {
+                arraySize += 8 + estimateSize(array.get(i));
+            }
+            return arraySize;
+        } else if (value instanceof BMap) {
+            long mapSize = 48;
+            for (Object field : ((BMap<?, ?>) value).values()) {
+                mapSize += 48 + estimateSize(field);
+            }
+            return mapSize;
+        }
+        return 16;
+    }
+
+    public synchronized BMap<BString, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.ResultCacheStats.HITS, hits);
+        stats.put(Constants.ResultCacheStats.MISSES, misses);
+        stats.put(Constants.ResultCacheStats.EXPIRATIONS, expirations);
+        stats.put(Constants.ResultCacheStats.EVICTIONS, evictions);
+        stats.put(Constants.ResultCacheStats.INVALIDATIONS, invalidations);
+        stats.put(Constants.ResultCacheStats.ENTRIES, (long) entries.size());
+        stats.put(Constants.ResultCacheStats.SIZE, size);
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.ResultCacheStats.RECORD_NAME, stats);
+    }
+
+    /**
+     * Key of a cached query result.
+     */
+    /**
+     * The tables written by a client within a transaction, which are invalidated when the transaction ends. It is
+     * registered with the transaction after the connection of the client, hence it is committed after the connection,
+     * once the rows written are visible to the other connections. The tables are invalidated on a rollback as well,
+     * as the uncommitted rows may have been read and cached by a query with the `READ UNCOMMITTED` isolation level.
+     */
+    private static final class PendingInvalidations implements BallerinaTransactionContext {
+
+        private final ResultCache cache;
+        private final Set<String> tables = new HashSet<>();
+        private boolean allTables = false;
+
+        private PendingInvalidations(ResultCache cache) {
+            this.cache = cache;
+        }
+
+        static PendingInvalidations get(ResultCache cache, TransactionResourceManager trxResourceManager) {
+            TransactionLocalContext transactionContext = trxResourceManager.getCurrentTransactionContext();
+            BallerinaTransactionContext registered =
+                    transactionContext.getTransactionContext(cache.transactionContextId);
+            if (registered instanceof PendingInvalidations) {
+                return (PendingInvalidations) registered;
+            }
+            PendingInvalidations pending = new PendingInvalidations(cache);
+            transactionContext.registerTransactionContext(cache.transactionContextId, pending);
+            trxResourceManager.register(transactionContext.getGlobalTransactionId(),
+                    transactionContext.getCurrentTransactionBlockId(), pending);
+            return pending;
+        }
+
+        synchronized void add(String table) {
+            if (table == null) {
+                allTables = true;
+            } else {
+                tables.add(table);
+            }
+        }
+
+        @Override
+        public void commit() {
+            invalidateTables();
+        }
+
+        @Override
+        public void rollback() {
+            invalidateTables();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public XAResource getXAResource() {
+            return null;
+        }
+
+        private synchronized void invalidateTables() {
+            if (allTables) {
+                cache.invalidate(null);
+            } else {
+                for (String table : tables) {
+                    cache.invalidate(table);
+                }
+            }
+            allTables = false;
+            tables.clear();
+        }
+    }
+
+    public record Key(String sqlQuery, String parameters, Type resultType) {
+    }
+
+    /**
+     * Cached query result.
+     */
+    public static final class Entry {
+        private final Object value;
+        private final String[] tables;
+        private final long expiresAt;
+        private final long size;
+
+        private Entry(Object value, String[] tables, long expiresAt, long size) {
+            this.value = value;
+            this.tables = tables;
+            this.expiresAt = expiresAt;
+            this.size = size;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        private boolean isTaggedWith(String table) {
+            return isAnyTaggedWith(tables, table);
+        }
+    }
+}
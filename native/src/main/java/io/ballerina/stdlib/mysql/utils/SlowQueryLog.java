@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.mysql.Constants;
+import io.ballerina.stdlib.mysql.Utils;
+import io.ballerina.stdlib.mysql.parameterprocessor.MysqlStatementParameterProcessor;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.DataError;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Keeps the statements of a client which took longer than the configured threshold in a bounded buffer, from which the
+ * oldest entries are dropped once it is full. The query plan of a slow statement is captured with
+ * `EXPLAIN FORMAT=JSON` on a separate connection of the pool, at most once per fingerprint in the configured
+ * interval, so that a statement which is slow on every execution does not double the load on the server.
+ *
+ * @since 1.18.1
+ */
+public class SlowQueryLog {
+
+    private static final String EXPLAIN = "EXPLAIN FORMAT=JSON ";
+    private static final String REDACTED = "?";
+    // The statements of which the plan can be explained
+    private static final Set<String> EXPLAINABLE_STATEMENTS = Set.of("SELECT", "WITH", "TABLE", "INSERT", "REPLACE",
+            "UPDATE", "DELETE");
+    private static final int MAX_CONCURRENT_EXPLAINS = 2;
+    private static final int MAX_EXPLAINED_FINGERPRINTS = 10000;
+    private static final int NANOS_SCALE = 9;
+
+    private final long threshold;
+    private final int capacity;
+    private final boolean redactParameters;
+    private final long explainInterval;
+    private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+    private final ConcurrentHashMap<String, Long> explainedAt = new ConcurrentHashMap<>();
+    private final Semaphore explains = new Semaphore(MAX_CONCURRENT_EXPLAINS);
+
+    /**
+     * Creates the slow query log of a client.
+     *
+     * @param threshold        the minimum duration of a logged statement in nanoseconds
+     * @param capacity         the maximum number of entries kept
+     * @param redactParameters whether the parameter values are replaced with `?`
+     * @param explainInterval  the minimum interval between the plans captured for a fingerprint in nanoseconds, or
+     *                         zero if the plans are not captured
+     */
+    public SlowQueryLog(long threshold, int capacity, boolean redactParameters, long explainInterval) {
+        this.threshold = threshold;
+        this.capacity = capacity;
+        this.redactParameters = redactParameters;
+        this.explainInterval = explainInterval;
+    }
+
+    public static SlowQueryLog get(BObject client) {
+        return (SlowQueryLog) client.getNativeData(Constants.SLOW_QUERY_LOG);
+    }
+
+    /**
+     * Records the time taken to read the rows of a query from its iterator, and logs the query once all the rows are
+     * read, if the query is logged.
+     *
+     * @param iterator   the iterator of the result
+     * @param fetchNanos the time taken to read and convert the rows
+     * @param completed  whether the last row is read or reading the rows failed
+     */
+    public static void recordFetch(BObject iterator, long fetchNanos, boolean completed) {
+        Object fetch = iterator.getNativeData(Constants.SLOW_QUERY_LOG);
+        if (fetch == null) {
+            return;
+        }
+        ((Fetch) fetch).conversionTime += fetchNanos;
+        if (completed) {
+            iterator.addNativeData(Constants.SLOW_QUERY_LOG, null);
+            ((Fetch) fetch).complete();
+        }
+    }
+
+    /**
+     * Logs a query once its rows are read from the given iterator.
+     *
+     * @param iterator       the iterator of the result
+     * @param client         the client which executed the query
+     * @param paramSQLString the query
+     * @param poolWaitNanos  the time waited for a connection, or a negative value if it is included in the
+     *                       execution time
+     * @param executionNanos the time taken to execute the query
+     */
+    public void recordOnFetch(BObject iterator, BObject client, BObject paramSQLString, long poolWaitNanos,
+                              long executionNanos) {
+        iterator.addNativeData(Constants.SLOW_QUERY_LOG, new Fetch(client, paramSQLString, poolWaitNanos,
+                executionNanos));
+    }
+
+    /**
+     * Logs a statement if it took longer than the threshold.
+     *
+     * @param client          the client which executed the statement
+     * @param paramSQLString  the statement
+     * @param poolWaitNanos   the time waited for a connection, or a negative value if it is included in the
+     *                        execution time
+     * @param executionNanos  the time taken to execute the statement
+     * @param conversionNanos the time taken to convert the result, or a negative value if it is included in the
+     *                        execution time
+     */
+    public void record(BObject client, BObject paramSQLString, long poolWaitNanos, long executionNanos,
+                       long conversionNanos) {
+        long duration = Math.max(poolWaitNanos, 0) + executionNanos + Math.max(conversionNanos, 0);
+        if (duration < threshold) {
+            return;
+        }
+        String sqlQuery = Utils.getSqlQuery(paramSQLString);
+        String fingerprint = StatementMetrics.createFingerprint(sqlQuery);
+        Entry entry = new Entry(fingerprint, getParameters(paramSQLString), System.currentTimeMillis(), duration,
+                poolWaitNanos, executionNanos, conversionNanos);
+        if (!shouldExplain(fingerprint)) {
+            add(entry);
+            return;
+        }
+        SQLDatasource datasource = (SQLDatasource) client.getNativeData(
+                io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT);
+        Thread.ofVirtual().name("mysql-slow-query-explainer").start(() -> {
+            try {
+                entry.plan = explain(datasource, sqlQuery, paramSQLString);
+            } catch (SQLException | DataError | RuntimeException e) {
+                entry.planError = e.getMessage();
+            } finally {
+                explains.release();
+                add(entry);
+            }
+        });
+    }
+
+    private String[] getParameters(BObject paramSQLString) {
+        BArray insertions = paramSQLString.getArrayValue(Constants.ParameterizedQuery.INSERTIONS);
+        String[] parameters = new String[insertions.size()];
+        for (int i = 0; i < parameters.length; i++) {
+            if (redactParameters) {
+                parameters[i] = REDACTED;
+            } else {
+                StringBuilder parameter = new StringBuilder();
+                ResultCache.appendValue(parameter, insertions.get(i));
+                parameters[i] = parameter.toString();
+            }
+        }
+        return parameters;
+    }
+
+    private boolean shouldExplain(String fingerprint) {
+        if (explainInterval <= 0 || !isExplainable(fingerprint)) {
+            return false;
+        }
+        long now = System.nanoTime();
+        Long last = explainedAt.get(fingerprint);
+        if (last != null && now - last < explainInterval) {
+            return false;
+        }
+        if (!explains.tryAcquire()) {
+            // The plans of the statements which are slow at the same time are captured only for a few of them
+            return false;
+        }
+        if (explainedAt.size() >= MAX_EXPLAINED_FINGERPRINTS) {
+            explainedAt.clear();
+        }
+        explainedAt.put(fingerprint, now);
+        return true;
+    }
+
+    private static boolean isExplainable(String fingerprint) {
+        int start = 0;
+        while (start < fingerprint.length() && fingerprint.charAt(start) == '(') {
+            start++;
+        }
+        int end = start;
+        while (end < fingerprint.length() && Character.isLetter(fingerprint.charAt(end))) {
+            end++;
+        }
+        return EXPLAINABLE_STATEMENTS.contains(fingerprint.substring(start, end).toUpperCase(Locale.ROOT));
+    }
+
+    private static String explain(SQLDatasource datasource, String sqlQuery, BObject paramSQLString)
+            throws SQLException, DataError {
+        try (Connection connection = datasource.getSQLConnection();
+             PreparedStatement statement = connection.prepareStatement(EXPLAIN + sqlQuery)) {
+            MysqlStatementParameterProcessor.getInstance().setParams(connection, statement, paramSQLString);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(1) : null;
+            }
+        }
+    }
+
+    private synchronized void add(Entry entry) {
+        if (entries.size() >= capacity) {
+            entries.pollFirst();
+        }
+        entries.addLast(entry);
+    }
+
+    /**
+     * Removes the entries of the log, oldest first, and adds them to the given array.
+     *
+     * @param slowQueries the array of `SlowQuery` records
+     */
+    public void drain(BArray slowQueries) {
+        Entry[] drained;
+        synchronized (this) {
+            drained = entries.toArray(new Entry[0]);
+            entries.clear();
+        }
+        for (Entry entry : drained) {
+            slowQueries.append(entry.toRecord());
+        }
+    }
+
+    private static BDecimal toSeconds(long nanos) {
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(nanos, NANOS_SCALE));
+    }
+
+    /**
+     * A query of which the rows are being read.
+     */
+    private final class Fetch {
+        private final BObject client;
+        private final BObject paramSQLString;
+        private final long poolWaitTime;
+        private final long executionTime;
+        private long conversionTime = 0;
+
+        private Fetch(BObject client, BObject paramSQLString, long poolWaitTime, long executionTime) {
+            this.client = client;
+            this.paramSQLString = paramSQLString;
+            this.poolWaitTime = poolWaitTime;
+            this.executionTime = executionTime;
+        }
+
+        private void complete() {
+            record(client, paramSQLString, poolWaitTime, executionTime, conversionTime);
+        }
+    }
+
+    /**
+     * A logged statement.
+     */
+    private static final class Entry {
+        private final String fingerprint;
+        private final String[] parameters;
+        private final long recordedAt;
+        private final long duration;
+        private final long poolWaitTime;
+        private final long executionTime;
+        private final long conversionTime;
+        // Set by the thread capturing the plan before the entry is added to the log
+        private String plan;
+        private String planError;
+
+        private Entry(String fingerprint, String[] parameters, long recordedAt, long duration, long poolWaitTime,
+                      long executionTime, long conversionTime) {
+            this.fingerprint = fingerprint;
+            this.parameters = parameters;
+            this.recordedAt = recordedAt;
+            this.duration = duration;
+            this.poolWaitTime = poolWaitTime;
+            this.executionTime = executionTime;
+            this.conversionTime = conversionTime;
+        }
+
+        private BMap<BString, Object> toRecord() {
+            BString[] parameterValues = new BString[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                parameterValues[i] = StringUtils.fromString(parameters[i]);
+            }
+            Map<String, Object> slowQuery = new HashMap<>();
+            slowQuery.put(Constants.SlowQuery.FINGERPRINT, StringUtils.fromString(fingerprint));
+            slowQuery.put(Constants.SlowQuery.PARAMETERS, ValueCreator.createArrayValue(parameterValues));
+            slowQuery.put(Constants.SlowQuery.RECORDED_AT,
+                    io.ballerina.stdlib.sql.utils.Utils.createTimeStruct(recordedAt));
+            slowQuery.put(Constants.SlowQuery.DURATION, toSeconds(duration));
+            slowQuery.put(Constants.SlowQuery.POOL_WAIT_TIME, poolWaitTime < 0 ? null : toSeconds(poolWaitTime));
+            slowQuery.put(Constants.SlowQuery.EXECUTION_TIME, toSeconds(executionTime));
+            slowQuery.put(Constants.SlowQuery.CONVERSION_TIME,
+                    conversionTime < 0 ? null : toSeconds(conversionTime));
+            slowQuery.put(Constants.SlowQuery.PLAN, plan == null ? null : JsonUtils.parse(plan));
+            slowQuery.put(Constants.SlowQuery.PLAN_ERROR, planError == null ? null : StringUtils.fromString(planError));
+            return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.SlowQuery.RECORD_NAME,
+                    slowQuery);
+        }
+    }
+}
@@ -0,0 +1,608 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.mysql.Constants;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Exports tables to files from a single consistent snapshot, which is shared by a number of connections that export
+ * the chunks of the tables in parallel. Each connection starts a `START TRANSACTION WITH CONSISTENT SNAPSHOT`
+ * transaction, either while the global read lock is held, or repeatedly until the binary log position and the GTID set
+ * are the same before and after the transactions are started, so that no transaction is committed in between. The
+ * position read with the snapshots is the position from which the changes after the snapshot can be replicated.
+ *
+ * @since 1.18.1
+ */
+public class SnapshotExporter {
+
+    private static final int MAX_SNAPSHOT_ATTEMPTS = 10;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // The rows after which a connection checks whether the export has failed on another connection
+    private static final int FAILURE_CHECK_ROWS = 1024;
+    private static final int ER_PARSE_ERROR = 1064;
+    private static final int NANOS_SCALE = 9;
+    private static final String METADATA_FILE = "snapshot-metadata.json";
+    private static final Set<String> INTEGER_TYPES = Set.of("tinyint", "smallint", "mediumint", "int", "bigint");
+
+    private final SQLDatasource datasource;
+    private final Path directory;
+    private final int connectionCount;
+    private final boolean ndjson;
+    private final boolean compress;
+    private final boolean lock;
+    private final long chunkRows;
+    private final long lockTimeoutSeconds;
+    private final AtomicReference<Object> failure = new AtomicReference<>();
+    private long lockTime = 0;
+
+    public SnapshotExporter(SQLDatasource datasource, Path directory, int connectionCount, boolean ndjson,
+                            boolean compress, boolean lock, long chunkRows, long lockTimeoutSeconds) {
+        this.datasource = datasource;
+        this.directory = directory;
+        this.connectionCount = connectionCount;
+        this.ndjson = ndjson;
+        this.compress = compress;
+        this.lock = lock;
+        this.chunkRows = chunkRows;
+        this.lockTimeoutSeconds = lockTimeoutSeconds;
+    }
+
+    /**
+     * Exports the tables, and writes the position of the snapshot and the exported files to the metadata file of the
+     * directory. The files are removed if the export fails.
+     *
+     * @param tables the tables, optionally qualified with the database name, or `<database>.*` for all the tables of
+     *               a database
+     * @param files  the array to which the exported files are added
+     * @return the result of the export, or an error if the export fails
+     */
+    public Object export(String[] tables, BArray files) throws InterruptedException {
+        List<Connection> connections = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        try {
+            Files.createDirectories(directory);
+            for (int i = 0; i < connectionCount; i++) {
+                connections.add(datasource.getSQLConnection());
+            }
+            Position position = lock ? startLocked(connections) : startOptimistic(connections);
+            for (String table : tables) {
+                addTasks(connections.get(0), table, tasks);
+            }
+            ExportedFile[] exported = new ExportedFile[tasks.size()];
+            Queue<Task> queue = new ConcurrentLinkedQueue<>(tasks);
+            List<Thread> workers = new ArrayList<>();
+            for (Connection connection : connections) {
+                workers.add(Thread.ofVirtual().name("mysql-snapshot-export")
+                        .start(() -> exportTasks(connection, queue, exported)));
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            if (failure.get() != null) {
+                deleteFiles(tasks);
+                return failure.get();
+            }
+            writeMetadata(position, exported);
+            for (ExportedFile file : exported) {
+                files.append(file.toRecord());
+            }
+            Map<String, Object> result = new HashMap<>();
+            result.put(Constants.SnapshotExportResult.POSITION, position == null ? null : position.toRecord());
+            result.put(Constants.SnapshotExportResult.FILES, files);
+            result.put(Constants.SnapshotExportResult.LOCK_TIME,
+                    ValueCreator.createDecimalValue(BigDecimal.valueOf(lockTime, NANOS_SCALE)));
+            return ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    Constants.SnapshotExportResult.RECORD_NAME, result);
+        } catch (SQLException e) {
+            deleteFiles(tasks);
+            return ErrorGenerator.getSQLDatabaseError(e, "Error while exporting the snapshot: ");
+        } catch (IOException e) {
+            deleteFiles(tasks);
+            return ErrorGenerator.getSQLApplicationError("Error while writing the snapshot export: " + e.getMessage());
+        } catch (ExportException e) {
+            deleteFiles(tasks);
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        } finally {
+            for (Connection connection : connections) {
+                close(connection);
+            }
+        }
+    }
+
+    // Starts the snapshots while the global read lock is held, which blocks the writes only until the snapshots are
+    // started and the position is read.
+    private Position startLocked(List<Connection> connections) throws SQLException {
+        Connection first = connections.get(0);
+        try (Statement statement = first.createStatement()) {
+            statement.execute("SET SESSION lock_wait_timeout = " + lockTimeoutSeconds);
+            try {
+                statement.execute("FLUSH TABLES WITH READ LOCK");
+                long lockedAt = System.nanoTime();
+                try {
+                    for (Connection connection : connections) {
+                        startSnapshot(connection);
+                    }
+                    return readPosition(first);
+                } finally {
+                    statement.execute("UNLOCK TABLES");
+                    lockTime = System.nanoTime() - lockedAt;
+                }
+            } finally {
+                statement.execute("SET SESSION lock_wait_timeout = DEFAULT");
+            }
+        }
+    }
+
+    // Starts the snapshots without a lock, and starts them again if a transaction was committed in between, as shown
+    // by a change of the binary log position or the GTID set.
+    private Position startOptimistic(List<Connection> connections) throws SQLException, ExportException {
+        Connection first = connections.get(0);
+        for (int attempt = 0; attempt < MAX_SNAPSHOT_ATTEMPTS; attempt++) {
+            Position before = readPosition(first);
+            if (before == null) {
+                throw new ExportException("The binary log should be enabled to export a snapshot with the " +
+                        "SNAPSHOT_GTID consistency.");
+            }
+            for (Connection connection : connections) {
+                startSnapshot(connection);
+            }
+            if (before.equals(readPosition(first))) {
+                return before;
+            }
+            for (Connection connection : connections) {
+                connection.rollback();
+            }
+        }
+        throw new ExportException("A consistent snapshot could not be started in " + MAX_SNAPSHOT_ATTEMPTS +
+                " attempts, as transactions were committed while the snapshot was started. Use the SNAPSHOT_LOCK " +
+                "consistency instead.");
+    }
+
+    private static void startSnapshot(Connection connection) throws SQLException {
+        connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("START TRANSACTION WITH CONSISTENT SNAPSHOT, READ ONLY");
+        }
+    }
+
+    private static Position readPosition(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = showBinaryLogStatus(statement)) {
+            if (!resultSet.next()) {
+                // The binary log is disabled
+                return null;
+            }
+            String gtidSet = resultSet.getString("Executed_Gtid_Set");
+            return new Position(resultSet.getString("File"), resultSet.getLong("Position"),
+                    gtidSet == null ? "" : gtidSet.replace("\n", ""));
+        }
+    }
+
+    private static ResultSet showBinaryLogStatus(Statement statement) throws SQLException {
+        try {
+            return statement.executeQuery("SHOW BINARY LOG STATUS");
+        } catch (SQLException e) {
+            if (e.getErrorCode() != ER_PARSE_ERROR) {
+                throw e;
+            }
+            // Servers before MySQL 8.2
+            return statement.executeQuery("SHOW MASTER STATUS");
+        }
+    }
+
+    private void addTasks(Connection connection, String name, List<Task> tasks) throws SQLException,
+            ExportException {
+        int separator = name.indexOf('.');
+        String database = separator < 0 ? connection.getCatalog() : name.substring(0, separator);
+        String table = name.substring(separator + 1);
+        if (database == null || database.isEmpty()) {
+            throw new ExportException("The table '" + name + "' should be qualified with the database name, as the " +
+                    "client has no database.");
+        }
+        List<String> tableNames = table.equals("*") ? getTables(connection, database) : List.of(table);
+        for (String tableName : tableNames) {
+            List<String> conditions = getChunkConditions(connection, database, tableName);
+            for (int i = 0; i < conditions.size(); i++) {
+                String fileName = String.format("%s.%s.%05d.%s%s", toFileName(database), toFileName(tableName), i,
+                        ndjson ? "ndjson" : "csv", compress ? ".gz" : "");
+                tasks.add(new Task(tasks.size(), database + "." + tableName, directory.resolve(fileName),
+                        "SELECT * FROM " + quoteIdentifier(database) + "." + quoteIdentifier(tableName) +
+                                conditions.get(i)));
+            }
+        }
+    }
+
+    private static List<String> getTables(Connection connection, String database) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT TABLE_NAME FROM " +
+                "information_schema.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_TYPE = 'BASE TABLE' ORDER BY TABLE_NAME")) {
+            statement.setString(1, database);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    tables.add(resultSet.getString(1));
+                }
+            }
+        }
+        return tables;
+    }
+
+    // Splits a table with an integer primary key that has more than `chunkRows` rows into ranges of the key, which
+    // have about `chunkRows` rows if the keys are evenly distributed. The first and the last ranges are open-ended.
+    private List<String> getChunkConditions(Connection connection, String database, String table)
+            throws SQLException {
+        String key = getIntegerKey(connection, database, table);
+        long estimatedRows = key == null ? 0 : getEstimatedRows(connection, database, table);
+        if (estimatedRows <= chunkRows) {
+            return List.of("");
+        }
+        String column = quoteIdentifier(key);
+        BigDecimal lowest;
+        BigDecimal highest;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT MIN(" + column + "), MAX(" + column + ") FROM " +
+                     quoteIdentifier(database) + "." + quoteIdentifier(table))) {
+            resultSet.next();
+            lowest = resultSet.getBigDecimal(1);
+            highest = resultSet.getBigDecimal(2);
+        }
+        if (lowest == null || highest == null) {
+            return List.of("");
+        }
+        BigInteger low = lowest.toBigInteger();
+        BigInteger span = highest.toBigInteger().subtract(low).add(BigInteger.ONE);
+        BigInteger count = BigInteger.valueOf((estimatedRows + chunkRows - 1) / chunkRows).min(span);
+        List<String> conditions = new ArrayList<>();
+        String lowerBound = null;
+        for (BigInteger i = BigInteger.ONE; i.compareTo(count) <= 0; i = i.add(BigInteger.ONE)) {
+            String upperBound = i.equals(count) ? null : low.add(span.multiply(i).divide(count)).toString();
+            if (lowerBound == null) {
+                conditions.add(" WHERE " + column + " < " + upperBound);
+            } else if (upperBound == null) {
+                conditions.add(" WHERE " + column + " >= " + lowerBound);
+            } else {
+                conditions.add(" WHERE " + column + " >= " + lowerBound + " AND " + column + " < " + upperBound);
+            }
+            lowerBound = upperBound;
+        }
+        return conditions;
+    }
+
+    private static String getIntegerKey(Connection connection, String database, String table) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT COLUMN_NAME, DATA_TYPE FROM " +
+                "information_schema.COLUMNS WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND COLUMN_KEY = 'PRI'")) {
+            statement.setString(1, database);
+            statement.setString(2, table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return null;
+                }
+                String column = resultSet.getString(1);
+                boolean integer = INTEGER_TYPES.contains(resultSet.getString(2).toLowerCase(Locale.ROOT));
+                // A composite key is not split
+                return integer && !resultSet.next() ? column : null;
+            }
+        }
+    }
+
+    private static long getEstimatedRows(Connection connection, String database, String table) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT TABLE_ROWS FROM " +
+                "information_schema.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?")) {
+            statement.setString(1, database);
+            statement.setString(2, table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getLong(1) : 0;
+            }
+        }
+    }
+
+    private void exportTasks(Connection connection, Queue<Task> queue, ExportedFile[] exported) {
+        Task task;
+        while (failure.get() == null && (task = queue.poll()) != null) {
+            try {
+                exported[task.index()] = exportTask(connection, task);
+            } catch (SQLException e) {
+                failure.compareAndSet(null, ErrorGenerator.getSQLDatabaseError(e,
+                        "Error while exporting the table " + task.tableName() + ": "));
+            } catch (IOException e) {
+                failure.compareAndSet(null, ErrorGenerator.getSQLApplicationError(
+                        "Error while writing the file " + task.path() + ": " + e.getMessage()));
+            }
+        }
+    }
+
+    private ExportedFile exportTask(Connection connection, Task task) throws SQLException, IOException {
+        long rowCount = 0;
+        try (Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY)) {
+            // The rows are streamed from the server instead of being read into memory
+            statement.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet resultSet = statement.executeQuery(task.query());
+                 Writer writer = createWriter(task.path())) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                String[] names = new String[metaData.getColumnCount()];
+                Kind[] kinds = new Kind[names.length];
+                for (int i = 0; i < names.length; i++) {
+                    names[i] = metaData.getColumnLabel(i + 1);
+                    kinds[i] = getKind(metaData, i + 1);
+                }
+                if (!ndjson) {
+                    writeCsvHeader(writer, names);
+                }
+                while (resultSet.next()) {
+                    if (ndjson) {
+                        writeJsonRow(writer, resultSet, names, kinds);
+                    } else {
+                        writeCsvRow(writer, resultSet, kinds);
+                    }
+                    rowCount++;
+                    if (rowCount % FAILURE_CHECK_ROWS == 0 && failure.get() != null) {
+                        break;
+                    }
+                }
+            }
+        }
+        return new ExportedFile(task.tableName(), task.path(), rowCount, Files.size(task.path()));
+    }
+
+    private Writer createWriter(Path path) throws IOException {
+        OutputStream outputStream = Files.newOutputStream(path);
+        if (compress) {
+            outputStream = new GZIPOutputStream(outputStream, BUFFER_SIZE);
+        }
+        return new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private static Kind getKind(ResultSetMetaData metaData, int column) throws SQLException {
+        return switch (metaData.getColumnType(column)) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT, Types.DECIMAL, Types.NUMERIC, Types.REAL,
+                 Types.FLOAT, Types.DOUBLE -> Kind.NUMBER;
+            case Types.BOOLEAN -> Kind.BOOLEAN;
+            case Types.BIT -> metaData.getPrecision(column) <= 1 ? Kind.BOOLEAN : Kind.BINARY;
+            case Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.BLOB -> Kind.BINARY;
+            default -> "JSON".equalsIgnoreCase(metaData.getColumnTypeName(column)) ? Kind.JSON : Kind.TEXT;
+        };
+    }
+
+    private static String getValue(ResultSet resultSet, int column, Kind kind) throws SQLException {
+        if (kind == Kind.BINARY) {
+            byte[] bytes = resultSet.getBytes(column);
+            return bytes == null ? null : Base64.getEncoder().encodeToString(bytes);
+        }
+        if (kind == Kind.BOOLEAN) {
+            boolean value = resultSet.getBoolean(column);
+            return resultSet.wasNull() ? null : String.valueOf(value);
+        }
+        return resultSet.getString(column);
+    }
+
+    // Writes the header of an RFC 4180 file, of which the fields are quoted only when needed, and a NULL value is
+    // written as an empty field, unlike an empty string, which is written as "".
+    private static void writeCsvHeader(Writer writer, String[] names) throws IOException {
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvField(writer, names[i]);
+        }
+        writer.write('\n');
+    }
+
+    private static void writeCsvRow(Writer writer, ResultSet resultSet, Kind[] kinds) throws SQLException,
+            IOException {
+        for (int i = 0; i < kinds.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = getValue(resultSet, i + 1, kinds[i]);
+            if (value != null) {
+                writeCsvField(writer, value);
+            }
+        }
+        writer.write('\n');
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        boolean quoted = value.isEmpty();
+        for (int i = 0; i < value.length() && !quoted; i++) {
+            char c = value.charAt(i);
+            quoted = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quoted) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static void writeJsonRow(Writer writer, ResultSet resultSet, String[] names, Kind[] kinds)
+            throws SQLException, IOException {
+        writer.write('{');
+        for (int i = 0; i < kinds.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeJsonString(writer, names[i]);
+            writer.write(':');
+            String value = getValue(resultSet, i + 1, kinds[i]);
+            if (value == null) {
+                writer.write("null");
+            } else if (kinds[i] == Kind.NUMBER || kinds[i] == Kind.BOOLEAN || kinds[i] == Kind.JSON) {
+                writer.write(value);
+            } else {
+                writeJsonString(writer, value);
+            }
+        }
+        writer.write("}\n");
+    }
+
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+
+    // Writes the position of the snapshot and the files, from which a downstream job loads the files and replicates
+    // the changes after the snapshot.
+    private void writeMetadata(Position position, ExportedFile[] exported) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(directory.resolve(METADATA_FILE), StandardCharsets.UTF_8)) {
+            writer.write("{\"binlogFile\":");
+            if (position == null) {
+                writer.write("null,\"binlogPosition\":null,\"gtidSet\":null");
+            } else {
+                writeJsonString(writer, position.file());
+                writer.write(",\"binlogPosition\":" + position.position() + ",\"gtidSet\":");
+                writeJsonString(writer, position.gtidSet());
+            }
+            writer.write(",\"files\":[");
+            for (int i = 0; i < exported.length; i++) {
+                writer.write(i > 0 ? ",{\"table\":" : "{\"table\":");
+                writeJsonString(writer, exported[i].tableName());
+                writer.write(",\"file\":");
+                writeJsonString(writer, exported[i].path().getFileName().toString());
+                writer.write(",\"rows\":" + exported[i].rowCount() + "}");
+            }
+            writer.write("]}\n");
+        }
+    }
+
+    private static void deleteFiles(List<Task> tasks) {
+        for (Task task : tasks) {
+            try {
+                Files.deleteIfExists(task.path());
+            } catch (IOException e) {
+                // The remaining files are overwritten by the next export
+            }
+        }
+    }
+
+    private static void close(Connection connection) {
+        try (connection) {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            // The connection is discarded by the pool if it cannot be reset
+        }
+    }
+
+    private static String quoteIdentifier(String identifier) {
+        return "`" + identifier.replace("`", "``") + "`";
+    }
+
+    private static String toFileName(String identifier) {
+        return identifier.replace('/', '_').replace('\\', '_');
+    }
+
+    private enum Kind {
+        NUMBER, BOOLEAN, BINARY, JSON, TEXT
+    }
+
+    private record Task(int index, String tableName, Path path, String query) {
+    }
+
+    private record Position(String file, long position, String gtidSet) {
+
+        private BMap<BString, Object> toRecord() {
+            Map<String, Object> binlogPosition = new HashMap<>();
+            binlogPosition.put(Constants.BinlogPosition.FILE, StringUtils.fromString(file));
+            binlogPosition.put(Constants.BinlogPosition.POSITION, position);
+            binlogPosition.put(Constants.BinlogPosition.GTID_SET, StringUtils.fromString(gtidSet));
+            return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.BinlogPosition.RECORD_NAME,
+                    binlogPosition);
+        }
+    }
+
+    private record ExportedFile(String tableName, Path path, long rowCount, long size) {
+
+        private BMap<BString, Object> toRecord() {
+            Map<String, Object> file = new HashMap<>();
+            file.put(Constants.ExportedFile.TABLE_NAME, StringUtils.fromString(tableName));
+            file.put(Constants.ExportedFile.PATH, StringUtils.fromString(path.toString()));
+            file.put(Constants.ExportedFile.ROW_COUNT, rowCount);
+            file.put(Constants.ExportedFile.SIZE, size);
+            return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.ExportedFile.RECORD_NAME, file);
+        }
+    }
+
+    /**
+     * Failure of an export that is reported as an application error.
+     */
+    private static class ExportException extends Exception {
+
+        private ExportException(String message) {
+            super(message);
+        }
+    }
+}
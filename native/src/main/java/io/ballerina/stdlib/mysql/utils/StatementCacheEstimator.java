@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.mysql.Constants;
+import io.ballerina.stdlib.mysql.Utils;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates the statement cache usage of a client. The driver caches prepared statements per pooled connection and
+ * does not expose its counters, hence the SQL texts executed through the client are replayed against a single LRU
+ * cache with the same size and SQL length limit as the driver cache. The estimate matches the driver caches only when
+ * the pool has a single connection, and otherwise undercounts the misses of the connections that have not yet
+ * prepared a statement.
+ *
+ * @since 1.18.1
+ */
+public class StatementCacheEstimator {
+
+    private final int maxSqlLength;
+    private final LinkedHashMap<String, Boolean> statements;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    public StatementCacheEstimator(int size, int maxSqlLength) {
+        this.maxSqlLength = maxSqlLength;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                if (size() > size) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public static void record(BObject client, BObject paramSQLString) {
+        Object estimator = client.getNativeData(Constants.STATEMENT_CACHE_ESTIMATOR);
+        if (estimator != null) {
+            ((StatementCacheEstimator) estimator).record(Utils.getSqlQuery(paramSQLString));
+        }
+    }
+
+    /**
+     * Records the statements of a batch. A batch is prepared once for each distinct SQL text of its statements.
+     *
+     * @param client          the client
+     * @param paramSQLStrings the statements of the batch
+     */
+    public static void recordBatch(BObject client, BArray paramSQLStrings) {
+        Object estimator = client.getNativeData(Constants.STATEMENT_CACHE_ESTIMATOR);
+        if (estimator == null) {
+            return;
+        }
+        Set<String> sqlQueries = new LinkedHashSet<>();
+        for (int i = 0; i < paramSQLStrings.size(); i++) {
+            sqlQueries.add(Utils.getSqlQuery((BObject) paramSQLStrings.get(i)));
+        }
+        for (String sqlQuery : sqlQueries) {
+            ((StatementCacheEstimator) estimator).record(sqlQuery);
+        }
+    }
+
+    public synchronized void record(String sqlQuery) {
+        if (sqlQuery.length() > maxSqlLength) {
+            misses++;
+            return;
+        }
+        if (statements.get(sqlQuery) != null) {
+            hits++;
+        } else {
+            misses++;
+            statements.put(sqlQuery, Boolean.TRUE);
+        }
+    }
+
+    public synchronized BMap<BString, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.StatementCacheEstimate.HITS, hits);
+        stats.put(Constants.StatementCacheEstimate.MISSES, misses);
+        stats.put(Constants.StatementCacheEstimate.EVICTIONS, evictions);
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.StatementCacheEstimate.RECORD_NAME,
+                stats);
+    }
+}
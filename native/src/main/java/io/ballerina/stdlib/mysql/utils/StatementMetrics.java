@@ -0,0 +1,505 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.stdlib.mysql.Constants;
+import io.ballerina.stdlib.mysql.Utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the executions of the statements of a client per fingerprint of the statement, which is the SQL text of
+ * the statement with its parameters and literals replaced with `?`. The execution time, the time waited for a
+ * connection of the pool, the rows returned and affected, and the errors are recorded separately for each fingerprint,
+ * and are also reported as metrics when the metrics of the program are enabled. The metrics are tagged with a short
+ * digest of the fingerprint, and only a limited number of fingerprints are reported separately, so that the number
+ * of metric series stays small.
+ *
+ * @since 1.18.1
+ */
+public class StatementMetrics {
+
+    // The statements of the fingerprints beyond the limit are recorded under this fingerprint
+    private static final String OTHER_FINGERPRINT = "<other>";
+    private static final String OTHER_STATEMENT_ID = "other";
+    private static final int MAX_CACHED_SQL_QUERIES = 10000;
+    private static final BString AFFECTED_ROW_COUNT = StringUtils.fromString("affectedRowCount");
+    private static final String TAG_STATEMENT_ID = "db_statement_id";
+    // The latencies are reported as distributions over the same windows as the response times of the program
+    private static final StatisticConfig[] LATENCY_STATISTIC_CONFIGS = new StatisticConfig[]{
+            StatisticConfig.builder().expiry(Duration.ofSeconds(10))
+                    .percentiles(StatisticConfig.DEFAULT.getPercentiles()).build(),
+            StatisticConfig.builder().expiry(Duration.ofMinutes(1))
+                    .percentiles(StatisticConfig.DEFAULT.getPercentiles()).build(),
+            StatisticConfig.builder().expiry(Duration.ofMinutes(5))
+                    .percentiles(StatisticConfig.DEFAULT.getPercentiles()).build()
+    };
+
+    private final int maxFingerprints;
+    private final int maxMetricFingerprints;
+    private final Map<String, String> metricsTags;
+    private int exportedFingerprints = 0;
+    private Exporter otherExporter;
+    private final ConcurrentHashMap<String, String> fingerprints = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Statement> statements = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the metrics of a client.
+     *
+     * @param maxFingerprints       the maximum number of fingerprints recorded separately
+     * @param maxMetricFingerprints the maximum number of fingerprints reported as separate metric series
+     * @param metricsTags           the tags of the metrics of the client, or null if the metrics are not reported
+     */
+    public StatementMetrics(int maxFingerprints, int maxMetricFingerprints, Map<String, String> metricsTags) {
+        this.maxFingerprints = maxFingerprints;
+        this.maxMetricFingerprints = maxMetricFingerprints;
+        this.metricsTags = metricsTags != null && ObserveUtils.isMetricsEnabled() ? metricsTags : null;
+    }
+
+    public static StatementMetrics get(BObject client) {
+        return (StatementMetrics) client.getNativeData(Constants.STATEMENT_METRICS);
+    }
+
+    /**
+     * Marks the start of a statement executed by the `ballerina/sql` module, so that the time at which the parameters
+     * of the statement are bound is recorded. The parameters are bound once a connection is acquired from the pool and
+     * the statement is prepared on it.
+     *
+     * @param paramSQLString the query of the statement
+     */
+    public static void markStart(BObject paramSQLString) {
+        paramSQLString.addNativeData(Constants.STATEMENT_BOUND_TIME, 0L);
+    }
+
+    /**
+     * Records the time at which the parameters of a statement marked with `markStart` are bound.
+     *
+     * @param paramSQLString the query of the statement
+     */
+    public static void recordBound(BObject paramSQLString) {
+        Object boundTime = paramSQLString.getNativeData(Constants.STATEMENT_BOUND_TIME);
+        if (boundTime != null && (long) boundTime == 0) {
+            paramSQLString.addNativeData(Constants.STATEMENT_BOUND_TIME, System.nanoTime());
+        }
+    }
+
+    /**
+     * Returns the time waited for a connection by a statement marked with `markStart`, which includes the time taken
+     * to prepare the statement.
+     *
+     * @param paramSQLString the query of the statement
+     * @param startTime      the time at which the statement was started
+     * @return the time waited, or a negative value if the parameters of the statement were not bound
+     */
+    public static long getPoolWaitTime(BObject paramSQLString, long startTime) {
+        Object boundTime = paramSQLString.getNativeData(Constants.STATEMENT_BOUND_TIME);
+        paramSQLString.addNativeData(Constants.STATEMENT_BOUND_TIME, null);
+        return boundTime == null || (long) boundTime == 0 ? -1 : (long) boundTime - startTime;
+    }
+
+    /**
+     * Records the rows read from the result of a query, if the metrics of the query are recorded.
+     *
+     * @param iterator the iterator of the result
+     * @param rows     the number of rows read
+     * @param failed   whether reading the rows failed
+     */
+    public static void recordRows(BObject iterator, long rows, boolean failed) {
+        Object statement = iterator.getNativeData(Constants.STATEMENT_METRICS);
+        if (statement == null) {
+            return;
+        }
+        ((Statement) statement).recordRowsReturned(rows);
+        if (failed) {
+            ((Statement) statement).recordError();
+        }
+    }
+
+    /**
+     * Returns the metrics of the fingerprint of a query.
+     *
+     * @param paramSQLString the query
+     * @return the metrics of the fingerprint
+     */
+    public Statement getStatement(BObject paramSQLString) {
+        String sqlQuery = Utils.getSqlQuery(paramSQLString);
+        String fingerprint = fingerprints.get(sqlQuery);
+        if (fingerprint == null) {
+            if (fingerprints.size() >= MAX_CACHED_SQL_QUERIES) {
+                // Queries built with varying SQL texts would otherwise grow the cache without a bound
+                fingerprints.clear();
+            }
+            fingerprint = createFingerprint(sqlQuery);
+            fingerprints.put(sqlQuery, fingerprint);
+        }
+        Statement statement = statements.get(fingerprint);
+        if (statement != null) {
+            return statement;
+        }
+        // The fingerprints are added under the lock so that the limit is not exceeded by concurrent statements
+        synchronized (this) {
+            statement = statements.get(fingerprint);
+            if (statement != null) {
+                return statement;
+            }
+            String key = statements.size() < maxFingerprints ? fingerprint : OTHER_FINGERPRINT;
+            statement = statements.get(key);
+            if (statement == null) {
+                statement = new Statement(key, getExporter(key));
+                statements.put(key, statement);
+            }
+            return statement;
+        }
+    }
+
+    private Exporter getExporter(String fingerprint) {
+        if (metricsTags == null) {
+            return null;
+        }
+        if (!fingerprint.equals(OTHER_FINGERPRINT) && exportedFingerprints < maxMetricFingerprints) {
+            exportedFingerprints++;
+            return new Exporter(getStatementId(fingerprint));
+        }
+        if (otherExporter == null) {
+            otherExporter = new Exporter(OTHER_STATEMENT_ID);
+        }
+        return otherExporter;
+    }
+
+    /**
+     * Returns the identifier of a fingerprint with which its metrics are tagged, which is the first 16 hexadecimal
+     * digits of the SHA-256 digest of the fingerprint.
+     *
+     * @param fingerprint the fingerprint
+     * @return the identifier
+     */
+    public static String getStatementId(String fingerprint) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(fingerprint.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Normalizes the SQL text of a statement by replacing the literals and the lists of parameters with `?`, removing
+     * the comments and collapsing the whitespace, so that the statements which differ only in their values have the
+     * same fingerprint.
+     *
+     * @param sqlQuery the SQL text of the statement
+     * @return the fingerprint
+     */
+    public static String createFingerprint(String sqlQuery) {
+        StringBuilder fingerprint = new StringBuilder(sqlQuery.length());
+        int length = sqlQuery.length();
+        int i = 0;
+        while (i < length) {
+            char c = sqlQuery.charAt(i);
+            if (c == '\'' || c == '"') {
+                i = skipQuoted(sqlQuery, i, c);
+                appendParameter(fingerprint);
+            } else if (c == '`') {
+                int end = skipQuoted(sqlQuery, i, c);
+                fingerprint.append(sqlQuery, i, end);
+                i = end;
+            } else if (c == '#' || (c == '-' && sqlQuery.startsWith("-- ", i))) {
+                while (i < length && sqlQuery.charAt(i) != '\n') {
+                    i++;
+                }
+            } else if (c == '/' && sqlQuery.startsWith("/*", i)) {
+                int end = sqlQuery.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                appendSpace(fingerprint);
+            } else if (Character.isWhitespace(c)) {
+                appendSpace(fingerprint);
+                i++;
+            } else if (Character.isDigit(c) && !isIdentifierPart(fingerprint)) {
+                while (i < length && (Character.isLetterOrDigit(sqlQuery.charAt(i)) ||
+                        sqlQuery.charAt(i) == '.')) {
+                    i++;
+                }
+                appendParameter(fingerprint);
+            } else if (c == '?') {
+                appendParameter(fingerprint);
+                i++;
+            } else {
+                if (c == ')') {
+                    collapseParameterList(fingerprint);
+                }
+                fingerprint.append(c);
+                i++;
+            }
+        }
+        return fingerprint.toString().trim();
+    }
+
+    private static int skipQuoted(String sqlQuery, int start, char quote) {
+        int i = start + 1;
+        while (i < sqlQuery.length()) {
+            char c = sqlQuery.charAt(i);
+            if (c == '\\' && quote != '`') {
+                i += 2;
+            } else if (c == quote) {
+                if (i + 1 < sqlQuery.length() && sqlQuery.charAt(i + 1) == quote) {
+                    // A doubled quote is a quote within the literal
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return sqlQuery.length();
+    }
+
+    private static boolean isIdentifierPart(StringBuilder fingerprint) {
+        if (fingerprint.isEmpty()) {
+            return false;
+        }
+        char previous = fingerprint.charAt(fingerprint.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$';
+    }
+
+    private static void appendSpace(StringBuilder fingerprint) {
+        if (!fingerprint.isEmpty() && fingerprint.charAt(fingerprint.length() - 1) != ' ') {
+            fingerprint.append(' ');
+        }
+    }
+
+    private static void appendParameter(StringBuilder fingerprint) {
+        // A negative number is a literal as well
+        int end = fingerprint.length();
+        if (end > 0 && fingerprint.charAt(end - 1) == '-' && (end == 1 || "(,= ".indexOf(
+                fingerprint.charAt(end - 2)) >= 0)) {
+            fingerprint.setLength(end - 1);
+        }
+        fingerprint.append('?');
+    }
+
+    private static void collapseParameterList(StringBuilder fingerprint) {
+        // Replaces a list of parameters such as (?, ?, ?) with (?+), so that IN lists of any length match
+        int i = fingerprint.length() - 1;
+        int parameters = 0;
+        while (i >= 0) {
+            char c = fingerprint.charAt(i);
+            if (c == '?') {
+                parameters++;
+            } else if (c == '(') {
+                break;
+            } else if (c != ',' && c != ' ') {
+                return;
+            }
+            i--;
+        }
+        if (i >= 0 && parameters > 1) {
+            fingerprint.setLength(i + 1);
+            fingerprint.append("?+");
+        }
+    }
+
+    public void populateStats(BArray stats) {
+        for (Statement statement : statements.values()) {
+            stats.append(statement.getStats());
+        }
+    }
+
+    /**
+     * Metrics of the statements with the same fingerprint.
+     */
+    public final class Statement {
+        private final String fingerprint;
+        private final String id;
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rowsReturned = new LongAdder();
+        private final LongAdder rowsAffected = new LongAdder();
+        private final LatencyHistogram executionTime = new LatencyHistogram();
+        private final LatencyHistogram poolWaitTime = new LatencyHistogram();
+        private final Exporter exporter;
+
+        private Statement(String fingerprint, Exporter exporter) {
+            this.fingerprint = fingerprint;
+            this.id = fingerprint.equals(OTHER_FINGERPRINT) ? OTHER_STATEMENT_ID : getStatementId(fingerprint);
+            this.exporter = exporter;
+        }
+
+        /**
+         * Records an execution of the statement.
+         *
+         * @param executionNanos the time taken to execute the statement, excluding the time waited for a connection
+         * @param poolWaitNanos  the time waited for a connection, or a negative value if it is not known
+         * @param failed         whether the execution failed
+         */
+        public void recordExecution(long executionNanos, long poolWaitNanos, boolean failed) {
+            executions.increment();
+            executionTime.record(executionNanos);
+            if (poolWaitNanos >= 0) {
+                poolWaitTime.record(poolWaitNanos);
+            }
+            if (failed) {
+                errors.increment();
+            }
+            if (exporter != null) {
+                exporter.recordExecution(executionNanos, poolWaitNanos, failed);
+            }
+        }
+
+        /**
+         * Records the result of an execution, which is either a `sql:ExecutionResult`, an array of them or an error.
+         *
+         * @param executionNanos the time taken to execute the statement, excluding the time waited for a connection
+         * @param poolWaitNanos  the time waited for a connection, or a negative value if it is not known
+         * @param result         the result of the execution
+         */
+        public void recordExecuteResult(long executionNanos, long poolWaitNanos, Object result) {
+            recordExecution(executionNanos, poolWaitNanos, result instanceof BError);
+            if (result instanceof BMap) {
+                addRowsAffected((BMap<?, ?>) result);
+            } else if (result instanceof BArray) {
+                BArray results = (BArray) result;
+                for (int i = 0; i < results.size(); i++) {
+                    if (results.get(i) instanceof BMap) {
+                        addRowsAffected((BMap<?, ?>) results.get(i));
+                    }
+                }
+            }
+        }
+
+        private void addRowsAffected(BMap<?, ?> executionResult) {
+            Object count = executionResult.get(AFFECTED_ROW_COUNT);
+            if (count instanceof Long && (long) count > 0) {
+                recordRowsAffected((long) count);
+            }
+        }
+
+        public void recordRowsReturned(long rows) {
+            if (rows == 0) {
+                return;
+            }
+            rowsReturned.add(rows);
+            if (exporter != null) {
+                exporter.rowsReturned.increment(rows);
+            }
+        }
+
+        public void recordRowsAffected(long rows) {
+            rowsAffected.add(rows);
+            if (exporter != null) {
+                exporter.rowsAffected.increment(rows);
+            }
+        }
+
+        /**
+         * Records an error that occurred while reading the result of the statement.
+         */
+        public void recordError() {
+            errors.increment();
+            if (exporter != null) {
+                exporter.errors.increment();
+            }
+        }
+
+        private BMap<BString, Object> getStats() {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put(Constants.StatementStats.FINGERPRINT, StringUtils.fromString(fingerprint));
+            stats.put(Constants.StatementStats.ID, StringUtils.fromString(id));
+            stats.put(Constants.StatementStats.EXECUTIONS, executions.sum());
+            stats.put(Constants.StatementStats.ERRORS, errors.sum());
+            stats.put(Constants.StatementStats.ROWS_RETURNED, rowsReturned.sum());
+            stats.put(Constants.StatementStats.ROWS_AFFECTED, rowsAffected.sum());
+            stats.put(Constants.StatementStats.EXECUTION_TIME, executionTime.getStats());
+            stats.put(Constants.StatementStats.POOL_WAIT_TIME, poolWaitTime.getStats());
+            return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.StatementStats.RECORD_NAME,
+                    stats);
+        }
+    }
+
+    /**
+     * Reports the metrics of a fingerprint to the metric registry of the program, tagged with the identifier of the
+     * fingerprint along with the host, port and database of the client. The fingerprints beyond the metric limit share
+     * the exporter of the `other` identifier.
+     */
+    private final class Exporter {
+        private final Gauge executionTime;
+        private final Gauge poolWaitTime;
+        private final Counter executions;
+        private final Counter errors;
+        private final Counter rowsReturned;
+        private final Counter rowsAffected;
+
+        private Exporter(String statementId) {
+            Set<Tag> tags = new HashSet<>();
+            metricsTags.forEach((key, value) -> tags.add(Tag.of(key, value)));
+            tags.add(Tag.of(TAG_STATEMENT_ID, statementId));
+            MetricRegistry registry = DefaultMetricRegistry.getInstance();
+            executionTime = registry.gauge(new MetricId("mysql_statement_execution_time_seconds",
+                    "Time taken to execute the statement", tags), LATENCY_STATISTIC_CONFIGS);
+            poolWaitTime = registry.gauge(new MetricId("mysql_statement_pool_wait_time_seconds",
+                    "Time waited for a connection of the pool to execute the statement", tags),
+                    LATENCY_STATISTIC_CONFIGS);
+            executions = registry.counter(new MetricId("mysql_statement_executions_total",
+                    "Number of executions of the statement", tags));
+            errors = registry.counter(new MetricId("mysql_statement_errors_total",
+                    "Number of failed executions of the statement", tags));
+            rowsReturned = registry.counter(new MetricId("mysql_statement_rows_returned_total",
+                    "Number of rows returned by the statement", tags));
+            rowsAffected = registry.counter(new MetricId("mysql_statement_rows_affected_total",
+                    "Number of rows affected by the statement", tags));
+        }
+
+        private void recordExecution(long executionNanos, long poolWaitNanos, boolean failed) {
+            executions.increment();
+            executionTime.setValue(executionNanos / 1e9);
+            if (poolWaitNanos >= 0) {
+                poolWaitTime.setValue(poolWaitNanos / 1e9);
+            }
+            if (failed) {
+                errors.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.mysql.utils;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.time.util.Constants;
+
+import java.math.BigDecimal;
+
+/**
+ * This class provides the field names and values used to map SQL temporal values to the records of the time module.
+ *
+ * @since 1.18.1
+ */
+public class TimeUtils {
+
+    public static final BString YEAR = StringUtils.fromString(Constants.DATE_RECORD_YEAR);
+    public static final BString MONTH = StringUtils.fromString(Constants.DATE_RECORD_MONTH);
+    public static final BString DAY = StringUtils.fromString(Constants.DATE_RECORD_DAY);
+    public static final BString HOUR = StringUtils.fromString(Constants.TIME_OF_DAY_RECORD_HOUR);
+    public static final BString MINUTE = StringUtils.fromString(Constants.TIME_OF_DAY_RECORD_MINUTE);
+    public static final BString SECOND = StringUtils.fromString(Constants.TIME_OF_DAY_RECORD_SECOND);
+
+    private static final int NANO_DIGITS = 9;
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L,
+            10_000_000L, 100_000_000L, 1_000_000_000L};
+
+    private TimeUtils() {
+    }
+
+    /**
+     * Returns the seconds of a time with the fraction of a second, without trailing zeros in the fraction. This is
+     * the same value as adding the nanoseconds divided by 10^9 to the seconds, computed without the division.
+     *
+     * @param second the seconds
+     * @param nano   the nanoseconds of the second
+     * @return the seconds as a decimal
+     */
+    public static BigDecimal toSeconds(int second, int nano) {
+        if (nano == 0) {
+            return BigDecimal.valueOf(second);
+        }
+        int scale = NANO_DIGITS;
+        int fraction = nano;
+        while (fraction % 10 == 0) {
+            fraction /= 10;
+            scale--;
+        }
+        return BigDecimal.valueOf(second * POWERS_OF_TEN[scale] + fraction, scale);
+    }
+}